@@ -10,12 +10,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.travelonna.demo.domain.group.dto.GroupAggregateResponseDto;
+import com.travelonna.demo.domain.group.dto.GroupPageResponseDto;
 import com.travelonna.demo.domain.group.dto.GroupRequestDto;
 import com.travelonna.demo.domain.group.dto.GroupResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanPresenceResponseDto;
 import com.travelonna.demo.domain.group.entity.GroupEntity;
 import com.travelonna.demo.domain.group.service.GroupService;
+import com.travelonna.demo.domain.group.service.PlanPresenceRegistry;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 public class GroupController {
 
     private final GroupService groupService;
+    private final PlanPresenceRegistry planPresenceRegistry;
 
     @Operation(summary = "그룹 생성", description = "새로운 그룹을 생성합니다.")
     @ApiResponses(value = {
@@ -94,6 +100,20 @@ public class GroupController {
         return ResponseEntity.ok(groups);
     }
 
+    @Operation(summary = "내 그룹 목록 페이지 조회", description = "현재 사용자가 속한 그룹 목록을 최근 생성 순으로 페이지 단위 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "그룹 목록 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/my/page")
+    public ResponseEntity<GroupPageResponseDto> getMyGroupsPage(
+            @Parameter(description = "인증된 사용자 ID", example = "1") @RequestAttribute("userId") Integer userId,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") Integer page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") Integer size) {
+        GroupPageResponseDto groups = groupService.getMyGroups(userId, page, size);
+        return ResponseEntity.ok(groups);
+    }
+
     @Operation(summary = "그룹의 플랜 ID 목록 조회", description = "그룹 ID를 사용하여 해당 그룹에 속한 플랜 ID 목록을 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "플랜 ID 목록 조회 성공"),
@@ -112,4 +132,34 @@ public class GroupController {
         
         return ResponseEntity.ok(responseDto);
     }
+
+    @Operation(summary = "그룹 일정 묶음 조회", description = "그룹의 모든 일정(장소 포함)과 활성 멤버 목록을 한 번에 조회합니다. 일정마다 상세 조회를 따로 호출할 필요가 없습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "그룹 일정 묶음 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "그룹 멤버가 아님"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/{groupId}/aggregate")
+    public ResponseEntity<GroupAggregateResponseDto> getGroupAggregate(
+            @Parameter(description = "인증된 사용자 ID", example = "1") @RequestAttribute("userId") Integer userId,
+            @Parameter(description = "조회할 그룹의 ID", example = "1") @PathVariable Integer groupId) {
+        return ResponseEntity.ok(groupService.getGroupAggregate(userId, groupId));
+    }
+
+    @Operation(summary = "그룹 일정 접속자 조회", description = "그룹 URL의 일정 편집 페이지에 현재 접속 중인 사용자 목록을 조회합니다. 그룹 멤버만 조회할 수 있습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "접속자 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "그룹 멤버가 아님"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/presence/{url}")
+    public ResponseEntity<PlanPresenceResponseDto> getPresence(
+            @Parameter(description = "인증된 사용자 ID", example = "1") @RequestAttribute("userId") Integer userId,
+            @Parameter(description = "그룹의 URL", example = "travel-group") @PathVariable String url) {
+        // 접속자 목록은 그룹 멤버에게만 공개
+        if (!groupService.isMember(userId, url)) {
+            throw new IllegalArgumentException("그룹 멤버만 조회할 수 있습니다: " + url);
+        }
+        return ResponseEntity.ok(planPresenceRegistry.snapshot(url));
+    }
 } 
\ No newline at end of file
@@ -1,14 +1,27 @@
 package com.travelonna.demo.domain.group.controller;
 
+import java.util.Map;
+
+import com.travelonna.demo.domain.group.dto.PlanOperationReplayResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanPresenceResponseDto;
 import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
 import com.travelonna.demo.domain.group.service.GroupService;
+import com.travelonna.demo.domain.group.service.PlanCrdtService;
+import com.travelonna.demo.domain.group.service.PlanMessageBroadcaster;
+import com.travelonna.demo.domain.group.service.PlanMessageCoalescer;
+import com.travelonna.demo.domain.group.service.PlanMessageDispatcher;
+import com.travelonna.demo.domain.group.service.PlanOperationLog;
+import com.travelonna.demo.domain.group.service.PlanPresenceRegistry;
+import com.travelonna.demo.domain.group.service.PlanWriteBehindQueue;
+import com.travelonna.demo.global.websocket.StompAuthChannelInterceptor;
+import com.travelonna.demo.global.websocket.WebSocketMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,69 +34,208 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class GroupPlanWebSocketController {
 
     private final GroupService groupService;
+    private final PlanMessageBroadcaster planMessageBroadcaster;
+    private final PlanOperationLog planOperationLog;
+    private final PlanCrdtService planCrdtService;
+    private final PlanMessageCoalescer planMessageCoalescer;
+    private final PlanMessageDispatcher planMessageDispatcher;
+    private final PlanPresenceRegistry planPresenceRegistry;
+    private final PlanWriteBehindQueue planWriteBehindQueue;
+    private final WebSocketMetrics webSocketMetrics;
 
     /**
      * 사용자가 그룹 계획에 변경 사항을 보낼 때 사용하는 엔드포인트
+     * 보낸 사용자(userId, userName)는 메시지 본문이 아니라 CONNECT에서 인증한 세션 정보로 채웁니다.
      * @param groupUrl 그룹의 고유 URL
      * @param message 계획 업데이트 메시지
      * @param headerAccessor WebSocket 세션 정보
-     * @return 다른 참여자들에게 전달될 메시지
      */
     @MessageMapping("/plan/{groupUrl}")
-    @SendTo("/topic/plan/{groupUrl}")
-    public PlanUpdateMessage sendUpdate(
+    public void sendUpdate(
             @Parameter(description = "그룹의 고유 URL", example = "travel-group") @DestinationVariable String groupUrl,
             @Parameter(description = "계획 업데이트 메시지") @Payload PlanUpdateMessage message,
             SimpMessageHeaderAccessor headerAccessor) {
         
-        // 로깅
-        log.info("Received plan update message: {} for group: {}", message, groupUrl);
-        
-        // 타임스탬프 추가
-        if (message.getTimestamp() == null) {
-            message = PlanUpdateMessage.builder()
-                    .groupUrl(message.getGroupUrl())
-                    .type(message.getType())
-                    .planId(message.getPlanId())
-                    .placeId(message.getPlaceId())
-                    .content(message.getContent())
-                    .userId(message.getUserId())
-                    .userName(message.getUserName())
-                    .timestamp(System.currentTimeMillis())
-                    .build();
+        long receivedAt = System.nanoTime();
+        
+        Integer userId = sessionUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("Rejected plan message from unauthenticated session: {}", headerAccessor.getSessionId());
+            return;
+        }
+        
+        // 메시지를 보낸 세션은 접속 중으로 갱신
+        planPresenceRegistry.touch(headerAccessor.getSessionId());
+        
+        // 로깅 (커서 이동 등 빈번한 메시지는 debug)
+        if (planMessageCoalescer.isEphemeral(message.getType())) {
+            log.debug("Received ephemeral plan message: {} for group: {}", message, groupUrl);
+        } else {
+            log.info("Received plan update message: {} for group: {}", message, groupUrl);
         }
         
-        return message;
+        // 보낸 사용자는 세션 정보로 덮어쓰고, 타임스탬프가 없으면 추가
+        message = message.toBuilder()
+                .userId(userId)
+                .userName(sessionUserName(headerAccessor))
+                .timestamp(message.getTimestamp() != null ? message.getTimestamp() : System.currentTimeMillis())
+                .build();
+        
+        // 커서 이동 등 일시적인 메시지는 사용자/유형별 최신 상태만 모아 짧은 주기로 전달
+        if (planMessageCoalescer.isEphemeral(message.getType())) {
+            planMessageCoalescer.offer(groupUrl, message, headerAccessor.getSessionId());
+            return;
+        }
+        
+        // 같은 그룹의 편집은 그룹 레인에서 받은 순서대로 처리 (순번 부여와 전달 순서가 어긋나지 않도록)
+        PlanUpdateMessage update = message;
+        planMessageDispatcher.dispatch(groupUrl, () -> applyUpdate(groupUrl, update, receivedAt));
+    }
+
+    private void applyUpdate(String groupUrl, PlanUpdateMessage message, long receivedAt) {
+        // 작업 로그 저장이 밀려 있으면 편집을 반영하거나 순번을 부여하기 전에 거부
+        if (!planOperationLog.tryAdmit(groupUrl)) {
+            return;
+        }
+        
+        // 장소 편집 작업은 CRDT 문서에 병합하고, 확정된 작업으로 바꿔 전달
+        if (planCrdtService.supports(message.getType())) {
+            message = planCrdtService.apply(groupUrl, message);
+            if (message == null) {
+                log.warn("Rejected plan edit operation for group: {}", groupUrl);
+                return;
+            }
+            planWriteBehindQueue.noteEdit();
+        }
+        
+        // 일정 필드 편집은 검증 후 쓰기 지연 큐에 넣어 모아서 DB에 반영
+        if (planWriteBehindQueue.supports(message.getType())) {
+            message = planWriteBehindQueue.offer(groupUrl, message);
+            if (message == null) {
+                log.warn("Rejected plan field edit for group: {}", groupUrl);
+                return;
+            }
+        }
+        
+        // 작업 로그에 기록하고 순번 부여
+        message = planOperationLog.append(groupUrl, message);
+        
+        // 다른 참여자들에게 전달 (다른 노드에 접속한 참여자 포함)
+        planMessageBroadcaster.broadcast(groupUrl, message);
+        webSocketMetrics.recordBroadcast(groupUrl, "edit", receivedAt);
     }
 
     /**
      * 사용자가 그룹 계획 페이지에 접속했을 때 호출되는 엔드포인트
+     * 접속한 사용자는 메시지 본문이 아니라 CONNECT에서 인증한 세션 정보로 정합니다.
      * @param groupUrl 그룹의 고유 URL
-     * @param message 접속 메시지
      * @param headerAccessor WebSocket 세션 정보
-     * @return 새 사용자가 접속했다는 메시지
      */
     @MessageMapping("/plan/{groupUrl}/join")
-    @SendTo("/topic/plan/{groupUrl}")
-    public PlanUpdateMessage addUser(
+    public void addUser(
             @Parameter(description = "그룹의 고유 URL", example = "travel-group") @DestinationVariable String groupUrl,
-            @Parameter(description = "접속 메시지") @Payload PlanUpdateMessage message,
             SimpMessageHeaderAccessor headerAccessor) {
         
-        // 세션에 사용자 정보 저장
-        headerAccessor.getSessionAttributes().put("username", message.getUserName());
-        headerAccessor.getSessionAttributes().put("userId", message.getUserId());
+        long receivedAt = System.nanoTime();
+        
+        Integer userId = sessionUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("Rejected join from unauthenticated session: {}", headerAccessor.getSessionId());
+            return;
+        }
+        String userName = sessionUserName(headerAccessor);
+        
+        // 세션에 사용자 정보 저장 (접속 유지/퇴장 처리에서 사용)
+        if (userName != null) {
+            headerAccessor.getSessionAttributes().put("username", userName);
+        }
+        headerAccessor.getSessionAttributes().put("userId", userId);
         headerAccessor.getSessionAttributes().put("groupUrl", groupUrl);
         
+        // 접속자 목록에 등록
+        planPresenceRegistry.join(groupUrl, headerAccessor.getSessionId(), userId, userName);
+        
         // 로깅
-        log.info("User {} joined group: {}", message.getUserName(), groupUrl);
+        log.info("User {} joined group: {}", userId, groupUrl);
         
-        return PlanUpdateMessage.builder()
+        // 새 사용자가 접속했다는 메시지 전달
+        planMessageBroadcaster.broadcast(groupUrl, PlanUpdateMessage.builder()
                 .groupUrl(groupUrl)
                 .type("JOIN")
-                .userId(message.getUserId())
-                .userName(message.getUserName())
+                .userId(userId)
+                .userName(userName)
                 .timestamp(System.currentTimeMillis())
-                .build();
+                .build());
+        webSocketMetrics.recordBroadcast(groupUrl, "join", receivedAt);
+    }
+
+    /**
+     * 접속 유지 신호를 받는 엔드포인트
+     * 클라이언트는 편집 메시지가 없어도 주기적으로 보내야 하며, 만료된 뒤에 받은 신호면 다시 입장 처리합니다.
+     * @param groupUrl 그룹의 고유 URL
+     * @param headerAccessor WebSocket 세션 정보
+     */
+    @MessageMapping("/plan/{groupUrl}/heartbeat")
+    public void heartbeat(
+            @Parameter(description = "그룹의 고유 URL", example = "travel-group") @DestinationVariable String groupUrl,
+            SimpMessageHeaderAccessor headerAccessor) {
+        
+        if (planPresenceRegistry.touch(headerAccessor.getSessionId())) {
+            return;
+        }
+        
+        // 이 그룹에 입장한 적이 있는 세션만 다시 입장 처리
+        if (!groupUrl.equals(headerAccessor.getSessionAttributes().get("groupUrl"))) {
+            return;
+        }
+        addUser(groupUrl, headerAccessor);
+    }
+
+    /**
+     * 현재 접속자 목록을 받아가는 엔드포인트
+     * /app/plan/{groupUrl}/presence 를 구독하면 구독한 클라이언트에게만 한 번 전달되고,
+     * 이후 변경은 /topic/plan/{groupUrl} 의 JOIN/LEAVE 메시지로 반영합니다.
+     * @param groupUrl 그룹의 고유 URL
+     * @return 접속자 목록
+     */
+    @SubscribeMapping("/plan/{groupUrl}/presence")
+    public PlanPresenceResponseDto presence(
+            @Parameter(description = "그룹의 고유 URL", example = "travel-group") @DestinationVariable String groupUrl) {
+        return planPresenceRegistry.snapshot(groupUrl);
+    }
+
+    /**
+     * 재접속한 클라이언트가 놓친 작업만 받아가는 엔드포인트
+     * /app/plan/{groupUrl}/replay/{sinceSeq} 를 구독하면 sinceSeq 이후의 작업이 구독한 클라이언트에게만 한 번 전달됩니다.
+     * 클라이언트는 /topic/plan/{groupUrl} 을 먼저 구독한 뒤 재생을 요청하고, 순번으로 중복을 걸러냅니다.
+     * @param groupUrl 그룹의 고유 URL
+     * @param sinceSeq 클라이언트가 마지막으로 받은 작업 순번 (처음이면 0)
+     * @return 놓친 작업 목록
+     */
+    @SubscribeMapping("/plan/{groupUrl}/replay/{sinceSeq}")
+    public PlanOperationReplayResponseDto replay(
+            @Parameter(description = "그룹의 고유 URL", example = "travel-group") @DestinationVariable String groupUrl,
+            @Parameter(description = "마지막으로 받은 작업 순번", example = "0") @DestinationVariable Long sinceSeq) {
+        
+        PlanOperationReplayResponseDto replay = planOperationLog.replay(groupUrl, sinceSeq);
+        log.info("Replaying {} operations after seq {} for group: {}", replay.getOperations().size(), sinceSeq, groupUrl);
+        return replay;
+    }
+
+    /**
+     * CONNECT에서 인증한 세션 사용자 ID (인증되지 않은 세션이면 null)
+     */
+    private static Integer sessionUserId(SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        return attributes != null && attributes.get(StompAuthChannelInterceptor.AUTH_USER_ID) instanceof Integer userId
+                ? userId : null;
+    }
+
+    /**
+     * CONNECT에서 조회한 세션 사용자 표시 이름
+     */
+    private static String sessionUserName(SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        return attributes != null ? (String) attributes.get(StompAuthChannelInterceptor.AUTH_USER_NAME) : null;
     }
-} 
\ No newline at end of file
+}
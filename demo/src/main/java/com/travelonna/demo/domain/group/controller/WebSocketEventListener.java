@@ -1,12 +1,15 @@
 package com.travelonna.demo.domain.group.controller;
 
 import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.group.service.PlanMessageBroadcaster;
+import com.travelonna.demo.domain.group.service.PlanPresenceRegistry;
+import com.travelonna.demo.global.websocket.WebSocketMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,19 +19,32 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Slf4j
 public class WebSocketEventListener {
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PlanMessageBroadcaster planMessageBroadcaster;
+    private final PlanPresenceRegistry planPresenceRegistry;
+    private final WebSocketMetrics webSocketMetrics;
+
+    @EventListener
+    public void handleWebSocketConnectListener(SessionConnectedEvent event) {
+        webSocketMetrics.sessionConnected();
+    }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         
+        // 세션 수와 구독 목록 갱신
+        webSocketMetrics.sessionDisconnected(event.getSessionId());
+        
         // 세션에서 유저 정보 및 그룹 URL 가져오기
         String username = (String) headerAccessor.getSessionAttributes().get("username");
         Integer userId = (Integer) headerAccessor.getSessionAttributes().get("userId");
         String groupUrl = (String) headerAccessor.getSessionAttributes().get("groupUrl");
         
-        if (username != null && groupUrl != null) {
-            log.info("User Disconnected: {}", username);
+        // 접속자 목록에서 제거 (하트비트가 없어 이미 만료된 세션이면 퇴장 메시지도 이미 전달됨)
+        boolean expired = planPresenceRegistry.leave(headerAccessor.getSessionId()) == null;
+        
+        if (userId != null && groupUrl != null && !expired) {
+            log.info("User Disconnected: {}", userId);
             
             // 연결 끊김 메시지 생성
             PlanUpdateMessage message = PlanUpdateMessage.builder()
@@ -40,7 +56,7 @@ public class WebSocketEventListener {
                     .build();
             
             // 해당 그룹에 메시지 전송
-            messagingTemplate.convertAndSend("/topic/plan/" + groupUrl, message);
+            planMessageBroadcaster.broadcast(groupUrl, message);
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.travelonna.demo.domain.group.crdt;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 타임스탬프와 위치가 확정된 장소 편집 작업
+ * 같은 작업을 여러 번 적용하거나 순서를 바꿔 적용해도 결과가 같습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CrdtOperation {
+
+    private final Integer placeId;
+
+    // 변경할 필드 값 (없으면 null)
+    private final Map<String, JsonNode> fields;
+
+    // 새 정렬 위치 (없으면 null)
+    private final String position;
+
+    private final boolean delete;
+
+    private final Stamp stamp;
+}
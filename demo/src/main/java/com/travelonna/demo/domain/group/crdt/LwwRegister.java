@@ -0,0 +1,31 @@
+package com.travelonna.demo.domain.group.crdt;
+
+import lombok.Getter;
+
+/**
+ * Last-Writer-Wins 레지스터
+ * 타임스탬프가 더 큰 쓰기만 반영하므로 적용 순서와 관계없이 같은 값으로 수렴합니다.
+ */
+@Getter
+public class LwwRegister<T> {
+
+    private T value;
+    private Stamp stamp;
+
+    public LwwRegister(T value, Stamp stamp) {
+        this.value = value;
+        this.stamp = stamp;
+    }
+
+    /**
+     * @return 값이 반영되었으면 true
+     */
+    public boolean set(T newValue, Stamp newStamp) {
+        if (!newStamp.isAfter(stamp)) {
+            return false;
+        }
+        value = newValue;
+        stamp = newStamp;
+        return true;
+    }
+}
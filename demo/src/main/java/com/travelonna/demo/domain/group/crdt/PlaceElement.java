@@ -0,0 +1,94 @@
+package com.travelonna.demo.domain.group.crdt;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Getter;
+
+/**
+ * 일정 문서 안의 장소 하나
+ * 필드마다 LWW 레지스터를 두고, 정렬 위치도 LWW 레지스터로 관리합니다.
+ * 삭제는 툼스톤으로 남겨 늦게 도착한 수정이 장소를 되살리지 않도록 합니다.
+ */
+public class PlaceElement {
+
+    @Getter
+    private final Integer placeId;
+
+    private final Map<String, LwwRegister<JsonNode>> fields = new HashMap<>();
+
+    @Getter
+    private final LwwRegister<String> position;
+
+    @Getter
+    private Stamp deletedAt;
+
+    // 마지막 압축 이후 바뀐 필드
+    @Getter
+    private final Set<String> dirtyFields = new LinkedHashSet<>();
+
+    @Getter
+    private boolean deleteDirty;
+
+    public PlaceElement(Integer placeId, String position, Stamp stamp) {
+        this.placeId = placeId;
+        this.position = new LwwRegister<>(position, stamp);
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    public JsonNode getField(String field) {
+        LwwRegister<JsonNode> register = fields.get(field);
+        return register != null ? register.getValue() : null;
+    }
+
+    public Map<String, JsonNode> getFieldValues() {
+        Map<String, JsonNode> values = new HashMap<>();
+        fields.forEach((field, register) -> values.put(field, register.getValue()));
+        return values;
+    }
+
+    boolean setField(String field, JsonNode value, Stamp stamp) {
+        LwwRegister<JsonNode> register = fields.get(field);
+        if (register == null) {
+            fields.put(field, new LwwRegister<>(value, stamp));
+            return true;
+        }
+        return register.set(value, stamp);
+    }
+
+    boolean setPosition(String newPosition, Stamp stamp) {
+        return position.set(newPosition, stamp);
+    }
+
+    /**
+     * @return 처음 삭제되었으면 true
+     */
+    boolean delete(Stamp stamp) {
+        if (deletedAt != null) {
+            // 툼스톤 타임스탬프는 가장 큰 값으로 맞춰 노드 간 상태를 동일하게 유지
+            if (stamp.isAfter(deletedAt)) {
+                deletedAt = stamp;
+            }
+            return false;
+        }
+        deletedAt = stamp;
+        return true;
+    }
+
+    void clearDirty() {
+        dirtyFields.clear();
+        deleteDirty = false;
+    }
+
+    void markDirty(Set<String> changedFields, boolean deleted) {
+        dirtyFields.addAll(changedFields);
+        deleteDirty |= deleted;
+    }
+}
@@ -0,0 +1,268 @@
+package com.travelonna.demo.domain.group.crdt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.travelonna.demo.global.util.FractionalIndex;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 하나의 장소 목록 CRDT
+ * - 순서: 장소마다 분수 인덱스 위치를 LWW 레지스터로 두고 (위치, 장소 ID) 순으로 정렬
+ * - 필드: 장소 필드마다 LWW 레지스터
+ * - 삭제: 툼스톤
+ * 모든 작업은 교환/멱등이므로 노드마다 적용 순서가 달라도 같은 상태로 수렴합니다.
+ * 스레드 안전하지 않으므로 호출자가 인스턴스로 동기화합니다.
+ */
+public class PlanDocument {
+
+    private static final Comparator<PlaceElement> ORDER = Comparator
+            .comparing((PlaceElement element) -> element.getPosition().getValue())
+            .thenComparing(PlaceElement::getPlaceId);
+
+    @Getter
+    private final Integer planId;
+
+    private final Map<Integer, PlaceElement> elements = new HashMap<>();
+
+    // 이 문서에서 관찰한 가장 큰 램포트 카운터
+    @Getter
+    private long clock;
+
+    // 마지막 압축 이후 이 노드에서 순서가 바뀌었는지 여부
+    private boolean orderDirty;
+
+    // 작업이 반영될 때마다 증가 (압축 중 새 작업이 들어왔는지 판단)
+    @Getter
+    private long modCount;
+
+    public PlanDocument(Integer planId) {
+        this.planId = planId;
+    }
+
+    /**
+     * DB에서 읽은 초기 상태를 추가합니다. 초기 상태는 Stamp.ZERO로 기록되어 모든 편집에 밀립니다.
+     */
+    public void load(Integer placeId, Map<String, JsonNode> fields, String position) {
+        PlaceElement element = new PlaceElement(placeId, position, Stamp.ZERO);
+        fields.forEach((field, value) -> element.setField(field, value, Stamp.ZERO));
+        elements.put(placeId, element);
+    }
+
+    public boolean contains(Integer placeId) {
+        return elements.containsKey(placeId);
+    }
+
+    public PlaceElement get(Integer placeId) {
+        return elements.get(placeId);
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * 이 노드에서 새 작업에 부여할 타임스탬프를 발급합니다.
+     */
+    public Stamp nextStamp(String replica) {
+        return new Stamp(++clock, replica);
+    }
+
+    /**
+     * 작업을 적용합니다.
+     *
+     * @param local 이 노드에서 받은 작업이면 true (압축 대상으로 표시)
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean apply(CrdtOperation operation, boolean local) {
+        clock = Math.max(clock, operation.getStamp().getCounter());
+
+        PlaceElement element = elements.get(operation.getPlaceId());
+        if (element == null) {
+            return false;
+        }
+
+        Stamp stamp = operation.getStamp();
+        boolean changed = false;
+
+        if (operation.getFields() != null) {
+            for (Map.Entry<String, JsonNode> entry : operation.getFields().entrySet()) {
+                if (element.setField(entry.getKey(), entry.getValue(), stamp)) {
+                    changed = true;
+                    if (local) {
+                        element.markDirty(Set.of(entry.getKey()), false);
+                    }
+                }
+            }
+        }
+
+        if (operation.getPosition() != null && element.setPosition(operation.getPosition(), stamp)) {
+            changed = true;
+            orderDirty |= local;
+        }
+
+        if (operation.isDelete() && element.delete(stamp)) {
+            changed = true;
+            if (local) {
+                element.markDirty(Set.of(), true);
+            }
+        }
+
+        if (changed) {
+            modCount++;
+        }
+        return changed;
+    }
+
+    /**
+     * 삭제되지 않은 장소를 정렬 순서대로 반환합니다.
+     */
+    public List<PlaceElement> ordered() {
+        return elements.values().stream()
+                .filter(element -> !element.isDeleted())
+                .sorted(ORDER)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 맨 끝 위치 다음의 키를 반환합니다.
+     */
+    public String positionAtEnd() {
+        String last = null;
+        for (PlaceElement element : elements.values()) {
+            String position = element.getPosition().getValue();
+            if (last == null || position.compareTo(last) > 0) {
+                last = position;
+            }
+        }
+        return FractionalIndex.between(last, null);
+    }
+
+    /**
+     * 장소를 afterPlaceId 뒤 (또는 beforePlaceId 앞)에 놓을 위치 키를 계산합니다.
+     * 둘 다 없으면 맨 끝에 놓습니다.
+     *
+     * @param movingPlaceId 옮기는 장소 (이웃 계산에서 제외)
+     */
+    public String resolvePosition(Integer movingPlaceId, Integer afterPlaceId, Integer beforePlaceId) {
+        List<PlaceElement> ordered = ordered();
+        ordered.removeIf(element -> element.getPlaceId().equals(movingPlaceId));
+
+        String lower = null;
+        String upper = null;
+
+        int afterIndex = indexOf(ordered, afterPlaceId);
+        int beforeIndex = indexOf(ordered, beforePlaceId);
+        if (afterIndex >= 0) {
+            lower = positionOf(ordered.get(afterIndex));
+            upper = afterIndex + 1 < ordered.size() ? positionOf(ordered.get(afterIndex + 1)) : null;
+        } else if (beforeIndex >= 0) {
+            upper = positionOf(ordered.get(beforeIndex));
+            lower = beforeIndex > 0 ? positionOf(ordered.get(beforeIndex - 1)) : null;
+        } else if (!ordered.isEmpty()) {
+            lower = positionOf(ordered.get(ordered.size() - 1));
+        }
+
+        // 동시 삽입으로 이웃의 위치 키가 같으면 다음으로 큰 키를 상한으로 사용
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            upper = null;
+            for (PlaceElement element : ordered) {
+                String position = positionOf(element);
+                if (position.compareTo(lower) > 0) {
+                    upper = position;
+                    break;
+                }
+            }
+        }
+        return FractionalIndex.between(lower, upper);
+    }
+
+    public boolean isDirty() {
+        return orderDirty || elements.values().stream()
+                .anyMatch(element -> !element.getDirtyFields().isEmpty() || element.isDeleteDirty());
+    }
+
+    /**
+     * 마지막 압축 이후 바뀐 상태를 꺼내고 변경 표시를 지웁니다.
+     */
+    public DirtyState takeDirty() {
+        List<DirtyPlace> places = new ArrayList<>();
+        for (PlaceElement element : elements.values()) {
+            if (element.getDirtyFields().isEmpty() && !element.isDeleteDirty()) {
+                continue;
+            }
+            Map<String, JsonNode> fields = new HashMap<>();
+            for (String field : element.getDirtyFields()) {
+                fields.put(field, element.getField(field));
+            }
+            places.add(new DirtyPlace(element.getPlaceId(), fields, element.isDeleted()));
+            element.clearDirty();
+        }
+
+        List<Integer> orderedPlaceIds = null;
+        if (orderDirty) {
+            orderedPlaceIds = ordered().stream().map(PlaceElement::getPlaceId).collect(Collectors.toList());
+            orderDirty = false;
+        }
+        return new DirtyState(places, orderedPlaceIds);
+    }
+
+    /**
+     * 압축에 실패했을 때 꺼냈던 변경 표시를 되돌립니다.
+     */
+    public void restoreDirty(DirtyState state) {
+        for (DirtyPlace place : state.getPlaces()) {
+            PlaceElement element = elements.get(place.getPlaceId());
+            if (element != null) {
+                element.markDirty(new HashSet<>(place.getFields().keySet()), place.isDeleted());
+            }
+        }
+        orderDirty |= state.getOrderedPlaceIds() != null;
+    }
+
+    private static int indexOf(List<PlaceElement> ordered, Integer placeId) {
+        if (placeId == null) {
+            return -1;
+        }
+        for (int i = 0; i < ordered.size(); i++) {
+            if (ordered.get(i).getPlaceId().equals(placeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String positionOf(PlaceElement element) {
+        return element.getPosition().getValue();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DirtyState {
+        private final List<DirtyPlace> places;
+
+        // 순서가 바뀌었으면 정렬된 장소 ID 목록, 아니면 null
+        private final List<Integer> orderedPlaceIds;
+
+        public boolean isEmpty() {
+            return places.isEmpty() && orderedPlaceIds == null;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DirtyPlace {
+        private final Integer placeId;
+        private final Map<String, JsonNode> fields;
+        private final boolean deleted;
+    }
+}
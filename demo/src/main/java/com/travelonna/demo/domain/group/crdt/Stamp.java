@@ -0,0 +1,34 @@
+package com.travelonna.demo.domain.group.crdt;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * LWW 비교에 쓰는 램포트 타임스탬프
+ * counter가 크면 나중 값이며, 같으면 replica 문자열 순서로 결정해 모든 노드에서 같은 결과가 나옵니다.
+ */
+@Getter
+@EqualsAndHashCode
+public class Stamp implements Comparable<Stamp> {
+
+    // DB에서 불러온 초기 상태의 타임스탬프 (모든 편집보다 앞섬)
+    public static final Stamp ZERO = new Stamp(0, "");
+
+    private final long counter;
+    private final String replica;
+
+    public Stamp(long counter, String replica) {
+        this.counter = counter;
+        this.replica = replica;
+    }
+
+    @Override
+    public int compareTo(Stamp other) {
+        int byCounter = Long.compare(counter, other.counter);
+        return byCounter != 0 ? byCounter : replica.compareTo(other.replica);
+    }
+
+    public boolean isAfter(Stamp other) {
+        return other == null || compareTo(other) > 0;
+    }
+}
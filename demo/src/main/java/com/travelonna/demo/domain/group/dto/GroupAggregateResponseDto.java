@@ -0,0 +1,25 @@
+package com.travelonna.demo.domain.group.dto;
+
+import com.travelonna.demo.domain.plan.dto.PlanDetailResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupAggregateResponseDto {
+    @Schema(description = "그룹 정보")
+    private GroupResponseDto group;
+
+    @Schema(description = "그룹 일정 목록 (장소 포함)")
+    private List<PlanDetailResponseDto> plans;
+
+    @Schema(description = "활성 멤버 목록")
+    private List<GroupMemberResponseDto> members;
+}
@@ -0,0 +1,33 @@
+package com.travelonna.demo.domain.group.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupMemberResponseDto {
+    @Schema(description = "사용자 ID", example = "1")
+    private Integer userId;
+
+    @Schema(description = "사용자 이름", example = "홍길동")
+    private String name;
+
+    @Schema(description = "닉네임 (프로필이 없으면 null)", example = "여행자")
+    private String nickname;
+
+    @Schema(description = "프로필 이미지 URL", example = "https://example.com/profile.jpg")
+    private String profileImage;
+
+    @Schema(description = "그룹 참여 일시", example = "2024-03-21T14:30:00")
+    private LocalDateTime joinedAt;
+
+    @Schema(description = "그룹 주최자 여부", example = "false")
+    private Boolean isHost;
+}
@@ -0,0 +1,30 @@
+package com.travelonna.demo.domain.group.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupPageResponseDto {
+    @Schema(description = "그룹 목록")
+    private List<GroupResponseDto> groups;
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    private Integer page;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private Integer size;
+
+    @Schema(description = "전체 그룹 수", example = "42")
+    private Long totalElements;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+}
@@ -0,0 +1,25 @@
+package com.travelonna.demo.domain.group.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 작업 로그 재생 응답
+ * sinceSeq 이후의 작업을 순번 순으로 담습니다. hasMore가 true이면 마지막 작업의 순번으로 다시 요청합니다.
+ * lastSeq가 클라이언트가 가진 순번보다 작으면 로그가 유실된 것이므로 REST로 일정을 다시 조회해야 합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanOperationReplayResponseDto {
+    private String groupUrl;
+    private Long sinceSeq;
+    private Long lastSeq; // 그룹의 마지막 작업 순번
+    private Boolean hasMore;
+    private List<PlanUpdateMessage> operations;
+}
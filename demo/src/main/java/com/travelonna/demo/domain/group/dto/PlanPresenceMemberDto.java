@@ -0,0 +1,18 @@
+package com.travelonna.demo.domain.group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanPresenceMemberDto {
+    private Integer userId;
+    private String userName;
+    private Integer sessionCount;
+    private Long joinedAt;   // 가장 먼저 접속한 세션의 접속 시각
+    private Long lastSeenAt; // 가장 최근 활동 시각
+}
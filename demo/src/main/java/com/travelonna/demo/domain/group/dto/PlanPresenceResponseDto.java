@@ -0,0 +1,22 @@
+package com.travelonna.demo.domain.group.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹 일정 페이지에 현재 접속 중인 사용자 목록
+ * 한 사용자가 여러 탭/기기로 접속하면 sessionCount로 합쳐서 보여줍니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanPresenceResponseDto {
+    private String groupUrl;
+    private Integer onlineCount; // 접속 중인 사용자 수
+    private List<PlanPresenceMemberDto> members;
+}
@@ -1,5 +1,14 @@
 package com.travelonna.demo.domain.group.dto;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,14 +17,44 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PlanUpdateMessage {
     private String groupUrl;
+    private Long seq; // 그룹 내 작업 순번 (작업 로그에 기록된 메시지만)
     private String type; // 업데이트 타입 (추가, 수정, 삭제 등)
     private Long planId;
     private Long placeId;
-    private String content; // 변경된 내용 (JSON 문자열)
+    @JsonDeserialize(using = ContentDeserializer.class)
+    private JsonNode content; // 변경된 내용 (JSON 객체, 이전 클라이언트의 JSON 문자열도 허용)
     private Integer userId; // 업데이트한 사용자 ID
     private String userName; // 업데이트한 사용자 이름
     private Long timestamp;
-} 
\ No newline at end of file
+
+    /**
+     * content를 구조화된 값으로 읽습니다.
+     * 이전 클라이언트는 content를 JSON 문자열로 한 번 더 감싸 보내므로, 문자열이 JSON 객체/배열이면 풀어서 사용합니다.
+     */
+    public static class ContentDeserializer extends JsonDeserializer<JsonNode> {
+
+        // CBOR/Smile로 받은 메시지에 들어 있는 문자열도 JSON 텍스트이므로 JSON 파서로 풉니다.
+        private static final ObjectMapper LEGACY_JSON = new ObjectMapper();
+
+        @Override
+        public JsonNode deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            if (node == null || !node.isTextual()) {
+                return node;
+            }
+
+            String text = node.textValue().trim();
+            if (!text.startsWith("{") && !text.startsWith("[")) {
+                return node;
+            }
+            try {
+                return LEGACY_JSON.readTree(text);
+            } catch (IOException e) {
+                return node;
+            }
+        }
+    }
+}
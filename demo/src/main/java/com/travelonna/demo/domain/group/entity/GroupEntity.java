@@ -8,7 +8,6 @@ import lombok.NoArgsConstructor;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
 @Table(name = "user_group")
@@ -36,7 +35,8 @@ public class GroupEntity {
     @JoinColumn(name = "host")
     private User host;
 
-    public void generateUniqueUrl() {
-        this.url = UUID.randomUUID().toString().substring(0, 8);
+    // 초대 URL 설정 (그룹 ID가 생성된 후 한 번만 호출)
+    public void assignUrl(String url) {
+        this.url = url;
     }
 } 
\ No newline at end of file
@@ -10,7 +10,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_member")
+@Table(name = "group_member", indexes = {
+    @Index(name = "idx_group_member_user_active", columnList = "user_id, is_active")
+})
 @Getter
 @Builder
 @NoArgsConstructor
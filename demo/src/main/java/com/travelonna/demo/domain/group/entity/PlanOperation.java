@@ -0,0 +1,73 @@
+package com.travelonna.demo.domain.group.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.global.util.JsonNodeConverter;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹 일정 편집 작업 로그
+ * 그룹별 순번(seq)으로 정렬되며, 재접속한 클라이언트가 놓친 작업만 다시 받을 때 사용합니다.
+ */
+@Entity
+@Table(name = "plan_operation", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_plan_operation_group_seq", columnNames = {"group_url", "seq"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanOperation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "operation_id")
+    private Long id;
+
+    @Column(name = "group_url", nullable = false)
+    private String groupUrl;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    @Column(name = "type", length = 50)
+    private String type;
+
+    @Column(name = "plan_id")
+    private Long planId;
+
+    @Column(name = "place_id")
+    private Long placeId;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    @Convert(converter = JsonNodeConverter.class)
+    private JsonNode content;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "user_name")
+    private String userName;
+
+    @Column(name = "op_timestamp")
+    private Long timestamp;
+
+    public PlanUpdateMessage toMessage() {
+        return PlanUpdateMessage.builder()
+                .groupUrl(groupUrl)
+                .seq(seq)
+                .type(type)
+                .planId(planId)
+                .placeId(placeId)
+                .content(content)
+                .userId(userId)
+                .userName(userName)
+                .timestamp(timestamp)
+                .build();
+    }
+}
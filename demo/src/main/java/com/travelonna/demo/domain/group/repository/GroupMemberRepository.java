@@ -4,6 +4,8 @@ import com.travelonna.demo.domain.group.entity.GroupEntity;
 import com.travelonna.demo.domain.group.entity.GroupMember;
 import com.travelonna.demo.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +13,13 @@ import java.util.Optional;
 
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
-    List<GroupMember> findByGroupAndIsActiveTrue(GroupEntity group);
+    // 활성 멤버와 사용자를 한 번에 조회
+    @Query("SELECT gm FROM GroupMember gm JOIN FETCH gm.user WHERE gm.group = :group AND gm.isActive = true ORDER BY gm.joinedAt")
+    List<GroupMember> findByGroupAndIsActiveTrue(@Param("group") GroupEntity group);
     Optional<GroupMember> findByGroupAndUser(GroupEntity group, User user);
     boolean existsByGroupAndUser(GroupEntity group, User user);
-} 
\ No newline at end of file
+
+    // 사용자가 활성 멤버로 속한 그룹 ID 목록 (최근 생성 순, idx_group_member_user_active 사용)
+    @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.user.userId = :userId AND gm.isActive = true ORDER BY gm.group.id DESC")
+    List<Integer> findActiveGroupIdsByUserId(@Param("userId") Integer userId);
+}
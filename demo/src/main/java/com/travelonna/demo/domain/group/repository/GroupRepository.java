@@ -2,12 +2,20 @@ package com.travelonna.demo.domain.group.repository;
 
 import com.travelonna.demo.domain.group.entity.GroupEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GroupRepository extends JpaRepository<GroupEntity, Long> {
     Optional<GroupEntity> findByUrl(String url);
     boolean existsByUrl(String url);
-} 
\ No newline at end of file
+
+    // 그룹 ID 목록으로 주최자와 함께 조회
+    @Query("SELECT g FROM GroupEntity g JOIN FETCH g.host WHERE g.id IN :ids")
+    List<GroupEntity> findAllWithHostByIdIn(@Param("ids") Collection<Integer> ids);
+}
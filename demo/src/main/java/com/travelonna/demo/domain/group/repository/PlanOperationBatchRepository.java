@@ -0,0 +1,59 @@
+package com.travelonna.demo.domain.group.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작업 로그 일괄 저장용 JDBC 리포지토리
+ * 배치 전체를 하나의 트랜잭션으로 저장하므로 일부만 저장된 채 재시도되는 경우가 없고,
+ * (그룹, 순번)이 이미 있으면 DuplicateKeyException이 발생합니다 (순번 충돌을 숨기지 않음).
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlanOperationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO plan_operation (group_url, seq, type, plan_id, place_id, content, user_id, user_name, op_timestamp) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<PlanUpdateMessage> operations) {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PlanUpdateMessage operation = operations.get(i);
+                ps.setString(1, operation.getGroupUrl());
+                ps.setLong(2, operation.getSeq());
+                ps.setString(3, operation.getType());
+                ps.setObject(4, operation.getPlanId(), Types.BIGINT);
+                ps.setObject(5, operation.getPlaceId(), Types.BIGINT);
+                ps.setString(6, operation.getContent() != null ? operation.getContent().toString() : null);
+                ps.setObject(7, operation.getUserId(), Types.INTEGER);
+                ps.setString(8, operation.getUserName());
+                ps.setObject(9, operation.getTimestamp(), Types.BIGINT);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return operations.size();
+            }
+        });
+    }
+}
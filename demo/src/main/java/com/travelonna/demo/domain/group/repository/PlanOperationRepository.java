@@ -0,0 +1,26 @@
+package com.travelonna.demo.domain.group.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.travelonna.demo.domain.group.entity.PlanOperation;
+
+@Repository
+public interface PlanOperationRepository extends JpaRepository<PlanOperation, Long> {
+
+    // 지정한 순번 이후의 작업을 순번 순으로 조회
+    List<PlanOperation> findByGroupUrlAndSeqGreaterThanOrderBySeqAsc(String groupUrl, Long seq, Pageable pageable);
+
+    // (그룹, 순번)으로 작업 조회 (저장 시 순번 충돌 확인용)
+    Optional<PlanOperation> findByGroupUrlAndSeq(String groupUrl, Long seq);
+
+    // 그룹의 마지막 작업 순번 조회
+    @Query("SELECT MAX(o.seq) FROM PlanOperation o WHERE o.groupUrl = :groupUrl")
+    Long findMaxSeqByGroupUrl(@Param("groupUrl") String groupUrl);
+}
@@ -0,0 +1,52 @@
+package com.travelonna.demo.domain.group.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.travelonna.demo.domain.group.service.PlanSequenceAllocator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * plan_operation_seq 테이블의 그룹별 행으로 작업 순번을 구간 단위로 발급합니다 (relay 모드).
+ * 외부 브로커를 공유하는 노드들이 같은 DB 행을 원자적으로 증가시키므로 순번이 겹치지 않습니다.
+ * 증가한 값(구간의 마지막 순번)은 같은 커넥션의 LAST_INSERT_ID()로 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "relay")
+public class PlanOperationSequenceRepository implements PlanSequenceAllocator {
+
+    private static final String RESERVE_SQL =
+            "INSERT INTO plan_operation_seq (group_url, last_seq) VALUES (?, LAST_INSERT_ID(? + ?)) "
+            + "ON DUPLICATE KEY UPDATE last_seq = LAST_INSERT_ID(GREATEST(last_seq, ?) + ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long reserve(String groupUrl, long floor, int count) {
+        Long seq = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement update = connection.prepareStatement(RESERVE_SQL)) {
+                update.setString(1, groupUrl);
+                update.setLong(2, floor);
+                update.setInt(3, count);
+                update.setLong(4, floor);
+                update.setInt(5, count);
+                update.executeUpdate();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+                 ResultSet resultSet = select.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : null;
+            }
+        });
+        if (seq == null) {
+            throw new IllegalStateException("작업 순번 발급 실패: groupUrl=" + groupUrl);
+        }
+        return seq;
+    }
+}
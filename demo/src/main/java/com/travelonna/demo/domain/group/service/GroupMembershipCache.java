@@ -0,0 +1,78 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 소속 그룹 ID 캐시
+ * 그룹 생성/참여로 멤버십이 바뀌면 트랜잭션 종료 후 해당 사용자의 항목을 제거합니다.
+ */
+@Slf4j
+@Component
+public class GroupMembershipCache {
+
+    private static final int MAX_USERS = 10_000;
+
+    // 사용자 ID -> 소속 그룹 ID 목록 (최근 생성 순)
+    private final Map<Integer, List<Integer>> groupIdsByUser = Collections.synchronizedMap(
+            new LinkedHashMap<Integer, List<Integer>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<Integer>> eldest) {
+                    return size() > MAX_USERS;
+                }
+            });
+
+    // 무효화가 일어날 때마다 증가. 조회 중에 무효화된 목록이 다시 캐시되는 것을 막습니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 사용자의 소속 그룹 ID 목록을 반환하고, 없으면 loader로 조회한 뒤 캐시합니다.
+     */
+    public List<Integer> getGroupIds(Integer userId, Supplier<List<Integer>> loader) {
+        List<Integer> cached = groupIdsByUser.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long token = generation.get();
+        List<Integer> loaded = List.copyOf(loader.get());
+        synchronized (groupIdsByUser) {
+            if (generation.get() == token) {
+                groupIdsByUser.put(userId, loaded);
+            }
+        }
+        log.debug("소속 그룹 캐시 적재: 사용자 ID {}, 그룹 수 {}", userId, loaded.size());
+        return loaded;
+    }
+
+    /**
+     * 사용자의 멤버십이 바뀌었을 때 호출합니다. 트랜잭션 안에서는 트랜잭션 종료 후에 제거됩니다.
+     */
+    public void evict(Integer userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(userId);
+                }
+            });
+        } else {
+            remove(userId);
+        }
+    }
+
+    private void remove(Integer userId) {
+        generation.incrementAndGet();
+        groupIdsByUser.remove(userId);
+    }
+}
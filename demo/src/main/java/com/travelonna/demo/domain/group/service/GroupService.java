@@ -1,21 +1,33 @@
 package com.travelonna.demo.domain.group.service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.travelonna.demo.domain.group.dto.GroupAggregateResponseDto;
+import com.travelonna.demo.domain.group.dto.GroupMemberResponseDto;
+import com.travelonna.demo.domain.group.dto.GroupPageResponseDto;
 import com.travelonna.demo.domain.group.dto.GroupRequestDto;
 import com.travelonna.demo.domain.group.dto.GroupResponseDto;
 import com.travelonna.demo.domain.group.entity.GroupEntity;
 import com.travelonna.demo.domain.group.entity.GroupMember;
 import com.travelonna.demo.domain.group.repository.GroupMemberRepository;
 import com.travelonna.demo.domain.group.repository.GroupRepository;
+import com.travelonna.demo.domain.user.entity.Profile;
 import com.travelonna.demo.domain.user.entity.User;
+import com.travelonna.demo.domain.user.repository.ProfileRepository;
 import com.travelonna.demo.domain.user.repository.UserRepository;
+import com.travelonna.demo.domain.plan.dto.PlaceResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanDetailResponseDto;
 import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
 import com.travelonna.demo.domain.plan.repository.PlanRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +42,14 @@ public class GroupService {
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
     private final PlanRepository planRepository;
+    private final PlaceRepository placeRepository;
+    private final ProfileRepository profileRepository;
+    private final GroupMembershipCache groupMembershipCache;
+    private final GroupUrlResolver groupUrlResolver;
+
+    // 내 그룹 목록 페이지 크기 제한
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public GroupResponseDto createGroup(Integer userId, GroupRequestDto requestDto) {
@@ -42,11 +62,11 @@ public class GroupService {
                 .host(host)
                 .build();
 
-        // URL 생성
-        generateUniqueUrl(group);
-
         GroupEntity savedGroup = groupRepository.save(group);
 
+        // 생성된 그룹 ID로 초대 URL 부여
+        savedGroup.assignUrl(groupUrlResolver.createUrl(savedGroup.getId()));
+
         // 그룹 생성자를 멤버로 추가
         GroupMember hostMember = GroupMember.builder()
                 .group(savedGroup)
@@ -56,22 +76,14 @@ public class GroupService {
                 .build();
 
         groupMemberRepository.save(hostMember);
+        groupMembershipCache.evict(userId);
 
         return GroupResponseDto.fromEntity(savedGroup);
     }
 
-    private void generateUniqueUrl(GroupEntity group) {
-        group.generateUniqueUrl();
-        
-        // URL 중복 체크 및 재생성
-        while (groupRepository.existsByUrl(group.getUrl())) {
-            group.generateUniqueUrl();
-        }
-    }
-
     @Transactional(readOnly = true)
     public GroupResponseDto findGroupByUrl(String url) {
-        GroupEntity group = groupRepository.findByUrl(url)
+        GroupEntity group = groupUrlResolver.findByUrl(url)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found with URL: " + url));
         
         return GroupResponseDto.fromEntity(group);
@@ -102,7 +114,7 @@ public class GroupService {
                     .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
             log.debug("Found user: {}", user.getEmail());
             
-            GroupEntity group = groupRepository.findByUrl(groupUrl)
+            GroupEntity group = groupUrlResolver.findByUrl(groupUrl)
                     .orElseThrow(() -> new IllegalArgumentException("Group not found with URL: " + groupUrl));
             log.debug("Found group with ID: {}", group.getId());
             
@@ -122,6 +134,7 @@ public class GroupService {
                     .build();
             
             groupMemberRepository.save(member);
+            groupMembershipCache.evict(userId);
             log.debug("Successfully added user to group");
         } catch (Exception e) {
             log.error("Error joining group: {}", e.getMessage(), e);
@@ -131,14 +144,83 @@ public class GroupService {
 
     @Transactional(readOnly = true)
     public List<GroupResponseDto> getMyGroups(Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        
-        List<GroupEntity> groups = groupRepository.findAll().stream()
-                .filter(group -> groupMemberRepository.existsByGroupAndUser(group, user))
-                .collect(Collectors.toList());
-        
-        return groups.stream()
+        return toGroupResponses(getMyGroupIds(userId));
+    }
+
+    /**
+     * 내 그룹 목록 페이지 조회 (최근 생성 순)
+     * 소속 그룹 ID는 사용자별 캐시에서 가져오고, 해당 페이지의 그룹만 IN 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public GroupPageResponseDto getMyGroups(Integer userId, Integer page, Integer size) {
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<Integer> groupIds = getMyGroupIds(userId);
+        int from = (int) Math.min((long) pageNumber * pageSize, groupIds.size());
+        int to = Math.min(from + pageSize, groupIds.size());
+
+        return GroupPageResponseDto.builder()
+                .groups(toGroupResponses(groupIds.subList(from, to)))
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements((long) groupIds.size())
+                .hasNext(to < groupIds.size())
+                .build();
+    }
+
+    /**
+     * 그룹 일정 화면에 표시할 사용자 이름 (프로필 닉네임, 없으면 회원 이름)
+     */
+    @Transactional(readOnly = true)
+    public String getDisplayName(Integer userId) {
+        if (userId == null) {
+            return null;
+        }
+        return profileRepository.findByUserId(userId)
+                .map(Profile::getNickname)
+                .or(() -> userRepository.findById(userId).map(User::getName))
+                .orElse(null);
+    }
+
+    /**
+     * 사용자가 그룹 URL의 활성 멤버인지 확인합니다.
+     * URL -> 그룹 ID, 사용자 -> 소속 그룹 ID 모두 캐시에서 확인하므로 WebSocket 프레임마다 호출해도 DB를 조회하지 않습니다.
+     * (트랜잭션을 열면 커넥션을 잡으므로 트랜잭션 없이 실행합니다.)
+     */
+    public boolean isMember(Integer userId, String groupUrl) {
+        if (userId == null) {
+            return false;
+        }
+        return groupUrlResolver.findGroupId(groupUrl)
+                .map(groupId -> getMyGroupIds(userId).contains(groupId))
+                .orElse(false);
+    }
+
+    /**
+     * 사용자가 활성 멤버로 속한 그룹 ID 목록 (캐시 미스 시 group_member 인덱스 조회 한 번)
+     */
+    private List<Integer> getMyGroupIds(Integer userId) {
+        return groupMembershipCache.getGroupIds(userId, () -> {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("User not found");
+            }
+            return groupMemberRepository.findActiveGroupIdsByUserId(userId);
+        });
+    }
+
+    private List<GroupResponseDto> toGroupResponses(List<Integer> groupIds) {
+        if (groupIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, GroupEntity> groupsById = groupRepository.findAllWithHostByIdIn(groupIds).stream()
+                .collect(Collectors.toMap(GroupEntity::getId, Function.identity()));
+
+        // 그룹 ID 목록 순서 유지
+        return groupIds.stream()
+                .map(groupsById::get)
+                .filter(Objects::nonNull)
                 .map(GroupResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -155,6 +237,59 @@ public class GroupService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 그룹의 일정(장소 포함)과 활성 멤버를 한 번에 조회합니다.
+     * 일정 수와 관계없이 그룹, 일정, 장소(IN), 멤버+사용자, 프로필(IN) 다섯 번의 쿼리로 끝나며
+     * 장소와 프로필은 메모리에서 일정/사용자별로 묶습니다.
+     */
+    @Transactional(readOnly = true)
+    public GroupAggregateResponseDto getGroupAggregate(Integer userId, Integer groupId) {
+        if (!getMyGroupIds(userId).contains(groupId)) {
+            throw new IllegalArgumentException("그룹 멤버만 조회할 수 있습니다: " + groupId);
+        }
+        GroupEntity group = findGroupById(groupId);
+
+        // 일정 조회 후 장소를 한 번에 조회해 일정별로 묶음 (일정이 먼저 로딩되어 있어 장소의 일정 참조는 추가 조회 없음)
+        List<Plan> plans = planRepository.findByGroupId(groupId);
+        Map<Integer, List<PlaceResponseDto>> placesByPlan = plans.isEmpty() ? Map.of()
+                : placeRepository.findByPlanIdInOrderByOrder(plans.stream().map(Plan::getPlanId).toList()).stream()
+                        .collect(Collectors.groupingBy(place -> place.getPlan().getPlanId(),
+                                Collectors.mapping(PlaceResponseDto::fromEntityWithDay, Collectors.toList())));
+        List<PlanDetailResponseDto> planDtos = plans.stream()
+                .map(plan -> PlanDetailResponseDto.fromEntity(plan, placesByPlan.getOrDefault(plan.getPlanId(), List.of())))
+                .collect(Collectors.toList());
+
+        // 멤버는 사용자와 함께 조회하고 프로필은 한 번에 조회
+        List<GroupMember> members = groupMemberRepository.findByGroupAndIsActiveTrue(group);
+        Map<Integer, Profile> profilesByUser = members.isEmpty() ? Map.of()
+                : profileRepository.findByUserIdIn(members.stream().map(member -> member.getUser().getUserId()).toList()).stream()
+                        .collect(Collectors.toMap(Profile::getUserId, Function.identity(), (first, second) -> first));
+        Integer hostId = group.getHost().getUserId();
+        Map<Integer, GroupMemberResponseDto> memberDtos = new LinkedHashMap<>();
+        for (GroupMember member : members) {
+            User user = member.getUser();
+            Profile profile = profilesByUser.get(user.getUserId());
+            memberDtos.putIfAbsent(user.getUserId(), GroupMemberResponseDto.builder()
+                    .userId(user.getUserId())
+                    .name(user.getName())
+                    .nickname(profile != null ? profile.getNickname() : null)
+                    .profileImage(profile != null ? profile.getProfileImage() : null)
+                    .joinedAt(member.getJoinedAt())
+                    .isHost(user.getUserId().equals(hostId))
+                    .build());
+        }
+
+        GroupResponseDto groupDto = GroupResponseDto.fromEntity(group);
+        groupDto.setPlanIds(plans.stream().map(Plan::getPlanId).collect(Collectors.toList()));
+
+        log.info("그룹 묶음 조회 완료: 그룹 ID {}, 일정 {}개, 멤버 {}명", groupId, planDtos.size(), memberDtos.size());
+        return GroupAggregateResponseDto.builder()
+                .group(groupDto)
+                .plans(planDtos)
+                .members(List.copyOf(memberDtos.values()))
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public GroupEntity findGroupById(Integer groupId) {
         return groupRepository.findById(groupId.longValue())
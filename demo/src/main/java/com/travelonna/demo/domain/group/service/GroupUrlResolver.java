@@ -0,0 +1,138 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.group.entity.GroupEntity;
+import com.travelonna.demo.domain.group.repository.GroupRepository;
+import com.travelonna.demo.global.util.ShortCodeCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 초대 URL -> 그룹 조회
+ * 새 URL은 그룹 ID와 비밀 키(group.invite-code.secret)로 만든 서명된 단축 코드이므로 디코딩만으로 ID를 얻고,
+ * 그 밖의 URL(기존 URL)은 url 컬럼으로 한 번 조회한 뒤 URL -> 그룹 ID를 메모리에 캐시합니다.
+ * 비밀 키가 설정되지 않았으면 jwt.secret에서 초대 코드 전용 키를 만들어 사용하므로, 새 URL은 항상 그룹 ID에서 만들어집니다.
+ * 그룹 URL은 생성 후 바뀌지 않으므로 캐시 무효화가 필요 없습니다.
+ * 없는 URL은 짧은 시간(group.url-cache.miss-ttl-ms) 동안 기억해 같은 URL로 반복 요청해도 DB를 다시 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+public class GroupUrlResolver {
+
+    private static final int MAX_CACHED_URLS = 10_000;
+    private static final int MAX_CACHED_MISSES = 10_000;
+
+    // jwt.secret에서 초대 코드 키를 만들 때 붙이는 용도 구분 값 (토큰 서명 키와 같은 키를 쓰지 않도록)
+    private static final String DERIVED_KEY_PURPOSE = ":group-invite-code";
+
+    private final GroupRepository groupRepository;
+
+    private final ShortCodeCodec codec;
+    private final long missTtlMillis;
+
+    // URL -> 그룹 ID
+    private final Map<String, Integer> groupIdByUrl = Collections.synchronizedMap(
+            new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return size() > MAX_CACHED_URLS;
+                }
+            });
+
+    // 없는 URL -> 확인한 시각
+    private final Map<String, Long> missedAt = Collections.synchronizedMap(
+            new LinkedHashMap<String, Long>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_CACHED_MISSES;
+                }
+            });
+
+    public GroupUrlResolver(GroupRepository groupRepository,
+                            @Value("${group.invite-code.secret:}") String secret,
+                            @Value("${jwt.secret:}") String jwtSecret,
+                            @Value("${group.url-cache.miss-ttl-ms:60000}") long missTtlMillis) {
+        this.groupRepository = groupRepository;
+        this.missTtlMillis = missTtlMillis;
+        if (secret != null && !secret.isBlank()) {
+            this.codec = new ShortCodeCodec(secret);
+        } else if (jwtSecret != null && !jwtSecret.isBlank()) {
+            log.info("group.invite-code.secret이 설정되지 않아 jwt.secret에서 만든 키로 초대 URL을 생성합니다.");
+            this.codec = new ShortCodeCodec(jwtSecret + DERIVED_KEY_PURPOSE);
+        } else {
+            throw new IllegalStateException("그룹 초대 코드 비밀 키가 없습니다: group.invite-code.secret 또는 jwt.secret을 설정하세요.");
+        }
+    }
+
+    /**
+     * 새 그룹의 초대 URL을 생성합니다.
+     * 그룹 ID마다 서로 다른 값이 나오므로 중복 검사가 필요 없습니다.
+     */
+    public String createUrl(Integer groupId) {
+        String url = codec.encode(groupId);
+        missedAt.remove(url);
+        return url;
+    }
+
+    public Optional<GroupEntity> findByUrl(String url) {
+        if (url == null || url.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Integer groupId = groupIdByUrl.get(url);
+        if (groupId == null && isRecentMiss(url)) {
+            return Optional.empty();
+        }
+        if (groupId == null) {
+            groupId = codec.decode(url);
+        }
+
+        if (groupId != null) {
+            Optional<GroupEntity> group = groupRepository.findById(groupId.longValue())
+                    .filter(found -> url.equals(found.getUrl()));
+            if (group.isPresent()) {
+                groupIdByUrl.put(url, groupId);
+                return group;
+            }
+        }
+
+        // 기존 방식으로 생성된 URL
+        Optional<GroupEntity> group = groupRepository.findByUrl(url);
+        if (group.isPresent()) {
+            groupIdByUrl.put(url, group.get().getId());
+        } else {
+            missedAt.put(url, System.currentTimeMillis());
+        }
+        return group;
+    }
+
+    /**
+     * URL의 그룹 ID를 반환합니다. 한 번 확인한 URL은 캐시에서 바로 반환하므로 DB를 조회하지 않습니다.
+     */
+    public Optional<Integer> findGroupId(String url) {
+        Integer groupId = url != null ? groupIdByUrl.get(url) : null;
+        if (groupId != null) {
+            return Optional.of(groupId);
+        }
+        return findByUrl(url).map(GroupEntity::getId);
+    }
+
+    private boolean isRecentMiss(String url) {
+        Long checkedAt = missedAt.get(url);
+        if (checkedAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - checkedAt >= missTtlMillis) {
+            missedAt.remove(url);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,480 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.travelonna.demo.domain.group.crdt.CrdtOperation;
+import com.travelonna.demo.domain.group.crdt.PlanDocument;
+import com.travelonna.demo.domain.group.crdt.PlanDocument.DirtyPlace;
+import com.travelonna.demo.domain.group.crdt.PlanDocument.DirtyState;
+import com.travelonna.demo.domain.group.crdt.Stamp;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.plan.dto.MergedPlaceChangeDto;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.plan.service.PlaceService;
+import com.travelonna.demo.global.util.FractionalIndex;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 일정 장소 목록의 동시 편집 병합
+ * 장소 편집 메시지(PLACE_*)를 일정별 CRDT 문서에 적용하고, 타임스탬프와 정렬 위치가 확정된
+ * 작업으로 content를 바꿔 전달합니다. 다른 노드에서 확정된 작업은 그대로 적용합니다.
+ * 이 노드에서 받은 변경은 주기적으로 Place 행에 압축 반영하며, 반영 후 더 이상 변경이 없으면
+ * 문서를 내려 다음 편집 때 REST로 바뀐 내용까지 포함해 DB에서 다시 읽습니다.
+ * 작업은 메시지를 보낸 그룹(/app/plan/{groupUrl})에 속한 일정에만 적용하며, 다른 일정이면 문서를 읽기 전에 거부합니다.
+ *
+ * 작업 content 형식
+ * - PLACE_UPDATE: {"fields": {"name": "...", "memo": "...", "placeCost": 10000, ...}}
+ * - PLACE_INSERT, PLACE_MOVE: {"afterPlaceId": 1} 또는 {"beforePlaceId": 2} (없으면 맨 끝)
+ *   장소는 REST로 먼저 생성하고 PLACE_INSERT로 목록 안 위치를 정합니다.
+ * - PLACE_DELETE: {}
+ * 확정된 content: {"fields": {...}, "position": "V", "deleted": true, "stamp": {"counter": 3, "replica": "a1b2c3d4"}}
+ */
+@Slf4j
+@Component
+public class PlanCrdtService {
+
+    public static final String PLACE_INSERT = "PLACE_INSERT";
+    public static final String PLACE_MOVE = "PLACE_MOVE";
+    public static final String PLACE_UPDATE = "PLACE_UPDATE";
+    public static final String PLACE_DELETE = "PLACE_DELETE";
+
+    private static final Set<String> TYPES = Set.of(PLACE_INSERT, PLACE_MOVE, PLACE_UPDATE, PLACE_DELETE);
+
+    // PlaceService.updatePlace와 같은 필드 이름 (순서는 위치로 관리하므로 제외)
+    private static final Set<String> EDITABLE_FIELDS =
+            Set.of("place", "isPublic", "visitDate", "placeCost", "memo", "lat", "lon", "name", "googleId");
+
+    private static final Set<String> REQUIRED_FIELDS = Set.of("place", "name");
+
+    private final PlaceRepository placeRepository;
+    private final PlanRepository planRepository;
+    private final PlaceService placeService;
+    private final GroupUrlResolver groupUrlResolver;
+    private final ObjectMapper objectMapper;
+    private final long idleMillis;
+
+    // 노드 식별자 (같은 카운터의 작업 순서를 노드 간에 동일하게 정함)
+    private final String replica = UUID.randomUUID().toString().substring(0, 8);
+
+    // 일정 ID -> 문서
+    private final Map<Integer, DocumentHolder> documents = new ConcurrentHashMap<>();
+
+    public PlanCrdtService(PlaceRepository placeRepository,
+                           PlanRepository planRepository,
+                           PlaceService placeService,
+                           GroupUrlResolver groupUrlResolver,
+                           ObjectMapper objectMapper,
+                           @Value("${plan.crdt.idle-evict-ms:60000}") long idleMillis) {
+        this.placeRepository = placeRepository;
+        this.planRepository = planRepository;
+        this.placeService = placeService;
+        this.groupUrlResolver = groupUrlResolver;
+        this.objectMapper = objectMapper;
+        this.idleMillis = idleMillis;
+    }
+
+    public boolean supports(String type) {
+        return type != null && TYPES.contains(type);
+    }
+
+    /**
+     * 이 노드에서 받은 장소 편집 작업을 적용합니다.
+     *
+     * @param groupUrl 메시지를 받은 그룹 URL (일정이 이 그룹에 속해야 함)
+     * @return 확정된 작업으로 content를 바꾼 메시지, 적용할 수 없는 작업이면 null
+     */
+    public PlanUpdateMessage apply(String groupUrl, PlanUpdateMessage message) {
+        if (message.getPlanId() == null || message.getPlaceId() == null) {
+            log.warn("일정/장소 ID가 없는 편집 작업은 적용할 수 없습니다: type={}", message.getType());
+            return null;
+        }
+
+        try {
+            Integer planId = Math.toIntExact(message.getPlanId());
+            Integer placeId = Math.toIntExact(message.getPlaceId());
+
+            // 다른 그룹의 일정이면 문서를 읽기 전에 거부
+            Integer groupId = groupUrlResolver.findGroupId(groupUrl).orElse(null);
+            if (groupId == null || !groupId.equals(groupIdOf(planId))) {
+                log.warn("그룹에 속하지 않은 일정의 편집 작업입니다: groupUrl={}, 일정 ID {}", groupUrl, planId);
+                return null;
+            }
+
+            JsonNode content = parse(message.getContent());
+
+            CrdtOperation operation = withDocument(planId, document -> {
+                if (!ensureElement(document, planId, placeId)) {
+                    return null;
+                }
+                CrdtOperation resolved = resolve(document, message.getType(), placeId, content);
+                document.apply(resolved, true);
+                return resolved;
+            });
+
+            if (operation == null) {
+                log.warn("일정에 없는 장소의 편집 작업입니다: 일정 ID {}, 장소 ID {}", planId, placeId);
+                return null;
+            }
+            return message.toBuilder().content(toContent(operation)).build();
+        } catch (Exception e) {
+            log.warn("편집 작업을 적용할 수 없습니다: type={}, content={}", message.getType(), message.getContent(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 다른 노드에서 확정된 작업을 적용합니다. 압축은 작업을 받은 노드가 담당합니다.
+     */
+    public void applyRemote(PlanUpdateMessage message) {
+        if (!supports(message.getType()) || message.getPlanId() == null || message.getPlaceId() == null) {
+            return;
+        }
+
+        try {
+            Integer planId = Math.toIntExact(message.getPlanId());
+            Integer placeId = Math.toIntExact(message.getPlaceId());
+            CrdtOperation operation = fromContent(placeId, parse(message.getContent()));
+            if (operation == null) {
+                return;
+            }
+
+            withDocument(planId, document -> {
+                if (ensureElement(document, planId, placeId)) {
+                    document.apply(operation, false);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("다른 노드의 편집 작업을 적용할 수 없습니다: type={}", message.getType(), e);
+        }
+    }
+
+    /**
+     * 이 노드에서 병합된 변경을 Place 행에 반영합니다.
+     * 변경이 없는 문서는 마지막 사용 후 idleMillis가 지나면 내립니다.
+     */
+    @Scheduled(fixedDelayString = "${plan.crdt.compact-interval-ms:5000}")
+    public synchronized void compact() {
+        long now = System.currentTimeMillis();
+
+        for (Iterator<Map.Entry<Integer, DocumentHolder>> it = documents.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, DocumentHolder> entry = it.next();
+            Integer planId = entry.getKey();
+            DocumentHolder holder = entry.getValue();
+            PlanDocument document = holder.document;
+
+            DirtyState dirty;
+            long modCount;
+            synchronized (document) {
+                if (!document.isDirty()) {
+                    if (now - holder.lastAccessedAt > idleMillis) {
+                        holder.retired = true;
+                        it.remove();
+                    }
+                    continue;
+                }
+                dirty = document.takeDirty();
+                modCount = document.getModCount();
+            }
+
+            try {
+                placeService.applyMergedState(planId, toChanges(dirty), dirty.getOrderedPlaceIds());
+            } catch (Exception e) {
+                log.warn("병합된 장소 상태 반영 실패, 다음 주기에 재시도합니다: 일정 ID {}", planId, e);
+                synchronized (document) {
+                    document.restoreDirty(dirty);
+                }
+                continue;
+            }
+
+            synchronized (document) {
+                // 반영하는 동안 새 작업이 없었으면 문서를 내림
+                if (document.getModCount() == modCount && !document.isDirty()) {
+                    holder.retired = true;
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compact();
+    }
+
+    /**
+     * 메모리에 있는 일정 문서 (테스트/진단용)
+     */
+    PlanDocument findDocument(Integer planId) {
+        DocumentHolder holder = documents.get(planId);
+        return holder != null ? holder.document : null;
+    }
+
+    private <T> T withDocument(Integer planId, Function<PlanDocument, T> action) {
+        while (true) {
+            DocumentHolder holder = documents.get(planId);
+            if (holder == null) {
+                DocumentHolder loaded = new DocumentHolder(load(planId), findGroupId(planId));
+                holder = documents.putIfAbsent(planId, loaded);
+                if (holder == null) {
+                    holder = loaded;
+                }
+            }
+
+            synchronized (holder.document) {
+                // 압축 후 내려간 문서면 새로 읽은 문서로 다시 시도
+                if (holder.retired) {
+                    continue;
+                }
+                holder.lastAccessedAt = System.currentTimeMillis();
+                return action.apply(holder.document);
+            }
+        }
+    }
+
+    /**
+     * 일정이 속한 그룹 ID (메모리에 문서가 있으면 문서를 읽을 때 확인한 값을 사용)
+     * 일정의 그룹은 생성 후 바뀌지 않습니다.
+     */
+    private Integer groupIdOf(Integer planId) {
+        DocumentHolder holder = documents.get(planId);
+        return holder != null ? holder.groupId : findGroupId(planId);
+    }
+
+    private Integer findGroupId(Integer planId) {
+        return planRepository.findGroupIdByPlanId(planId).orElse(null);
+    }
+
+    private PlanDocument load(Integer planId) {
+        List<Place> places = new ArrayList<>(placeRepository.findByPlanIdOrderByOrder(planId));
+
+        // 일차(방문 날짜) -> 일차 내 순서 -> ID 순으로 일정 전체의 순서를 정함
+        places.sort((a, b) -> {
+            if (a.getVisitDate() == null || b.getVisitDate() == null) {
+                if (a.getVisitDate() != b.getVisitDate()) {
+                    return a.getVisitDate() == null ? 1 : -1;
+                }
+            } else {
+                int byDay = a.getVisitDate().toLocalDate().compareTo(b.getVisitDate().toLocalDate());
+                if (byDay != 0) {
+                    return byDay;
+                }
+            }
+            int byOrder = Integer.compare(a.getOrder(), b.getOrder());
+            return byOrder != 0 ? byOrder : Integer.compare(a.getPlaceId(), b.getPlaceId());
+        });
+
+        PlanDocument document = new PlanDocument(planId);
+        List<String> positions = FractionalIndex.sequence(places.size());
+        for (int i = 0; i < places.size(); i++) {
+            document.load(places.get(i).getPlaceId(), fieldsOf(places.get(i)), positions.get(i));
+        }
+        log.debug("일정 편집 문서 적재: 일정 ID {}, 장소 수 {}", planId, places.size());
+        return document;
+    }
+
+    /**
+     * 문서를 읽은 뒤 REST로 추가된 장소면 DB에서 읽어 맨 끝에 추가합니다.
+     */
+    private boolean ensureElement(PlanDocument document, Integer planId, Integer placeId) {
+        if (document.contains(placeId)) {
+            return true;
+        }
+        return placeRepository.findByPlaceIdAndPlan_PlanId(placeId, planId)
+                .map(place -> {
+                    document.load(placeId, fieldsOf(place), document.positionAtEnd());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private CrdtOperation resolve(PlanDocument document, String type, Integer placeId, JsonNode content) {
+        Stamp stamp = document.nextStamp(replica);
+        switch (type) {
+            case PLACE_UPDATE:
+                return new CrdtOperation(placeId, validateFields(content.get("fields")), null, false, stamp);
+            case PLACE_INSERT:
+            case PLACE_MOVE:
+                String position = document.resolvePosition(placeId,
+                        optionalInt(content, "afterPlaceId"), optionalInt(content, "beforePlaceId"));
+                return new CrdtOperation(placeId, null, position, false, stamp);
+            case PLACE_DELETE:
+                return new CrdtOperation(placeId, null, null, true, stamp);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 편집 작업입니다: " + type);
+        }
+    }
+
+    private Map<String, JsonNode> validateFields(JsonNode fieldsNode) {
+        if (fieldsNode == null || !fieldsNode.isObject() || fieldsNode.isEmpty()) {
+            throw new IllegalArgumentException("수정할 필드가 없습니다.");
+        }
+
+        Map<String, JsonNode> fields = new HashMap<>();
+        fieldsNode.fields().forEachRemaining(entry -> {
+            toFieldValue(entry.getKey(), entry.getValue());
+            fields.put(entry.getKey(), entry.getValue());
+        });
+        return fields;
+    }
+
+    /**
+     * JSON 필드 값을 Place 필드 타입으로 변환합니다.
+     */
+    private Object toFieldValue(String field, JsonNode value) {
+        if (!EDITABLE_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("수정할 수 없는 장소 필드입니다: " + field);
+        }
+        if (value == null || value.isNull()) {
+            if (REQUIRED_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("필수 장소 필드입니다: " + field);
+            }
+            return null;
+        }
+
+        switch (field) {
+            case "isPublic":
+                if (!value.isBoolean()) {
+                    throw new IllegalArgumentException("isPublic은 true/false여야 합니다.");
+                }
+                return value.booleanValue();
+            case "placeCost":
+                if (!value.canConvertToInt() || !value.isIntegralNumber()) {
+                    throw new IllegalArgumentException("placeCost는 정수여야 합니다.");
+                }
+                return value.intValue();
+            case "lat":
+            case "lon":
+                if (!value.isNumber()) {
+                    throw new IllegalArgumentException(field + "는 숫자여야 합니다.");
+                }
+                return value.doubleValue();
+            case "visitDate":
+                return LocalDate.parse(value.asText()).atStartOfDay();
+            default:
+                if (!value.isTextual()) {
+                    throw new IllegalArgumentException(field + "는 문자열이어야 합니다.");
+                }
+                return value.textValue();
+        }
+    }
+
+    private Map<String, JsonNode> fieldsOf(Place place) {
+        JsonNodeFactory nodes = JsonNodeFactory.instance;
+        Map<String, JsonNode> fields = new HashMap<>();
+        fields.put("place", nodes.textNode(place.getPlace()));
+        fields.put("name", nodes.textNode(place.getName()));
+        fields.put("isPublic", place.getIsPublic() != null ? nodes.booleanNode(place.getIsPublic()) : NullNode.instance);
+        fields.put("visitDate", place.getVisitDate() != null
+                ? nodes.textNode(place.getVisitDate().toLocalDate().toString()) : NullNode.instance);
+        fields.put("placeCost", place.getPlaceCost() != null ? nodes.numberNode(place.getPlaceCost()) : NullNode.instance);
+        fields.put("memo", place.getMemo() != null ? nodes.textNode(place.getMemo()) : NullNode.instance);
+        fields.put("lat", place.getLat() != null ? nodes.numberNode(place.getLat()) : NullNode.instance);
+        fields.put("lon", place.getLon() != null ? nodes.numberNode(place.getLon()) : NullNode.instance);
+        fields.put("googleId", place.getGoogleId() != null ? nodes.textNode(place.getGoogleId()) : NullNode.instance);
+        return fields;
+    }
+
+    private List<MergedPlaceChangeDto> toChanges(DirtyState dirty) {
+        List<MergedPlaceChangeDto> changes = new ArrayList<>();
+        for (DirtyPlace place : dirty.getPlaces()) {
+            Map<String, Object> fields = new HashMap<>();
+            place.getFields().forEach((field, value) -> fields.put(field, toFieldValue(field, value)));
+            changes.add(new MergedPlaceChangeDto(place.getPlaceId(), fields, place.isDeleted()));
+        }
+        return changes;
+    }
+
+    private ObjectNode toContent(CrdtOperation operation) {
+        ObjectNode content = objectMapper.createObjectNode();
+        if (operation.getFields() != null) {
+            ObjectNode fields = content.putObject("fields");
+            operation.getFields().forEach(fields::set);
+        }
+        if (operation.getPosition() != null) {
+            content.put("position", operation.getPosition());
+        }
+        if (operation.isDelete()) {
+            content.put("deleted", true);
+        }
+        ObjectNode stamp = content.putObject("stamp");
+        stamp.put("counter", operation.getStamp().getCounter());
+        stamp.put("replica", operation.getStamp().getReplica());
+        return content;
+    }
+
+    private CrdtOperation fromContent(Integer placeId, JsonNode content) {
+        JsonNode stampNode = content.get("stamp");
+        if (stampNode == null || !stampNode.has("counter") || !stampNode.has("replica")) {
+            return null;
+        }
+        Stamp stamp = new Stamp(stampNode.get("counter").asLong(), stampNode.get("replica").asText());
+
+        Map<String, JsonNode> fields = null;
+        if (content.has("fields")) {
+            fields = validateFields(content.get("fields"));
+        }
+
+        String position = null;
+        if (content.hasNonNull("position")) {
+            position = content.get("position").asText();
+            if (!FractionalIndex.isValid(position)) {
+                throw new IllegalArgumentException("올바르지 않은 위치입니다: " + position);
+            }
+        }
+        return new CrdtOperation(placeId, fields, position, content.path("deleted").asBoolean(false), stamp);
+    }
+
+    private JsonNode parse(JsonNode content) throws Exception {
+        if (content == null || content.isNull() || (content.isTextual() && content.textValue().isBlank())) {
+            return objectMapper.createObjectNode();
+        }
+        JsonNode node = content.isTextual() ? objectMapper.readTree(content.textValue()) : content;
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("편집 작업 content는 JSON 객체여야 합니다.");
+        }
+        return node;
+    }
+
+    private static Integer optionalInt(JsonNode content, String field) {
+        JsonNode value = content.get(field);
+        return value != null && value.canConvertToInt() ? value.intValue() : null;
+    }
+
+    private static class DocumentHolder {
+        private final PlanDocument document;
+        // 일정이 속한 그룹 ID (그룹 일정이 아니면 null)
+        private final Integer groupId;
+        private volatile long lastAccessedAt = System.currentTimeMillis();
+
+        // 맵에서 제거된 문서 (문서 잠금 안에서 설정)
+        private boolean retired;
+
+        DocumentHolder(PlanDocument document, Integer groupId) {
+            this.document = document;
+            this.groupId = groupId;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.group.service.PlanPresenceRegistry.PresenceSync;
+import com.travelonna.demo.domain.plan.service.PlanDetailCache;
+import com.travelonna.demo.global.websocket.PlanMessageBridge;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 일정 메시지를 /topic/plan/{groupUrl} 구독자에게 전달합니다.
+ * 노드 간 브리지가 구성되어 있으면 다른 노드에도 메시지를 전달하고,
+ * 다른 노드에서 받은 메시지는 이 노드의 브로커로만 전달합니다.
+ * 같은 브리지로 노드별 접속자 목록과 일정 상세 캐시 제거 요청도 주고받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanMessageBroadcaster {
+
+    public static final String TOPIC_PREFIX = "/topic/plan/";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<PlanMessageBridge> bridgeProvider;
+    private final PlanOperationLog planOperationLog;
+    private final PlanCrdtService planCrdtService;
+    private final ObjectProvider<PlanPresenceRegistry> presenceRegistryProvider;
+    private final ObjectProvider<PlanDetailCache> planDetailCacheProvider;
+
+    // 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private PlanMessageBridge bridge;
+
+    @PostConstruct
+    public void init() {
+        bridge = bridgeProvider.getIfAvailable();
+        if (bridge != null) {
+            bridge.subscribe(this::onBridgeMessage);
+            log.info("노드 간 메시지 브리지 구독 시작: nodeId={}", nodeId);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean hasBridge() {
+        return bridge != null;
+    }
+
+    /**
+     * 그룹 구독자 전체(다른 노드 포함)에게 메시지를 전달합니다.
+     */
+    public void broadcast(String groupUrl, PlanUpdateMessage message) {
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + groupUrl, message);
+
+        if (bridge == null) {
+            return;
+        }
+
+        try {
+            bridge.publish(objectMapper.writeValueAsString(new BridgeEnvelope(nodeId, groupUrl, message, null, null)));
+        } catch (Exception e) {
+            // 브리지 장애가 있어도 같은 노드 사용자에게는 전달되도록 로그만 남깁니다.
+            log.warn("노드 간 메시지 전달 실패: groupUrl={}, type={}", groupUrl, message.getType(), e);
+        }
+    }
+
+    /**
+     * 이 노드의 접속자 목록을 다른 노드에 발행합니다. 브리지가 없으면 아무것도 하지 않습니다.
+     */
+    public void publishPresence(PresenceSync presence) {
+        if (bridge == null) {
+            return;
+        }
+
+        try {
+            bridge.publish(objectMapper.writeValueAsString(new BridgeEnvelope(nodeId, presence.getGroupUrl(), null, presence, null)));
+        } catch (Exception e) {
+            log.warn("노드 간 접속자 목록 전달 실패: groupUrl={}", presence.getGroupUrl(), e);
+        }
+    }
+
+    /**
+     * 일정 상세 캐시 제거를 다른 노드에 요청합니다. 브리지가 없으면 아무것도 하지 않습니다.
+     */
+    public void publishPlanEviction(Integer planId) {
+        if (bridge == null) {
+            return;
+        }
+
+        try {
+            bridge.publish(objectMapper.writeValueAsString(new BridgeEnvelope(nodeId, null, null, null, planId)));
+        } catch (Exception e) {
+            // 전달에 실패해도 다른 노드의 항목은 유효 시간이 지나면 다시 조회됩니다.
+            log.warn("노드 간 일정 캐시 제거 요청 전달 실패: planId={}", planId, e);
+        }
+    }
+
+    private void onBridgeMessage(String payload) {
+        BridgeEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(payload, BridgeEnvelope.class);
+        } catch (Exception e) {
+            log.warn("노드 간 메시지 역직렬화 실패: {}", payload, e);
+            return;
+        }
+
+        if (nodeId.equals(envelope.getOriginNodeId())) {
+            return;
+        }
+
+        // 다른 노드의 접속자 목록
+        if (envelope.getPresence() != null) {
+            PlanPresenceRegistry presenceRegistry = presenceRegistryProvider.getIfAvailable();
+            if (presenceRegistry != null) {
+                presenceRegistry.applyRemote(envelope.getOriginNodeId(), envelope.getPresence());
+            }
+            return;
+        }
+
+        // 다른 노드에서 변경된 일정의 상세 캐시 제거
+        if (envelope.getEvictedPlanId() != null) {
+            PlanDetailCache planDetailCache = planDetailCacheProvider.getIfAvailable();
+            if (planDetailCache != null) {
+                planDetailCache.evictLocal(envelope.getEvictedPlanId());
+            }
+            return;
+        }
+
+        if (envelope.getGroupUrl() == null || envelope.getMessage() == null) {
+            return;
+        }
+
+        // 다른 노드에서 확정된 장소 편집 작업은 이 노드의 CRDT 문서에도 병합
+        if (planCrdtService.supports(envelope.getMessage().getType())) {
+            planCrdtService.applyRemote(envelope.getMessage());
+        }
+
+        // 다른 노드에서 순번이 부여된 작업은 이 노드의 재생용 버퍼에도 반영
+        if (envelope.getMessage().getSeq() != null) {
+            planOperationLog.recordRemote(envelope.getGroupUrl(), envelope.getMessage());
+        }
+
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + envelope.getGroupUrl(), envelope.getMessage());
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BridgeEnvelope {
+        private String originNodeId;
+        private String groupUrl;
+        private PlanUpdateMessage message;
+        private PresenceSync presence;
+        private Integer evictedPlanId;
+    }
+}
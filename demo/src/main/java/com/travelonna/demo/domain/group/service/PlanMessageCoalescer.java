@@ -0,0 +1,105 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커서 이동, 입력 중 표시, 드래그 미리보기 같은 일시적인 메시지의 병합 단계
+ * 그룹마다 (보낸 사람, 메시지 유형)별 최신 메시지만 남기고 짧은 주기로 한 번에 전달합니다.
+ * 일정 편집처럼 유지되어야 하는 메시지는 이 단계를 거치지 않고 받은 순서대로 바로 전달됩니다.
+ */
+@Slf4j
+@Component
+public class PlanMessageCoalescer {
+
+    private final PlanMessageBroadcaster planMessageBroadcaster;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> ephemeralTypes;
+
+    // 그룹 URL -> ("보낸 사람:유형" -> 최신 메시지). 그룹 항목은 compute 안에서만 읽고 씁니다.
+    private final Map<String, Map<String, PlanUpdateMessage>> pendingByGroup = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public PlanMessageCoalescer(PlanMessageBroadcaster planMessageBroadcaster,
+                                MeterRegistry meterRegistry,
+                                @Value("${websocket.coalesce.types:CURSOR,TYPING,DRAG_PREVIEW}") String[] ephemeralTypes) {
+        this.planMessageBroadcaster = planMessageBroadcaster;
+        this.meterRegistry = meterRegistry;
+        this.ephemeralTypes = Set.of(ephemeralTypes);
+        meterRegistry.gauge("websocket.coalescer.pending", pendingCount);
+    }
+
+    public boolean isEphemeral(String type) {
+        return type != null && ephemeralTypes.contains(type);
+    }
+
+    /**
+     * 일시적인 메시지를 병합 대기열에 넣습니다. 같은 사람의 같은 유형 메시지가 대기 중이면 새 메시지로 교체됩니다.
+     *
+     * @param senderKey 보낸 사람 식별자 (사용자 ID가 없으면 세션 ID)
+     */
+    public void offer(String groupUrl, PlanUpdateMessage message, String senderKey) {
+        String key = (message.getUserId() != null ? "u" + message.getUserId() : "s" + senderKey) + ":" + message.getType();
+
+        boolean[] replaced = new boolean[1];
+        pendingByGroup.compute(groupUrl, (url, pending) -> {
+            Map<String, PlanUpdateMessage> messages = pending != null ? pending : new LinkedHashMap<>();
+            replaced[0] = messages.put(key, message) != null;
+            return messages;
+        });
+
+        counter("websocket.coalescer.received", message.getType()).increment();
+        if (replaced[0]) {
+            counter("websocket.coalescer.coalesced", message.getType()).increment();
+        } else {
+            pendingCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 그룹별로 대기 중인 최신 메시지를 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.coalesce.flush-interval-ms:50}")
+    public void flush() {
+        for (String groupUrl : pendingByGroup.keySet()) {
+            List<PlanUpdateMessage> drained = new ArrayList<>();
+            pendingByGroup.computeIfPresent(groupUrl, (url, pending) -> {
+                drained.addAll(pending.values());
+                return null;
+            });
+            if (drained.isEmpty()) {
+                continue;
+            }
+
+            pendingCount.addAndGet(-drained.size());
+            for (PlanUpdateMessage message : drained) {
+                try {
+                    planMessageBroadcaster.broadcast(groupUrl, message);
+                    counter("websocket.coalescer.delivered", message.getType()).increment();
+                } catch (Exception e) {
+                    log.warn("일시적인 메시지 전달 실패: groupUrl={}, type={}", groupUrl, message.getType(), e);
+                }
+            }
+        }
+    }
+
+    private Counter counter(String name, String type) {
+        return meterRegistry.counter(name, "type", type);
+    }
+}
@@ -0,0 +1,113 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 일정 메시지를 그룹 URL별로 순서대로 처리하는 디스패처
+ * 그룹 URL의 해시로 고정된 개수의 단일 스레드 레인 중 하나를 고르므로
+ * 같은 그룹의 메시지는 받은 순서대로 하나씩 처리되고, 다른 그룹의 메시지는 여러 레인에서 병렬로 처리됩니다.
+ */
+@Slf4j
+@Component
+public class PlanMessageDispatcher {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Counter rejected;
+
+    public PlanMessageDispatcher(@Value("${websocket.dispatch.lanes:0}") int laneCount,
+                                 @Value("${websocket.dispatch.lane-queue-capacity:10000}") int laneQueueCapacity,
+                                 MeterRegistry meterRegistry) {
+        // 0 이하이면 코어 수만큼 레인을 둡니다.
+        int size = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ThreadPoolExecutor[size];
+        for (int i = 0; i < size; i++) {
+            lanes[i] = newLane(i, laneQueueCapacity);
+        }
+
+        this.rejected = Counter.builder("websocket.dispatch.rejected")
+                .description("레인 대기열이 가득 차 처리하지 못한 그룹 일정 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.dispatch.queue.size", this, PlanMessageDispatcher::queueSize)
+                .description("레인에서 처리를 기다리는 그룹 일정 메시지 수")
+                .register(meterRegistry);
+        log.info("그룹 일정 메시지 레인 {}개 구성", size);
+    }
+
+    /**
+     * 그룹의 레인에서 작업을 실행합니다. 같은 그룹의 작업은 넘긴 순서대로 실행됩니다.
+     *
+     * @return 레인 대기열이 가득 차 작업을 받지 못했으면 false
+     */
+    public boolean dispatch(String groupUrl, Runnable task) {
+        try {
+            lanes[laneOf(groupUrl)].execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("그룹 일정 메시지 처리 실패: groupUrl={}", groupUrl, e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("그룹 일정 메시지 레인이 가득 차 메시지를 버립니다: groupUrl={}", groupUrl);
+            return false;
+        }
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    int laneOf(String groupUrl) {
+        return Math.floorMod(groupUrl.hashCode(), lanes.length);
+    }
+
+    private int queueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            size += lane.getQueue().size();
+        }
+        return size;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadPoolExecutor newLane(int index, int queueCapacity) {
+        AtomicInteger created = new AtomicInteger();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "plan-lane-" + index + "-" + created.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,436 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.group.dto.PlanOperationReplayResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.group.entity.PlanOperation;
+import com.travelonna.demo.domain.group.repository.PlanOperationBatchRepository;
+import com.travelonna.demo.domain.group.repository.PlanOperationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 일정 편집 작업 로그
+ * 그룹별로 증가하는 순번을 부여하고, 최근 작업은 고정 크기 링 버퍼에 보관합니다.
+ * 여러 노드가 같은 그룹의 작업을 받는 모드에서는 공유 발급기(PlanSequenceAllocator)로 순번을 받아 노드끼리 겹치지 않게 하고,
+ * 단일 노드에서는 링 버퍼의 마지막 순번에서 이어서 부여합니다.
+ * 공유 발급기 호출은 그룹 로그 잠금 밖에서 하며, 발급을 기다리는 동안 같은 그룹에 들어온 작업들은 다음 한 번의 왕복으로 함께 순번을 받습니다.
+ * 작업은 대기 큐에 쌓였다가 주기적으로 JDBC 배치로 저장되며,
+ * 재접속한 클라이언트는 마지막으로 받은 순번 이후의 작업만 재생합니다.
+ */
+@Slf4j
+@Component
+public class PlanOperationLog {
+
+    private static final int MAX_GROUPS = 1_000;
+
+
+    private final PlanOperationRepository planOperationRepository;
+    private final PlanOperationBatchRepository planOperationBatchRepository;
+    // 공유 순번 발급기 (없으면 이 노드에서 직접 부여)
+    private final PlanSequenceAllocator sequenceAllocator;
+    private final int bufferSize;
+    private final int batchSize;
+    private final int maxReplay;
+    // 저장 대기 작업 상한 (DB 장애가 길어질 때 메모리 보호용, 이르면 순번을 부여하기 전에 새 편집을 거부)
+    private final int maxPending;
+    private final Counter rejected;
+
+    // 그룹 URL -> 그룹별 로그 (최근 사용 순)
+    private final Map<String, GroupLog> groupLogs;
+
+    // 저장 대기 작업 (그룹별 순번 순서를 유지)
+    private final LinkedBlockingDeque<PlanUpdateMessage> pending = new LinkedBlockingDeque<>();
+
+    // 저장 중인 작업. 대기 큐와 함께 pendingLock으로 보호합니다.
+    private List<PlanUpdateMessage> inFlight = List.of();
+    private final Object pendingLock = new Object();
+
+    public PlanOperationLog(PlanOperationRepository planOperationRepository,
+                            PlanOperationBatchRepository planOperationBatchRepository,
+                            ObjectProvider<PlanSequenceAllocator> sequenceAllocatorProvider,
+                            @Value("${plan.operation-log.buffer-size:500}") int bufferSize,
+                            @Value("${plan.operation-log.batch-size:200}") int batchSize,
+                            @Value("${plan.operation-log.max-replay:1000}") int maxReplay,
+                            @Value("${plan.operation-log.max-pending:50000}") int maxPending,
+                            MeterRegistry meterRegistry) {
+        this.planOperationRepository = planOperationRepository;
+        this.planOperationBatchRepository = planOperationBatchRepository;
+        this.sequenceAllocator = sequenceAllocatorProvider.getIfAvailable();
+        this.bufferSize = bufferSize;
+        this.batchSize = batchSize;
+        this.maxReplay = maxReplay;
+        this.maxPending = maxPending;
+        this.rejected = Counter.builder("plan.operation-log.rejected")
+                .description("저장 대기 작업이 상한에 이르러 거부한 편집 작업 수")
+                .register(meterRegistry);
+        this.groupLogs = Collections.synchronizedMap(new LinkedHashMap<String, GroupLog>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GroupLog> eldest) {
+                return size() > MAX_GROUPS;
+            }
+        });
+    }
+
+    /**
+     * 새 편집 작업을 받을 수 있는지 확인합니다. 순번 부여와 편집 반영 전에 호출합니다.
+     * 저장 대기 작업이 상한에 이르면 거부 건수를 기록하고 false를 반환합니다
+     * (이미 순번을 받아 전달된 작업은 버리지 않고, 저장이 따라잡을 때까지 새 편집을 받지 않음).
+     */
+    public boolean tryAdmit(String groupUrl) {
+        if (pending.size() < maxPending) {
+            return true;
+        }
+        rejected.increment();
+        log.warn("작업 로그 저장 대기 초과로 편집 작업을 거부합니다: groupUrl={}, 대기 {}건", groupUrl, pending.size());
+        return false;
+    }
+
+    /**
+     * 작업에 다음 순번을 부여해 로그에 추가합니다.
+     *
+     * @return 순번이 부여된 메시지
+     */
+    public PlanUpdateMessage append(String groupUrl, PlanUpdateMessage message) {
+        GroupLog groupLog = groupLog(groupUrl);
+
+        // 공유 발급기는 DB/Redis 왕복이므로 그룹 로그 잠금 밖에서 받음
+        Long allocated = sequenceAllocator != null ? allocate(groupUrl, groupLog) : null;
+
+        PlanUpdateMessage sequenced;
+        synchronized (groupLog) {
+            long seq = allocated != null ? allocated : groupLog.getLastSeq() + 1;
+            sequenced = message.toBuilder()
+                    .groupUrl(groupUrl)
+                    .seq(seq)
+                    .build();
+            groupLog.put(sequenced);
+            pending.addLast(sequenced);
+        }
+        return sequenced;
+    }
+
+    /**
+     * 공유 발급기에서 순번 하나를 받습니다.
+     * 발급 중인 요청이 있으면 기다렸다가, 그동안 쌓인 요청들과 함께 한 번의 왕복으로 연속된 순번을 예약합니다.
+     */
+    private long allocate(String groupUrl, GroupLog groupLog) {
+        SequenceBatch batch = groupLog.allocation;
+        SequenceRequest request = new SequenceRequest();
+        List<SequenceRequest> requests;
+        synchronized (batch) {
+            batch.waiting.addLast(request);
+            boolean interrupted = false;
+            while (!request.done && batch.allocating) {
+                try {
+                    batch.wait();
+                } catch (InterruptedException e) {
+                    // 대기 중인 요청도 순번을 받게 되므로 발급이 끝날 때까지 기다린 뒤 인터럽트 상태만 복원
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (request.done) {
+                return request.seq();
+            }
+            batch.allocating = true;
+            requests = new ArrayList<>(batch.waiting);
+            batch.waiting.clear();
+        }
+
+        long floor;
+        synchronized (groupLog) {
+            floor = groupLog.getLastSeq();
+        }
+
+        long last = 0;
+        RuntimeException failure = null;
+        try {
+            last = sequenceAllocator.reserve(groupUrl, floor, requests.size());
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        synchronized (batch) {
+            long first = last - requests.size() + 1;
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).complete(first + i, failure);
+            }
+            batch.allocating = false;
+            batch.notifyAll();
+        }
+        if (requests.size() > 1) {
+            log.debug("작업 순번 일괄 예약: groupUrl={}, {}건", groupUrl, requests.size());
+        }
+        return request.seq();
+    }
+
+    /**
+     * 다른 노드에서 순번이 부여된 작업을 이 노드의 링 버퍼에 반영합니다.
+     * 저장은 작업을 받은 노드가 담당하므로 대기 큐에는 넣지 않습니다.
+     */
+    public void recordRemote(String groupUrl, PlanUpdateMessage message) {
+        if (message.getSeq() == null) {
+            return;
+        }
+        GroupLog groupLog = groupLog(groupUrl);
+        synchronized (groupLog) {
+            groupLog.put(message);
+        }
+    }
+
+    /**
+     * sinceSeq 이후의 작업을 순번 순으로 반환합니다.
+     * 링 버퍼로 처리할 수 없는 범위는 DB에서 조회하고, 아직 저장되지 않은 최근 작업은 링 버퍼에서 이어 붙입니다.
+     */
+    public PlanOperationReplayResponseDto replay(String groupUrl, long sinceSeq) {
+        GroupLog groupLog = groupLog(groupUrl);
+
+        List<PlanUpdateMessage> operations;
+        long lastSeq;
+        synchronized (groupLog) {
+            operations = groupLog.since(sinceSeq, maxReplay);
+            lastSeq = groupLog.getLastSeq();
+        }
+
+        if (operations == null) {
+            operations = planOperationRepository
+                    .findByGroupUrlAndSeqGreaterThanOrderBySeqAsc(groupUrl, sinceSeq, PageRequest.of(0, maxReplay))
+                    .stream()
+                    .map(PlanOperation::toMessage)
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+            if (operations.size() < maxReplay) {
+                long lastStoredSeq = operations.isEmpty() ? sinceSeq : operations.get(operations.size() - 1).getSeq();
+                List<PlanUpdateMessage> recent;
+                synchronized (groupLog) {
+                    recent = groupLog.since(lastStoredSeq, maxReplay - operations.size());
+                    lastSeq = groupLog.getLastSeq();
+                }
+                if (recent != null) {
+                    operations.addAll(recent);
+                }
+            }
+            log.debug("작업 로그 DB 재생: groupUrl={}, sinceSeq={}, 작업 수 {}", groupUrl, sinceSeq, operations.size());
+        }
+
+        long lastReturnedSeq = operations.isEmpty() ? sinceSeq : operations.get(operations.size() - 1).getSeq();
+        return PlanOperationReplayResponseDto.builder()
+                .groupUrl(groupUrl)
+                .sinceSeq(sinceSeq)
+                .lastSeq(lastSeq)
+                .hasMore(lastReturnedSeq < lastSeq)
+                .operations(operations)
+                .build();
+    }
+
+    /**
+     * 저장 대기 작업을 배치 크기 단위로 저장합니다.
+     * 저장에 실패하면 작업을 대기 큐 앞쪽으로 되돌리고 다음 주기에 다시 시도합니다.
+     * 배치는 하나의 트랜잭션으로 저장되며, (그룹, 순번)이 이미 있으면 한 건씩 나눠 저장해 겹친 작업만 골라냅니다.
+     */
+    @Scheduled(fixedDelayString = "${plan.operation-log.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        while (true) {
+            List<PlanUpdateMessage> batch = new ArrayList<>(batchSize);
+            synchronized (pendingLock) {
+                pending.drainTo(batch, batchSize);
+                inFlight = batch;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                planOperationBatchRepository.insertAll(batch);
+                log.debug("작업 로그 저장: {}건", batch.size());
+            } catch (DuplicateKeyException e) {
+                insertOneByOne(batch);
+            } catch (Exception e) {
+                log.warn("작업 로그 저장 실패, 다음 주기에 재시도합니다: {}건", batch.size(), e);
+                synchronized (pendingLock) {
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        pending.addFirst(batch.get(i));
+                    }
+                    inFlight = List.of();
+                }
+                return;
+            }
+
+            synchronized (pendingLock) {
+                inFlight = List.of();
+            }
+        }
+    }
+
+    private void insertOneByOne(List<PlanUpdateMessage> batch) {
+        for (PlanUpdateMessage operation : batch) {
+            try {
+                planOperationBatchRepository.insertAll(List.of(operation));
+            } catch (DuplicateKeyException e) {
+                PlanOperation stored = planOperationRepository
+                        .findByGroupUrlAndSeq(operation.getGroupUrl(), operation.getSeq())
+                        .orElse(null);
+                if (stored != null && isSameOperation(stored, operation)) {
+                    // 이전 저장이 실제로는 반영된 경우 (커밋 응답 유실 등)
+                    log.debug("이미 저장된 작업: groupUrl={}, seq={}", operation.getGroupUrl(), operation.getSeq());
+                } else {
+                    log.error("작업 순번 충돌로 작업을 저장하지 못했습니다: groupUrl={}, seq={}, type={}, userId={}",
+                            operation.getGroupUrl(), operation.getSeq(), operation.getType(), operation.getUserId());
+                }
+            }
+        }
+    }
+
+    private static boolean isSameOperation(PlanOperation stored, PlanUpdateMessage operation) {
+        return Objects.equals(stored.getType(), operation.getType())
+                && Objects.equals(stored.getUserId(), operation.getUserId())
+                && Objects.equals(stored.getTimestamp(), operation.getTimestamp());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private GroupLog groupLog(String groupUrl) {
+        GroupLog existing = groupLogs.get(groupUrl);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 캐시에서 밀려난 그룹은 아직 저장되지 않은 작업이 있을 수 있으므로 대기 큐 -> 저장 중 -> DB 순으로 확인
+        long lastSeq = 0;
+        synchronized (pendingLock) {
+            for (PlanUpdateMessage operation : pending) {
+                if (groupUrl.equals(operation.getGroupUrl())) {
+                    lastSeq = Math.max(lastSeq, operation.getSeq());
+                }
+            }
+            for (PlanUpdateMessage operation : inFlight) {
+                if (groupUrl.equals(operation.getGroupUrl())) {
+                    lastSeq = Math.max(lastSeq, operation.getSeq());
+                }
+            }
+        }
+        Long storedMaxSeq = planOperationRepository.findMaxSeqByGroupUrl(groupUrl);
+        if (storedMaxSeq != null) {
+            lastSeq = Math.max(lastSeq, storedMaxSeq);
+        }
+
+        long initialSeq = lastSeq;
+        synchronized (groupLogs) {
+            return groupLogs.computeIfAbsent(groupUrl, key -> new GroupLog(bufferSize, initialSeq));
+        }
+    }
+
+    /**
+     * 그룹별 공유 순번 발급 대기열. 인스턴스로 동기화하며, 한 번에 하나의 요청만 발급기를 호출합니다.
+     */
+    private static class SequenceBatch {
+        private final ArrayDeque<SequenceRequest> waiting = new ArrayDeque<>();
+        private boolean allocating;
+    }
+
+    // 순번을 기다리는 append 호출 하나 (SequenceBatch 잠금 안에서만 변경)
+    private static class SequenceRequest {
+        private boolean done;
+        private long seq;
+        private RuntimeException failure;
+
+        void complete(long seq, RuntimeException failure) {
+            this.seq = seq;
+            this.failure = failure;
+            this.done = true;
+        }
+
+        long seq() {
+            if (failure != null) {
+                throw failure;
+            }
+            return seq;
+        }
+    }
+
+    /**
+     * 그룹별 링 버퍼. 순번 % 용량 위치에 작업을 저장하며, 호출자가 인스턴스로 동기화합니다.
+     */
+    private static class GroupLog {
+
+        private final SequenceBatch allocation = new SequenceBatch();
+        private final PlanUpdateMessage[] ring;
+        private long lastSeq;
+
+        GroupLog(int capacity, long lastSeq) {
+            this.ring = new PlanUpdateMessage[capacity];
+            this.lastSeq = lastSeq;
+        }
+
+        long getLastSeq() {
+            return lastSeq;
+        }
+
+        void put(PlanUpdateMessage operation) {
+            long seq = operation.getSeq();
+            if (seq <= lastSeq - ring.length) {
+                return;
+            }
+            int index = (int) (seq % ring.length);
+            PlanUpdateMessage current = ring[index];
+            if (current == null || current.getSeq() < seq) {
+                ring[index] = operation;
+            }
+            lastSeq = Math.max(lastSeq, seq);
+        }
+
+        /**
+         * sinceSeq 이후의 작업을 최대 limit개 반환합니다.
+         * 링 버퍼에 빠진 순번이 있으면 null을 반환합니다.
+         */
+        List<PlanUpdateMessage> since(long sinceSeq, int limit) {
+            long from = Math.max(sinceSeq, 0) + 1;
+            if (from > lastSeq) {
+                return new ArrayList<>();
+            }
+            if (from <= lastSeq - ring.length) {
+                return null;
+            }
+
+            List<PlanUpdateMessage> result = new ArrayList<>();
+            for (long seq = from; seq <= lastSeq && result.size() < limit; seq++) {
+                PlanUpdateMessage operation = ring[(int) (seq % ring.length)];
+                if (operation == null || operation.getSeq() != seq) {
+                    return null;
+                }
+                result.add(operation);
+            }
+            return result;
+        }
+    }
+}
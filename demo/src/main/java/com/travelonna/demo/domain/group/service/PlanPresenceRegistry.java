@@ -0,0 +1,318 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.travelonna.demo.domain.group.dto.PlanPresenceMemberDto;
+import com.travelonna.demo.domain.group.dto.PlanPresenceResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 일정 페이지 접속자 레지스트리
+ * 그룹 URL별로 접속 중인 WebSocket 세션을 보관하고, 일정 시간 활동(하트비트 포함)이 없는 세션은 만료시킵니다.
+ * 노드 간 브리지가 있으면 각 노드가 자신의 세션 목록을 주기적으로, 그리고 입장/퇴장 때마다 발행하고
+ * 다른 노드의 목록은 받은 그대로 교체하므로 어느 노드에서 조회해도 전체 접속자를 볼 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PlanPresenceRegistry {
+
+    private final PlanMessageBroadcaster planMessageBroadcaster;
+    private final long ttlMillis;
+
+    // 그룹 URL -> ("노드 ID:세션 ID" -> 세션). 그룹 항목은 compute 안에서만 바꿉니다.
+    private final Map<String, Map<String, PresenceSession>> sessionsByGroup = new ConcurrentHashMap<>();
+
+    // 이 노드에 접속한 세션 ID -> 그룹 URL
+    private final Map<String, String> localSessionGroups = new ConcurrentHashMap<>();
+
+    public PlanPresenceRegistry(PlanMessageBroadcaster planMessageBroadcaster,
+                                @Value("${plan.presence.ttl-ms:60000}") long ttlMillis) {
+        this.planMessageBroadcaster = planMessageBroadcaster;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        // 새로 뜬 노드는 다른 노드의 접속자 목록을 바로 받아옵니다.
+        planMessageBroadcaster.publishPresence(PresenceSync.builder().resyncRequested(true).build());
+    }
+
+    /**
+     * 이 노드의 세션을 그룹 접속자로 등록합니다. 다른 그룹에 등록되어 있던 세션이면 옮깁니다.
+     */
+    public void join(String groupUrl, String sessionId, Integer userId, String userName) {
+        long now = System.currentTimeMillis();
+        String previousGroupUrl = localSessionGroups.put(sessionId, groupUrl);
+        if (previousGroupUrl != null && !previousGroupUrl.equals(groupUrl)) {
+            removeSession(previousGroupUrl, localKey(sessionId));
+            publishGroup(previousGroupUrl);
+        }
+
+        PresenceSession session = new PresenceSession(planMessageBroadcaster.getNodeId(), groupUrl, sessionId,
+                userId, userName, now, now, now);
+        sessionsByGroup.compute(groupUrl, (url, sessions) -> {
+            Map<String, PresenceSession> target = sessions != null ? sessions : new ConcurrentHashMap<>();
+            PresenceSession existing = target.get(localKey(sessionId));
+            if (existing != null) {
+                session.joinedAt = existing.joinedAt;
+            }
+            target.put(localKey(sessionId), session);
+            return target;
+        });
+        publishGroup(groupUrl);
+    }
+
+    /**
+     * 세션의 마지막 활동 시각을 갱신합니다.
+     *
+     * @return 등록된 세션이면 true (만료되었거나 입장하지 않은 세션이면 false)
+     */
+    public boolean touch(String sessionId) {
+        String groupUrl = localSessionGroups.get(sessionId);
+        if (groupUrl == null) {
+            return false;
+        }
+        Map<String, PresenceSession> sessions = sessionsByGroup.get(groupUrl);
+        PresenceSession session = sessions != null ? sessions.get(localKey(sessionId)) : null;
+        if (session == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        session.lastSeenAt = now;
+        session.refreshedAt = now;
+        return true;
+    }
+
+    /**
+     * 이 노드의 세션을 접속자에서 제거합니다.
+     *
+     * @return 제거된 세션 (이미 만료되었거나 등록되지 않았으면 null)
+     */
+    public PresenceSession leave(String sessionId) {
+        String groupUrl = localSessionGroups.remove(sessionId);
+        if (groupUrl == null) {
+            return null;
+        }
+        PresenceSession removed = removeSession(groupUrl, localKey(sessionId));
+        publishGroup(groupUrl);
+        return removed;
+    }
+
+    /**
+     * 그룹의 현재 접속자 목록을 사용자 단위로 합쳐 반환합니다.
+     */
+    public PlanPresenceResponseDto snapshot(String groupUrl) {
+        long expiredBefore = System.currentTimeMillis() - ttlMillis;
+        Map<String, List<PresenceSession>> byUser = new LinkedHashMap<>();
+        for (PresenceSession session : sessionsByGroup.getOrDefault(groupUrl, Map.of()).values()) {
+            if (session.refreshedAt < expiredBefore) {
+                continue;
+            }
+            String userKey = session.userId != null ? "u" + session.userId : "n" + session.userName;
+            byUser.computeIfAbsent(userKey, key -> new ArrayList<>()).add(session);
+        }
+
+        List<PlanPresenceMemberDto> members = byUser.values().stream()
+                .map(sessions -> PlanPresenceMemberDto.builder()
+                        .userId(sessions.get(0).userId)
+                        .userName(sessions.get(0).userName)
+                        .sessionCount(sessions.size())
+                        .joinedAt(sessions.stream().mapToLong(PresenceSession::getJoinedAt).min().getAsLong())
+                        .lastSeenAt(sessions.stream().mapToLong(PresenceSession::getLastSeenAt).max().getAsLong())
+                        .build())
+                .sorted(Comparator.comparing(PlanPresenceMemberDto::getJoinedAt))
+                .collect(Collectors.toList());
+
+        return PlanPresenceResponseDto.builder()
+                .groupUrl(groupUrl)
+                .onlineCount(members.size())
+                .members(members)
+                .build();
+    }
+
+    /**
+     * 활동이 없는 세션을 만료시킵니다.
+     * 이 노드의 세션이 만료되면 그룹에 퇴장 메시지를 보내고, 다른 노드의 세션은 그 노드가 목록을 다시 보내지 않은 경우에만 만료됩니다.
+     */
+    @Scheduled(fixedDelayString = "${plan.presence.sweep-interval-ms:10000}")
+    public void expire() {
+        long expiredBefore = System.currentTimeMillis() - ttlMillis;
+        String nodeId = planMessageBroadcaster.getNodeId();
+
+        for (String groupUrl : sessionsByGroup.keySet()) {
+            List<PresenceSession> expired = new ArrayList<>();
+            sessionsByGroup.computeIfPresent(groupUrl, (url, sessions) -> {
+                sessions.values().removeIf(session -> {
+                    if (session.refreshedAt >= expiredBefore) {
+                        return false;
+                    }
+                    expired.add(session);
+                    return true;
+                });
+                return sessions.isEmpty() ? null : sessions;
+            });
+
+            boolean localExpired = false;
+            for (PresenceSession session : expired) {
+                if (!nodeId.equals(session.nodeId)) {
+                    continue;
+                }
+                localExpired = true;
+                localSessionGroups.remove(session.sessionId, groupUrl);
+                log.info("하트비트가 없어 접속 만료: groupUrl={}, user={}", groupUrl, session.userName);
+                planMessageBroadcaster.broadcast(groupUrl, PlanUpdateMessage.builder()
+                        .groupUrl(groupUrl)
+                        .type("LEAVE")
+                        .userId(session.userId)
+                        .userName(session.userName)
+                        .timestamp(System.currentTimeMillis())
+                        .build());
+            }
+            if (localExpired) {
+                publishGroup(groupUrl);
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 전체 접속자 목록을 다른 노드에 발행합니다.
+     * 다른 노드는 이 목록을 받을 때마다 이 노드의 세션 만료 시각을 연장합니다.
+     */
+    @Scheduled(fixedDelayString = "${plan.presence.sync-interval-ms:15000}")
+    public void sync() {
+        if (planMessageBroadcaster.hasBridge()) {
+            planMessageBroadcaster.publishPresence(PresenceSync.builder().sessions(localSessions(null)).build());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 접속자 목록을 반영합니다.
+     * groupUrl이 있으면 그 그룹에 대한 해당 노드의 세션만, 없으면 해당 노드의 전체 세션을 교체합니다.
+     */
+    public void applyRemote(String originNodeId, PresenceSync sync) {
+        if (sync.isResyncRequested()) {
+            sync();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, List<PresenceSession>> incoming = new HashMap<>();
+        for (PresenceSession session : sync.getSessions() != null ? sync.getSessions() : List.<PresenceSession>of()) {
+            session.nodeId = originNodeId;
+            session.refreshedAt = now;
+            incoming.computeIfAbsent(session.groupUrl, key -> new ArrayList<>()).add(session);
+        }
+
+        Set<String> groupUrls = new HashSet<>(incoming.keySet());
+        if (sync.getGroupUrl() != null) {
+            groupUrls.add(sync.getGroupUrl());
+        } else {
+            groupUrls.addAll(sessionsByGroup.keySet());
+        }
+
+        for (String groupUrl : groupUrls) {
+            List<PresenceSession> replacements = incoming.getOrDefault(groupUrl, List.of());
+            sessionsByGroup.compute(groupUrl, (url, sessions) -> {
+                Map<String, PresenceSession> target = sessions != null ? sessions : new ConcurrentHashMap<>();
+                target.values().removeIf(session -> originNodeId.equals(session.nodeId));
+                replacements.forEach(session -> target.put(originNodeId + ":" + session.sessionId, session));
+                return target.isEmpty() ? null : target;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료하는 노드의 접속자는 만료를 기다리지 않고 다른 노드에서 바로 지웁니다.
+        if (planMessageBroadcaster.hasBridge()) {
+            planMessageBroadcaster.publishPresence(PresenceSync.builder().sessions(List.of()).build());
+        }
+    }
+
+    private PresenceSession removeSession(String groupUrl, String key) {
+        PresenceSession[] removed = new PresenceSession[1];
+        sessionsByGroup.computeIfPresent(groupUrl, (url, sessions) -> {
+            removed[0] = sessions.remove(key);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        return removed[0];
+    }
+
+    private void publishGroup(String groupUrl) {
+        if (planMessageBroadcaster.hasBridge()) {
+            planMessageBroadcaster.publishPresence(PresenceSync.builder()
+                    .groupUrl(groupUrl)
+                    .sessions(localSessions(groupUrl))
+                    .build());
+        }
+    }
+
+    private List<PresenceSession> localSessions(String groupUrl) {
+        String nodeId = planMessageBroadcaster.getNodeId();
+        return sessionsByGroup.entrySet().stream()
+                .filter(entry -> groupUrl == null || groupUrl.equals(entry.getKey()))
+                .flatMap(entry -> entry.getValue().values().stream())
+                .filter(session -> nodeId.equals(session.nodeId))
+                .collect(Collectors.toList());
+    }
+
+    private String localKey(String sessionId) {
+        return planMessageBroadcaster.getNodeId() + ":" + sessionId;
+    }
+
+    /**
+     * 접속 세션 하나
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PresenceSession {
+        @JsonIgnore
+        private String nodeId;
+        private String groupUrl;
+        private String sessionId;
+        private Integer userId;
+        private String userName;
+        private long joinedAt;
+        private volatile long lastSeenAt;
+
+        // 이 노드에서 마지막으로 활동을 확인한 시각 (만료 판단용, 다른 노드 세션은 목록을 받은 시각)
+        @JsonIgnore
+        private volatile long refreshedAt;
+    }
+
+    /**
+     * 노드 간에 주고받는 접속자 목록
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PresenceSync {
+        private String groupUrl;                 // null이면 노드 전체 목록
+        private List<PresenceSession> sessions;
+        private boolean resyncRequested;         // true면 받은 노드가 자신의 전체 목록을 다시 발행
+    }
+}
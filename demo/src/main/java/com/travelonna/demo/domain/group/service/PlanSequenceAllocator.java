@@ -0,0 +1,19 @@
+package com.travelonna.demo.domain.group.service;
+
+/**
+ * 그룹 일정 작업 순번 발급
+ * 여러 노드가 같은 그룹의 작업을 받는 relay/bridge 모드에서는 모든 노드가 같은 발급원을 사용해야
+ * (그룹, 순번)이 겹치지 않습니다. 빈이 없으면(simple 모드) PlanOperationLog가 노드 안에서 직접 발급합니다.
+ */
+public interface PlanSequenceAllocator {
+
+    /**
+     * 그룹의 다음 순번 count개를 한 번에 예약합니다.
+     * 같은 노드에서 동시에 들어온 작업들은 한 번의 왕복으로 연속된 순번을 받습니다.
+     *
+     * @param floor 이 노드가 알고 있는 그룹의 마지막 순번 (발급원의 값이 이보다 작으면 먼저 이 값으로 올림)
+     * @param count 예약할 순번 수 (1 이상)
+     * @return 예약한 구간의 마지막 순번 (구간은 반환값 - count + 1 부터 반환값까지이며, floor보다 큼)
+     */
+    long reserve(String groupUrl, long floor, int count);
+}
@@ -0,0 +1,248 @@
+package com.travelonna.demo.domain.group.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.plan.entity.TransportInfo;
+import com.travelonna.demo.domain.plan.service.PlanService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 일정 편집의 쓰기 지연(write-behind) 큐
+ * WebSocket으로 받은 일정 필드 편집(PLAN_UPDATE)을 검증한 뒤 일정별로 필드 단위 최신 값만 모아 두고,
+ * 주기적으로 또는 쌓인 편집이 기준 개수를 넘으면 일정마다 한 번의 UPDATE로 반영합니다.
+ * 장소 편집(PLACE_*)은 PlanCrdtService가 일정별 문서에 모아 압축 반영하므로 여기서는 개수만 세고,
+ * 기준 개수를 넘으면 압축도 앞당겨 실행합니다.
+ *
+ * PLAN_UPDATE content 형식: {"fields": {"title": "...", "startDate": "2025-05-01", "transportInfo": "car", ...}}
+ */
+@Slf4j
+@Component
+public class PlanWriteBehindQueue {
+
+    public static final String PLAN_UPDATE = "PLAN_UPDATE";
+
+    // UpdatePlanDto와 같은 필드 이름
+    private static final Set<String> TEXT_FIELDS = Set.of("title", "location", "memo");
+    private static final Set<String> DATE_FIELDS = Set.of("startDate", "endDate");
+
+    private final PlanService planService;
+    private final PlanCrdtService planCrdtService;
+    private final GroupUrlResolver groupUrlResolver;
+    private final int maxPending;
+
+    // 일정 ID -> 반영 대기 중인 편집
+    private final Map<Integer, PendingPlan> pending = new ConcurrentHashMap<>();
+
+    // 마지막 반영 이후 받은 편집 수 (장소 편집 포함)
+    private final AtomicInteger pendingEdits = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "plan-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter received;
+    private final Counter written;
+    private final Counter failed;
+
+    public PlanWriteBehindQueue(PlanService planService,
+                                PlanCrdtService planCrdtService,
+                                GroupUrlResolver groupUrlResolver,
+                                MeterRegistry meterRegistry,
+                                @Value("${plan.write-behind.max-pending:200}") int maxPending) {
+        this.planService = planService;
+        this.planCrdtService = planCrdtService;
+        this.groupUrlResolver = groupUrlResolver;
+        this.maxPending = maxPending;
+
+        this.received = Counter.builder("plan.write-behind.received")
+                .description("쓰기 지연 큐가 받은 그룹 일정 편집 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("plan.write-behind.written")
+                .description("쓰기 지연 큐가 DB에 반영한 일정 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("plan.write-behind.failed")
+                .description("DB 반영에 실패한 일정 수")
+                .register(meterRegistry);
+        Gauge.builder("plan.write-behind.pending", pending, Map::size)
+                .description("반영을 기다리는 일정 수")
+                .register(meterRegistry);
+    }
+
+    public boolean supports(String type) {
+        return PLAN_UPDATE.equals(type);
+    }
+
+    /**
+     * 일정 필드 편집을 검증하고 큐에 넣습니다.
+     *
+     * @return 검증을 통과하면 받은 메시지, 적용할 수 없는 편집이면 null
+     */
+    public PlanUpdateMessage offer(String groupUrl, PlanUpdateMessage message) {
+        Integer groupId = groupUrlResolver.findGroupId(groupUrl).orElse(null);
+        if (groupId == null || message.getPlanId() == null) {
+            log.warn("그룹 또는 일정 ID가 없는 일정 편집: groupUrl={}, planId={}", groupUrl, message.getPlanId());
+            return null;
+        }
+
+        Map<String, Object> fields;
+        try {
+            fields = parseFields(message.getContent());
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 일정 편집: groupUrl={}, planId={}, 이유={}", groupUrl, message.getPlanId(), e.getMessage());
+            return null;
+        }
+
+        Integer planId = Math.toIntExact(message.getPlanId());
+        pending.compute(planId, (id, current) -> {
+            PendingPlan merged = current != null ? current : new PendingPlan(groupId);
+            merged.fields.putAll(fields);
+            return merged;
+        });
+        received.increment();
+        noteEdit();
+        return message;
+    }
+
+    /**
+     * 다른 경로(장소 편집)로 쌓인 편집을 셉니다. 기준 개수를 넘으면 반영을 앞당깁니다.
+     */
+    public void noteEdit() {
+        if (pendingEdits.incrementAndGet() >= maxPending && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                    planCrdtService.compact();
+                } catch (Exception e) {
+                    log.error("그룹 일정 편집 조기 반영 실패", e);
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모인 일정 편집을 DB에 반영합니다. 실패한 일정은 이후에 들어온 편집을 덮어쓰지 않도록 합쳐 다시 넣습니다.
+     */
+    @Scheduled(fixedDelayString = "${plan.write-behind.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        pendingEdits.set(0);
+
+        for (Integer planId : pending.keySet()) {
+            PendingPlan batch = pending.remove(planId);
+            if (batch == null) {
+                continue;
+            }
+
+            try {
+                planService.applyGroupEdits(batch.groupId, planId, batch.fields);
+                written.increment();
+            } catch (IllegalArgumentException e) {
+                // 삭제되었거나 다른 그룹의 일정, 기간이 맞지 않는 편집은 다시 시도해도 같으므로 버림
+                failed.increment();
+                log.warn("그룹 일정 편집을 반영할 수 없어 버립니다: 일정 ID {}, 이유={}", planId, e.getMessage());
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("그룹 일정 편집 반영 실패, 다음 주기에 재시도합니다: 일정 ID {}", planId, e);
+                pending.merge(planId, batch, (newer, older) -> {
+                    older.fields.forEach(newer.fields::putIfAbsent);
+                    return newer;
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    private Map<String, Object> parseFields(JsonNode content) {
+        JsonNode fieldsNode = content != null ? content.get("fields") : null;
+        if (fieldsNode == null || !fieldsNode.isObject() || fieldsNode.isEmpty()) {
+            throw new IllegalArgumentException("변경할 필드가 없습니다.");
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fieldsNode.fields().forEachRemaining(entry -> {
+            String name = entry.getKey();
+            JsonNode value = entry.getValue();
+            fields.put(name, parseValue(name, value));
+        });
+
+        LocalDate startDate = (LocalDate) fields.get("startDate");
+        LocalDate endDate = (LocalDate) fields.get("endDate");
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 빨라야 합니다.");
+        }
+        return fields;
+    }
+
+    private Object parseValue(String name, JsonNode value) {
+        if (TEXT_FIELDS.contains(name)) {
+            if (value.isNull() && !"title".equals(name)) {
+                return null;
+            }
+            if (!value.isTextual() || ("title".equals(name) && value.asText().isBlank())) {
+                throw new IllegalArgumentException("잘못된 값입니다: " + name);
+            }
+            return value.asText();
+        }
+        if (DATE_FIELDS.contains(name)) {
+            try {
+                return LocalDate.parse(value.asText());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 날짜입니다: " + name);
+            }
+        }
+        if ("transportInfo".equals(name)) {
+            try {
+                return TransportInfo.valueOf(value.asText());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 이동수단입니다: " + value.asText());
+            }
+        }
+        if ("isPublic".equals(name)) {
+            if (!value.isBoolean()) {
+                throw new IllegalArgumentException("잘못된 값입니다: " + name);
+            }
+            return value.booleanValue();
+        }
+        throw new IllegalArgumentException("수정할 수 없는 일정 필드입니다: " + name);
+    }
+
+    /**
+     * 일정 하나의 반영 대기 중인 편집 (필드별 최신 값)
+     */
+    private static class PendingPlan {
+        private final Integer groupId;
+        private final Map<String, Object> fields = new LinkedHashMap<>();
+
+        PendingPlan(Integer groupId) {
+            this.groupId = groupId;
+        }
+    }
+}
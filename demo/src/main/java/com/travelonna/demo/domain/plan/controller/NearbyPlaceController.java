@@ -0,0 +1,58 @@
+package com.travelonna.demo.domain.plan.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelonna.demo.domain.plan.dto.NearbyPlaceResponseDto;
+import com.travelonna.demo.domain.plan.service.PlaceService;
+import com.travelonna.demo.global.common.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/places")
+@RequiredArgsConstructor
+@Tag(name = "여행 장소", description = "여행 장소 관리 API (인증 필요)")
+public class NearbyPlaceController {
+
+    private final PlaceService placeService;
+
+    @Operation(summary = "주변 공개 장소 조회", description = "중심 좌표로부터 반경 내에 있는 공개 장소를 가까운 순으로 조회합니다. "
+            + "minLat, minLon, maxLat, maxLon을 모두 지정하면 해당 영역 내의 공개 장소를 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주변 장소 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 반경"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyPlaceResponseDto>>> getNearbyPlaces(
+            @Parameter(description = "중심 위도", example = "35.879667") @RequestParam(required = false) Double lat,
+            @Parameter(description = "중심 경도", example = "128.628476") @RequestParam(required = false) Double lon,
+            @Parameter(description = "반경 (미터, 최대 50000)", example = "1000") @RequestParam(defaultValue = "1000") Double radius,
+            @Parameter(description = "영역 최소 위도") @RequestParam(required = false) Double minLat,
+            @Parameter(description = "영역 최소 경도") @RequestParam(required = false) Double minLon,
+            @Parameter(description = "영역 최대 위도") @RequestParam(required = false) Double maxLat,
+            @Parameter(description = "영역 최대 경도") @RequestParam(required = false) Double maxLon,
+            @Parameter(description = "최대 결과 수 (최대 100)", example = "20") @RequestParam(defaultValue = "20") Integer limit) {
+        
+        List<NearbyPlaceResponseDto> places;
+        if (minLat != null && minLon != null && maxLat != null && maxLon != null) {
+            places = placeService.getPlacesInBox(minLat, minLon, maxLat, maxLon, limit);
+        } else {
+            places = placeService.getNearbyPlaces(lat, lon, radius, limit);
+        }
+        
+        return ResponseEntity.ok(ApiResponse.success("주변 장소 조회 성공", places));
+    }
+}
@@ -18,11 +18,13 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.AddPlaceDto;
 import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.CreatePlaceDto;
+import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.UpdateOrderDto;
 import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.UpdatePlaceDto;
 import com.travelonna.demo.domain.plan.dto.PlaceResponseDto;
 import com.travelonna.demo.domain.plan.service.PlaceService;
 import com.travelonna.demo.global.common.ApiResponse;
 import com.travelonna.demo.global.security.jwt.JwtUserDetails;
+import com.travelonna.demo.global.util.OptimisticLockRetry;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -86,12 +88,59 @@ public class PlaceController {
                 .body(ApiResponse.success("여행 장소가 추가되었습니다.", responseDto));
     }
     
-    @Operation(summary = "여행 장소 수정", description = "기존 여행 장소 정보를 수정합니다. 장소 비용(placeCost)이 변경되면 일정의 총 비용이 자동으로 업데이트됩니다.")
+    @Operation(summary = "여행 장소 일괄 생성", description = "여러 여행 장소를 한 번에 생성합니다. 순서가 지정되지 않은 장소는 일차별로 이어지는 순서가 부여되며, 일정 총 비용은 한 번만 다시 계산됩니다. (최대 500개)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "장소 일괄 생성 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<PlaceResponseDto>>> createPlaces(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "일정 ID", example = "1") @PathVariable Integer planId,
+            @Parameter(description = "생성할 장소 정보 목록") @RequestBody List<CreatePlaceDto> requestDtos) {
+        
+        JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
+        int userId = jwtUserDetails.getUserId();
+        log.info("여행 장소 일괄 생성 요청: 사용자 ID {}, 일정 ID {}, 장소 수 {}", userId, planId, requestDtos.size());
+        
+        List<PlaceResponseDto> responseDtos = placeService.createPlaces(userId, planId, requestDtos);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("여행 장소가 일괄 생성되었습니다.", responseDtos));
+    }
+    
+    @Operation(summary = "일정 생성 후 장소 일괄 추가", description = "일정 생성 후 여러 여행 장소를 한 번에 추가합니다. 순서가 지정되지 않은 장소는 일차별로 이어지는 순서가 부여됩니다. (최대 500개)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "장소 일괄 추가 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+    })
+    @PostMapping("/add/batch")
+    public ResponseEntity<ApiResponse<List<PlaceResponseDto>>> addPlaces(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "일정 ID", example = "1") @PathVariable Integer planId,
+            @Parameter(description = "추가할 장소 정보 목록") @RequestBody List<AddPlaceDto> requestDtos) {
+        
+        JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
+        int userId = jwtUserDetails.getUserId();
+        log.info("장소 일괄 추가 요청: 사용자 ID {}, 일정 ID {}, 장소 수 {}", userId, planId, requestDtos.size());
+        
+        List<PlaceResponseDto> responseDtos = placeService.addPlaces(userId, planId, requestDtos);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("여행 장소가 일괄 추가되었습니다.", responseDtos));
+    }
+    
+    @Operation(summary = "여행 장소 수정", description = "기존 여행 장소 정보를 수정합니다. 장소 비용(placeCost)이 변경되면 일정의 총 비용이 자동으로 업데이트됩니다. version을 함께 보내면 그 이후 다른 사용자가 수정한 필드와 겹치지 않는 경우에만 병합되어 저장됩니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "장소 수정 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "장소 또는 일정을 찾을 수 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "장소 또는 일정을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "기준 버전 이후 같은 필드가 수정됨 (현재 버전과 충돌 필드 반환)")
     })
     @PutMapping("/{placeId}")
     public ResponseEntity<ApiResponse<PlaceResponseDto>> updatePlace(
@@ -104,7 +153,8 @@ public class PlaceController {
         int userId = jwtUserDetails.getUserId();
         log.info("여행 장소 수정 요청: 사용자 ID {}, 일정 ID {}, 장소 ID {}", userId, planId, placeId);
         
-        PlaceResponseDto responseDto = placeService.updatePlace(userId, planId, placeId, requestDto);
+        PlaceResponseDto responseDto = OptimisticLockRetry.execute(
+                () -> placeService.updatePlace(userId, planId, placeId, requestDto));
         
         return ResponseEntity.ok(ApiResponse.success("여행 장소가 수정되었습니다.", responseDto));
     }
@@ -125,7 +175,7 @@ public class PlaceController {
         int userId = jwtUserDetails.getUserId();
         log.info("여행 장소 삭제 요청: 사용자 ID {}, 일정 ID {}, 장소 ID {}", userId, planId, placeId);
         
-        placeService.deletePlace(userId, planId, placeId);
+        OptimisticLockRetry.run(() -> placeService.deletePlace(userId, planId, placeId));
         
         return ResponseEntity.ok(ApiResponse.success("여행 장소가 삭제되었습니다.", null));
     }
@@ -150,26 +200,29 @@ public class PlaceController {
         return ResponseEntity.ok(ApiResponse.success("여행 장소 목록 조회 성공", places));
     }
 
-    @Operation(summary = "장소 순서 일괄 업데이트", description = "특정 일차의 여행 장소 순서를 일괄 업데이트합니다.")
+    @Operation(summary = "장소 순서 일괄 업데이트", description = "특정 일차의 여행 장소 순서를 일괄 업데이트합니다. versions에 장소별 기준 버전을 보내면 그 이후 다른 사용자가 순서를 바꾼 장소가 있을 때 409를 반환합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "순서 업데이트 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "기준 버전 이후 다른 사용자가 같은 장소의 순서를 변경함")
     })
     @PutMapping("/order")
     public ResponseEntity<ApiResponse<List<PlaceResponseDto>>> updatePlacesOrder(
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "일정 ID", example = "1") @PathVariable Integer planId,
             @Parameter(description = "일차 (선택적)", example = "2") @RequestParam(required = false) Integer dayNumber,
-            @Parameter(description = "순서대로 정렬된 장소 ID 목록", example = "[10, 11, 12, 13]") @RequestBody List<Integer> placeIds) {
+            @Parameter(description = "순서대로 정렬된 장소 ID 목록과 장소별 기준 버전 (장소 ID 배열만 보내도 됨)") @RequestBody UpdateOrderDto requestDto) {
         
         JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
         int userId = jwtUserDetails.getUserId();
+        List<Integer> placeIds = requestDto.getPlaceIds() != null ? requestDto.getPlaceIds() : List.of();
         log.info("장소 순서 일괄 업데이트 요청: 사용자 ID {}, 일정 ID {}, 일차 {}, 장소 수 {}", 
                 userId, planId, dayNumber, placeIds.size());
         
-        List<PlaceResponseDto> places = placeService.updatePlacesOrder(userId, planId, dayNumber, placeIds);
+        List<PlaceResponseDto> places = OptimisticLockRetry.execute(
+                () -> placeService.updatePlacesOrder(userId, planId, dayNumber, placeIds, requestDto.getVersions()));
         
         return ResponseEntity.ok(ApiResponse.success("여행 장소 순서가 업데이트되었습니다.", places));
     }
@@ -1,9 +1,14 @@
 package com.travelonna.demo.domain.plan.controller;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,10 +18,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.travelonna.demo.domain.plan.dto.PlanCostAnalyticsResponseDto;
 import com.travelonna.demo.domain.plan.dto.PlanDetailResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanPageResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanRequestDto.ClonePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.CreatePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.SearchTransportationDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdateLocationDto;
@@ -24,14 +34,20 @@ import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdatePeriodDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdatePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdateTransportDto;
 import com.travelonna.demo.domain.plan.dto.PlanResponseDto;
+import com.travelonna.demo.domain.plan.service.PlanDetailCache;
+import com.travelonna.demo.domain.plan.service.PlanDetailCache.CachedPlanDetail;
 import com.travelonna.demo.domain.plan.service.PlanService;
 import com.travelonna.demo.global.api.odsay.ODSayTransportService;
+import com.travelonna.demo.global.api.odsay.TimetableCache;
 import com.travelonna.demo.global.api.odsay.dto.TransportationResponseDto;
 import com.travelonna.demo.global.common.ApiResponse;
 import com.travelonna.demo.global.security.jwt.JwtUserDetails;
+import com.travelonna.demo.global.util.OptimisticLockRetry;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +62,8 @@ public class PlanController {
     
     private final PlanService planService;
     private final ODSayTransportService oDSayTransportService;
+    private final PlanDetailCache planDetailCache;
+    private final TimetableCache timetableCache;
     
     @Operation(summary = "개인 일정 생성", description = "새로운 개인 일정을 생성합니다. 기간, 여행지, 이동수단을 함께 설정할 수 있습니다. 일정 총 비용은 0으로 초기화되며 장소 추가 시 자동으로 계산됩니다.")
     @ApiResponses(value = {
@@ -85,7 +103,8 @@ public class PlanController {
         int userId = jwtUserDetails.getUserId();
         log.info("일정 기간 설정 요청: 사용자 ID {}, 일정 ID {}", userId, planId);
         
-        PlanResponseDto responseDto = planService.updatePeriod(userId, planId, requestDto);
+        PlanResponseDto responseDto = OptimisticLockRetry.execute(
+                () -> planService.updatePeriod(userId, planId, requestDto));
         
         return ResponseEntity.ok(ApiResponse.success("여행 기간이 수정되었습니다.", responseDto));
     }
@@ -107,7 +126,8 @@ public class PlanController {
         int userId = jwtUserDetails.getUserId();
         log.info("일정 여행지 설정 요청: 사용자 ID {}, 일정 ID {}", userId, planId);
         
-        PlanResponseDto responseDto = planService.updateLocation(userId, planId, requestDto);
+        PlanResponseDto responseDto = OptimisticLockRetry.execute(
+                () -> planService.updateLocation(userId, planId, requestDto));
         
         return ResponseEntity.ok(ApiResponse.success("여행지가 수정되었습니다.", responseDto));
     }
@@ -129,17 +149,19 @@ public class PlanController {
         int userId = jwtUserDetails.getUserId();
         log.info("일정 이동수단 설정 요청: 사용자 ID {}, 일정 ID {}", userId, planId);
         
-        PlanResponseDto responseDto = planService.updateTransport(userId, planId, requestDto);
+        PlanResponseDto responseDto = OptimisticLockRetry.execute(
+                () -> planService.updateTransport(userId, planId, requestDto));
         
         return ResponseEntity.ok(ApiResponse.success("이동수단이 수정되었습니다.", responseDto));
     }
     
-    @Operation(summary = "일정 수정", description = "개인 일정 정보를 수정합니다. 일정 비용(totalCost)은 장소 비용에 따라 자동으로 계산되므로 수정할 수 없습니다.")
+    @Operation(summary = "일정 수정", description = "개인 일정 정보를 수정합니다. 일정 비용(totalCost)은 장소 비용에 따라 자동으로 계산되므로 수정할 수 없습니다. version을 함께 보내면 그 이후 다른 사용자가 수정한 필드와 겹치지 않는 경우에만 병합되어 저장됩니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "일정 수정 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "기준 버전 이후 같은 필드가 수정됨 (현재 버전과 충돌 필드 반환)")
     })
     @PutMapping("/{planId}")
     public ResponseEntity<ApiResponse<PlanResponseDto>> updatePlan(
@@ -151,7 +173,8 @@ public class PlanController {
         int userId = jwtUserDetails.getUserId();
         log.info("일정 수정 요청: 사용자 ID {}, 일정 ID {}", userId, planId);
         
-        PlanResponseDto responseDto = planService.updatePlan(userId, planId, requestDto);
+        PlanResponseDto responseDto = OptimisticLockRetry.execute(
+                () -> planService.updatePlan(userId, planId, requestDto));
         
         return ResponseEntity.ok(ApiResponse.success("여행 일정이 수정되었습니다.", responseDto));
     }
@@ -176,6 +199,48 @@ public class PlanController {
         return ResponseEntity.ok(ApiResponse.success("여행 일정이 삭제되었습니다.", null));
     }
     
+    @Operation(summary = "일정 복제", description = "본인 일정 또는 공개 일정을 장소까지 포함해 내 일정으로 복제합니다. 시작 날짜를 지정하면 기간과 장소 방문 날짜가 함께 이동하며, 복제된 일정은 비공개로 생성됩니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "일정 복제 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 또는 권한 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/{planId}/clone")
+    public ResponseEntity<ApiResponse<PlanResponseDto>> clonePlan(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "복제할 일정 ID", example = "1") @PathVariable Integer planId,
+            @Parameter(description = "복제 옵션", example = "{ \"title\": \"제주도 여행 (복사본)\", \"startDate\": \"2024-06-01\" }") @RequestBody(required = false) ClonePlanDto requestDto) {
+        
+        JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
+        int userId = jwtUserDetails.getUserId();
+        log.info("일정 복제 요청: 사용자 ID {}, 원본 일정 ID {}", userId, planId);
+        
+        PlanResponseDto responseDto = planService.clonePlan(userId, planId, requestDto);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("여행 일정이 복제되었습니다.", responseDto));
+    }
+    
+    @Operation(summary = "일정 비용 분석 조회", description = "일차별 총 비용, 누적 비용, 장소별 최소/최대/평균 비용을 조회합니다. 방문 날짜가 없는 장소는 일차가 null인 항목으로 마지막에 집계됩니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "비용 분석 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+    })
+    @GetMapping("/{planId}/cost/analytics")
+    public ResponseEntity<ApiResponse<PlanCostAnalyticsResponseDto>> getPlanCostAnalytics(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "비용을 분석할 일정 ID") @PathVariable Integer planId) {
+        
+        JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
+        int userId = jwtUserDetails.getUserId();
+        log.info("일정 비용 분석 조회 요청: 사용자 ID {}, 일정 ID {}", userId, planId);
+        
+        PlanCostAnalyticsResponseDto analytics = planService.getCostAnalytics(userId, planId);
+        
+        return ResponseEntity.ok(ApiResponse.success("일정 비용 분석 조회 성공", analytics));
+    }
+    
     @Operation(summary = "일정 비용 조회", description = "개인 일정의 총 비용을 조회합니다. 이 비용은 장소 비용의 합으로 자동 계산됩니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "비용 조회 성공"),
@@ -214,6 +279,27 @@ public class PlanController {
         return ResponseEntity.ok(ApiResponse.success("내 여행 일정 조회 성공", plans));
     }
     
+    @Operation(summary = "내 일정 목록 페이지 조회", description = "사용자의 개인 일정을 시작 날짜순으로 페이지 단위 조회합니다. 응답의 nextCursorDate, nextCursorId를 다음 요청에 전달하면 이어지는 페이지를 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "일정 목록 페이지 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<PlanPageResponseDto>> getMyPlansPage(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "커서 날짜 (이전 응답의 nextCursorDate)", example = "2024-04-01") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @Parameter(description = "커서 일정 ID (이전 응답의 nextCursorId)", example = "42") @RequestParam(required = false) Integer cursorId,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") Integer size) {
+        
+        JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
+        int userId = jwtUserDetails.getUserId();
+        log.info("사용자 개인 일정 목록 페이지 조회 요청: 사용자 ID {}, 커서 ({}, {})", userId, cursorDate, cursorId);
+        
+        PlanPageResponseDto page = planService.getUserPlansPage(userId, cursorDate, cursorId, size);
+        
+        return ResponseEntity.ok(ApiResponse.success("내 여행 일정 조회 성공", page));
+    }
+    
     @Operation(summary = "교통편 검색", description = "일정 기반의 교통편 정보를 검색합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "교통편 검색 성공"),
@@ -239,6 +325,23 @@ public class PlanController {
         return ResponseEntity.ok(ApiResponse.success("교통편 검색 성공", responseDto));
     }
     
+    @Operation(summary = "교통편 시간표 캐시 비우기 (관리자용)", description = "캐시된 기차/고속버스 시간표를 비웁니다. mode를 지정하지 않으면 전체를 비우며, 응답에는 비우기 전 캐시 상태(적중률 등)가 포함됩니다. 관리자(jwt.admin-user-ids)만 호출할 수 있습니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "캐시 비우기 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자가 아님")
+    })
+    @DeleteMapping("/admin/transportation/cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> purgeTimetableCache(
+            @Parameter(description = "비울 시간표 종류 (TRAIN, EXPRESS_BUS, 생략 시 전체)", example = "TRAIN") @RequestParam(required = false) TimetableCache.Mode mode) {
+        
+        Map<String, Object> result = new LinkedHashMap<>(timetableCache.stats());
+        result.put("purged", timetableCache.purge(mode));
+        log.info("교통편 시간표 캐시 비우기 요청: 종류 {}, 결과 {}", mode, result);
+        
+        return ResponseEntity.ok(ApiResponse.success("교통편 시간표 캐시 비우기 성공", result));
+    }
+    
     @Operation(summary = "역 ID 검색 테스트", description = "역 이름으로 역 ID 정보를 검색합니다. (테스트용)")
     @GetMapping("/test/station/{stationName}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> testGetStationId(
@@ -266,24 +369,38 @@ public class PlanController {
 
     /**
      * 일정 상세 정보 조회
+     * 직렬화된 응답을 일정 버전별로 캐시하며, If-None-Match가 현재 ETag와 같으면 304를 반환합니다.
      */
     @GetMapping("/{planId}/detail")
-    @Operation(summary = "일정 상세 정보 조회", description = "일정 ID를 이용하여 일정의 상세 정보와 장소 목록을 조회합니다.")
+    @Operation(summary = "일정 상세 정보 조회", description = "일정 ID를 이용하여 일정의 상세 정보와 장소 목록을 조회합니다. 응답의 ETag를 If-None-Match 헤더로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "일정 상세 정보 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "일정 상세 정보 조회 성공",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlanDetailResponseDto.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
     })
-    public ResponseEntity<ApiResponse<PlanDetailResponseDto>> getPlanDetail(
+    public ResponseEntity<byte[]> getPlanDetail(
             @Parameter(description = "일정 ID", required = true) @PathVariable Integer planId,
+            @Parameter(description = "이전 응답의 ETag") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         JwtUserDetails jwtUserDetails = (JwtUserDetails) userDetails;
         int userId = jwtUserDetails.getUserId();
         log.info("일정 상세 정보 조회 요청: 사용자 ID {}, 일정 ID {}", userId, planId);
         
-        PlanDetailResponseDto planDetail = planService.getPlanDetail(userId, planId);
+        CachedPlanDetail planDetail = planDetailCache.getOrLoad(userId, planId, "일정 상세 정보 조회 성공",
+                () -> planService.getPlanDetail(userId, planId));
+        
+        if (planDetail.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(planDetail.getETag())
+                    .build();
+        }
         
-        return ResponseEntity.ok(ApiResponse.success("일정 상세 정보 조회 성공", planDetail));
+        return ResponseEntity.ok()
+                .eTag(planDetail.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(planDetail.getBody());
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.travelonna.demo.domain.plan.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 그룹 일정 동시 편집(CRDT)으로 병합된 장소 변경 내용
+ * 필드 값은 PlaceService.updatePlace와 같은 필드 이름과 Java 타입을 사용합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MergedPlaceChangeDto {
+    private Integer placeId;
+    private Map<String, Object> fields;
+    private boolean deleted;
+}
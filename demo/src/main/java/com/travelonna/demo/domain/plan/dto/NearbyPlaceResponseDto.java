@@ -0,0 +1,60 @@
+package com.travelonna.demo.domain.plan.dto;
+
+import com.travelonna.demo.domain.plan.service.PlaceSpatialIndex.IndexedPlace;
+import com.travelonna.demo.domain.plan.service.PlaceSpatialIndex.NearbyPlace;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 장소 응답 DTO")
+public class NearbyPlaceResponseDto {
+
+    @Schema(description = "장소 ID", example = "1")
+    private Integer placeId;
+
+    @Schema(description = "일정 ID", example = "1")
+    private Integer planId;
+
+    @Schema(description = "장소 이름", example = "동대구역")
+    private String name;
+
+    @Schema(description = "장소 주소", example = "대구광역시 동구 동대구로 550")
+    private String address;
+
+    @Schema(description = "구글 ID", example = "ChIJCZ4FKFblZTURKU0R_4aNSek")
+    private String googleId;
+
+    @Schema(description = "위도", example = "35.879667")
+    private Double lat;
+
+    @Schema(description = "경도", example = "128.628476")
+    private Double lon;
+
+    @Schema(description = "중심 좌표로부터의 거리 (미터, 반경 검색 시에만 제공)", example = "350.5")
+    private Double distance;
+
+    public static NearbyPlaceResponseDto from(NearbyPlace nearbyPlace) {
+        NearbyPlaceResponseDto dto = from(nearbyPlace.getPlace());
+        dto.distance = Math.round(nearbyPlace.getDistanceMeters() * 10) / 10.0;
+        return dto;
+    }
+
+    public static NearbyPlaceResponseDto from(IndexedPlace place) {
+        return NearbyPlaceResponseDto.builder()
+                .placeId(place.getPlaceId())
+                .planId(place.getPlanId())
+                .name(place.getName())
+                .address(place.getAddress())
+                .googleId(place.getGoogleId())
+                .lat(place.getLat())
+                .lon(place.getLon())
+                .build();
+    }
+}
@@ -2,6 +2,10 @@ package com.travelonna.demo.domain.plan.dto;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -35,11 +39,11 @@ public class PlaceRequestDto {
         @Schema(description = "메모", example = "장소 메모 내용")
         private String memo;
         
-        @Schema(description = "위도", example = "35.855415")
-        private String lat;
+        @Schema(description = "위도 (숫자 또는 숫자 문자열)", example = "35.855415")
+        private Double lat;
         
-        @Schema(description = "경도", example = "128.492514")
-        private String lon;
+        @Schema(description = "경도 (숫자 또는 숫자 문자열)", example = "128.492514")
+        private Double lon;
 
         @Schema(description = "장소 이름", example = "계명대학교")
         private String name;
@@ -98,11 +102,11 @@ public class PlaceRequestDto {
         @Schema(description = "메모", example = "수정된 장소 메모 내용")
         private String memo;
         
-        @Schema(description = "위도", example = "35.855415")
-        private String lat;
+        @Schema(description = "위도 (숫자 또는 숫자 문자열)", example = "35.855415")
+        private Double lat;
         
-        @Schema(description = "경도", example = "128.492514")
-        private String lon;
+        @Schema(description = "경도 (숫자 또는 숫자 문자열)", example = "128.492514")
+        private Double lon;
         
         @Schema(description = "장소 이름", example = "동대구역")
         private String name;
@@ -112,5 +116,31 @@ public class PlaceRequestDto {
 
         @Schema(description = "구글 ID", example = "ChIJCZ4FKFblZTURKU0R_4aNSek")
         private String googleId;
+        
+        @Schema(description = "수정 기준 버전 (미지정 시 버전 검사 없이 덮어씀)", example = "3")
+        private Long version;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "장소 순서 일괄 수정 요청 DTO (장소 ID 배열만 보내도 됨)")
+    public static class UpdateOrderDto {
+        
+        @Schema(description = "순서대로 정렬된 장소 ID 목록", example = "[10, 11, 12, 13]")
+        private List<Integer> placeIds;
+        
+        @Schema(description = "장소 ID별 수정 기준 버전 (미지정 장소는 버전 검사 없이 덮어씀)", example = "{\"10\": 3, \"11\": 1}")
+        private Map<Integer, Long> versions;
+        
+        /**
+         * 기존 형식 ([10, 11, 12]) 요청 본문 지원
+         */
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public static UpdateOrderDto of(List<Integer> placeIds) {
+            return UpdateOrderDto.builder().placeIds(placeIds).build();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.lang.reflect.Field;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.entity.Plan;
 
@@ -50,15 +51,21 @@ public class PlaceResponseDto {
     @Schema(description = "메모", example = "장소 메모 내용")
     private String memo;
     
-    @Schema(description = "위도", example = "35.855415")
-    private String lat;
+    // 기존 클라이언트 호환을 위해 응답에서는 문자열로 직렬화
+    @Schema(description = "위도", example = "35.855415", type = "string")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Double lat;
     
-    @Schema(description = "경도", example = "128.492514")
-    private String lon;
+    @Schema(description = "경도", example = "128.492514", type = "string")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Double lon;
 
     @Schema(description = "구글 ID", example = "ChIJCZ4FKFblZTURKU0R_4aNSek")
     private String googleId;
     
+    @Schema(description = "장소 버전 (수정 요청 시 version으로 전달)", example = "0")
+    private Long version;
+    
     public static PlaceResponseDto fromEntity(Place place) {
         PlaceResponseDto dto = new PlaceResponseDto();
         
@@ -98,16 +105,18 @@ public class PlaceResponseDto {
             
             Field latField = place.getClass().getDeclaredField("lat");
             latField.setAccessible(true);
-            dto.lat = (String) latField.get(place);
+            dto.lat = (Double) latField.get(place);
             
             Field lonField = place.getClass().getDeclaredField("lon");
             lonField.setAccessible(true);
-            dto.lon = (String) lonField.get(place);
+            dto.lon = (Double) lonField.get(place);
             
             Field googleIdField = place.getClass().getDeclaredField("googleId");
             googleIdField.setAccessible(true);
             dto.googleId = (String) googleIdField.get(place);
             
+            dto.version = place.getVersion();
+            
         } catch (Exception e) {
             // 에러 처리
             e.printStackTrace();
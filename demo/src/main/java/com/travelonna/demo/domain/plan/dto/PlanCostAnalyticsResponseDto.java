@@ -0,0 +1,67 @@
+package com.travelonna.demo.domain.plan.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일정 비용 분석 응답 DTO")
+public class PlanCostAnalyticsResponseDto {
+
+    @Schema(description = "일정 ID", example = "1")
+    private Integer planId;
+
+    @Schema(description = "장소 수", example = "8")
+    private Long placeCount;
+
+    @Schema(description = "총 비용", example = "150000")
+    private Long totalCost;
+
+    @Schema(description = "장소별 최소 비용 (비용이 입력된 장소 기준)", example = "5000")
+    private Integer minPlaceCost;
+
+    @Schema(description = "장소별 최대 비용 (비용이 입력된 장소 기준)", example = "40000")
+    private Integer maxPlaceCost;
+
+    @Schema(description = "장소별 평균 비용 (비용이 입력된 장소 기준)", example = "18750.0")
+    private Double avgPlaceCost;
+
+    @Schema(description = "일차별 비용")
+    private List<DayCostDto> days;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "일차별 비용 DTO")
+    public static class DayCostDto {
+
+        @Schema(description = "일차 (방문 날짜가 없는 장소는 null)", example = "1")
+        private Integer dayNumber;
+
+        @Schema(description = "장소 수", example = "3")
+        private Long placeCount;
+
+        @Schema(description = "일차 총 비용", example = "60000")
+        private Long totalCost;
+
+        @Schema(description = "최소 장소 비용", example = "10000")
+        private Integer minCost;
+
+        @Schema(description = "최대 장소 비용", example = "30000")
+        private Integer maxCost;
+
+        @Schema(description = "평균 장소 비용", example = "20000.0")
+        private Double avgCost;
+
+        @Schema(description = "누적 비용", example = "60000")
+        private Long runningTotal;
+    }
+}
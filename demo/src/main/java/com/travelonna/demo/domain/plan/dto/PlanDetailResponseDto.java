@@ -67,6 +67,12 @@ public class PlanDetailResponseDto {
     @Schema(description = "장소 목록")
     private List<PlaceResponseDto> places;
     
+    @Schema(description = "일정 버전 (일정 또는 장소가 변경될 때마다 증가)", example = "3")
+    private Long revision;
+    
+    @Schema(description = "일정 버전 (수정 요청 시 version으로 전달)", example = "0")
+    private Long version;
+    
     // Plan Entity를 PlanDetailResponseDto로 변환하는 정적 팩토리 메소드
     public static PlanDetailResponseDto fromEntity(Plan plan, List<PlaceResponseDto> places) {
         PlanDetailResponseDto dto = new PlanDetailResponseDto();
@@ -97,6 +103,9 @@ public class PlanDetailResponseDto {
             // 장소 목록 설정
             dto.places = places;
             
+            dto.revision = plan.getRevision();
+            dto.version = plan.getVersion();
+            
             // 디버깅 로그
             System.out.println("DTO 변환 완료: planId=" + dto.planId + 
                               ", groupId=" + dto.groupId + 
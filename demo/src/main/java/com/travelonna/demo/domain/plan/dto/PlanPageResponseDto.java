@@ -0,0 +1,30 @@
+package com.travelonna.demo.domain.plan.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일정 목록 페이지 응답 DTO (시작 날짜순 키셋 페이지네이션)")
+public class PlanPageResponseDto {
+
+    @Schema(description = "일정 요약 목록")
+    private List<PlanSummaryDto> plans;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 커서 날짜", example = "2024-04-01")
+    private LocalDate nextCursorDate;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 커서 일정 ID", example = "42")
+    private Integer nextCursorId;
+}
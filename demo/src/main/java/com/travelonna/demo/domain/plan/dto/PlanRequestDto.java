@@ -49,6 +49,9 @@ public class PlanRequestDto {
     public static class UpdateLocationDto {
         @Schema(description = "여행지", example = "제주도")
         private String location;
+        
+        @Schema(description = "수정 기준 버전 (미지정 시 버전 검사 없이 덮어씀)", example = "3")
+        private Long version;
     }
     
     @Getter
@@ -58,6 +61,9 @@ public class PlanRequestDto {
     public static class UpdateTransportDto {
         @Schema(description = "이동 수단", example = "car")
         private TransportInfo transportInfo;
+        
+        @Schema(description = "수정 기준 버전 (미지정 시 버전 검사 없이 덮어씀)", example = "3")
+        private Long version;
     }
     
     @Getter
@@ -70,6 +76,9 @@ public class PlanRequestDto {
         
         @Schema(description = "종료 날짜", example = "2024-04-05")
         private LocalDate endDate;
+        
+        @Schema(description = "수정 기준 버전 (미지정 시 버전 검사 없이 덮어씀)", example = "3")
+        private Long version;
     }
     
     @Getter
@@ -115,5 +124,20 @@ public class PlanRequestDto {
         
         @Schema(description = "메모", example = "준비물: 수영복, 선글라스")
         private String memo;
+        
+        @Schema(description = "수정 기준 버전 (미지정 시 버전 검사 없이 덮어씀)", example = "3")
+        private Long version;
+    }
+    
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ClonePlanDto {
+        @Schema(description = "복제된 일정 제목 (미지정 시 원본 제목 사용)", example = "제주도 여행 (복사본)")
+        private String title;
+        
+        @Schema(description = "복제된 일정 시작 날짜 (미지정 시 원본 날짜 사용, 장소 방문 날짜도 함께 이동)", example = "2024-06-01")
+        private LocalDate startDate;
     }
-} 
\ No newline at end of file
+} 
@@ -58,6 +58,9 @@ public class PlanResponseDto {
     @Schema(description = "수정 시간", example = "2024-03-21T15:30:00")
     private LocalDateTime updatedAt;
     
+    @Schema(description = "일정 버전 (수정 요청 시 version으로 전달)", example = "0")
+    private Long version;
+    
     // Entity to DTO 변환
     public static PlanResponseDto fromEntity(Plan plan) {
         PlanResponseDto dto = new PlanResponseDto();
@@ -116,6 +119,8 @@ public class PlanResponseDto {
             updatedAtField.setAccessible(true);
             dto.updatedAt = (LocalDateTime) updatedAtField.get(plan);
             
+            dto.version = plan.getVersion();
+            
         } catch (Exception e) {
             // 에러 처리
             e.printStackTrace();
@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +20,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "place")
+@Table(name = "place", indexes = {
+    @Index(name = "idx_place_public_lat_lon", columnList = "is_public, lat, lon")
+})
 @Getter
 @Setter
 @Builder
@@ -51,10 +55,10 @@ public class Place {
     private String memo;
     
     @Column(name = "lat")
-    private String lat;
+    private Double lat;
     
     @Column(name = "lon")
-    private String lon;
+    private Double lon;
     
     @Column(name = "p_name", nullable = false)
     private String name;
@@ -64,4 +68,9 @@ public class Place {
     
     @Column(name = "google_id")
     private String googleId;
+    
+    // 낙관적 락 버전 (장소 필드가 수정될 때 증가)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 } 
\ No newline at end of file
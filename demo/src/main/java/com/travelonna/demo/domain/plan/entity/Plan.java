@@ -11,8 +11,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,7 +24,9 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 
 @Entity
-@Table(name = "plan")
+@Table(name = "plan", indexes = {
+    @Index(name = "idx_plan_user_start_date", columnList = "user_id, start_date, plan_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,6 +69,15 @@ public class Plan {
     @Column(name = "memo")
     private String memo;
     
+    // 일정 및 장소가 변경될 때마다 증가하는 버전 (PlanRepository.incrementRevision으로만 변경)
+    @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+    private Long revision;
+    
+    // 낙관적 락 버전 (일정 필드가 수정될 때 증가)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     
     @Transient
     @CreationTimestamp
@@ -0,0 +1,26 @@
+package com.travelonna.demo.domain.plan.repository;
+
+/**
+ * 일차별 비용 집계 결과 프로젝션
+ */
+public interface DayCostAggregate {
+
+    // 일차 (방문 날짜가 없는 장소는 null)
+    Long getDayNumber();
+
+    Long getPlaceCount();
+
+    // 비용이 입력된 장소 수
+    Long getCostCount();
+
+    Long getTotalCost();
+
+    Integer getMinCost();
+
+    Integer getMaxCost();
+
+    Double getAvgCost();
+
+    // 첫째 날부터 해당 일차까지의 누적 비용 (일차 없는 장소는 마지막에 합산)
+    Long getRunningTotal();
+}
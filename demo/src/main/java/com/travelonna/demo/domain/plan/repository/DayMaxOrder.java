@@ -0,0 +1,12 @@
+package com.travelonna.demo.domain.plan.repository;
+
+/**
+ * 일차별 최대 순서 조회 결과 프로젝션
+ */
+public interface DayMaxOrder {
+
+    // 일차 (방문 날짜가 없는 장소는 null)
+    Long getDayNumber();
+
+    Integer getMaxOrder();
+}
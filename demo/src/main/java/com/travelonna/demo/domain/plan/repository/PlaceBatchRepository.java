@@ -0,0 +1,78 @@
+package com.travelonna.demo.domain.plan.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.travelonna.demo.domain.plan.entity.Place;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장소 일괄 저장용 JDBC 리포지토리
+ * Place는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO place (plan_id, place, is_public, visit_date, place_cost, memo, lat, lon, p_name, p_order, google_id, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 장소 목록을 한 번의 JDBC 배치로 저장하고, 생성된 ID를 각 엔티티에 설정합니다.
+     * 현재 트랜잭션의 커넥션을 그대로 사용합니다.
+     */
+    public void insertAll(List<Place> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Place place = places.get(i);
+                        ps.setInt(1, place.getPlan().getPlanId());
+                        ps.setString(2, place.getPlace());
+                        ps.setObject(3, place.getIsPublic(), Types.BOOLEAN);
+                        ps.setTimestamp(4, place.getVisitDate() != null ? Timestamp.valueOf(place.getVisitDate()) : null);
+                        ps.setObject(5, place.getPlaceCost(), Types.INTEGER);
+                        ps.setString(6, place.getMemo());
+                        ps.setObject(7, place.getLat(), Types.DOUBLE);
+                        ps.setObject(8, place.getLon(), Types.DOUBLE);
+                        ps.setString(9, place.getName());
+                        ps.setInt(10, place.getOrder());
+                        ps.setString(11, place.getGoogleId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return places.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < places.size() && i < keys.size(); i++) {
+            Number generatedId = (Number) keys.get(i).values().iterator().next();
+            places.get(i).setPlaceId(generatedId.intValue());
+            places.get(i).setVersion(0L);
+        }
+    }
+}
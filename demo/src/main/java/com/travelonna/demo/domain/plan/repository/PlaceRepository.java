@@ -1,10 +1,12 @@
 package com.travelonna.demo.domain.plan.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,8 +22,22 @@ public interface PlaceRepository extends JpaRepository<Place, Integer> {
     @Query("SELECT p FROM Place p WHERE p.plan.planId = :planId ORDER BY p.order")
     List<Place> findByPlanIdOrderByOrder(@Param("planId") Integer planId);
     
+    // 여러 일정의 장소를 한 번에 조회 (그룹 일정 묶음 조회용)
+    @Query("SELECT p FROM Place p WHERE p.plan.planId IN :planIds ORDER BY p.plan.planId, p.order")
+    List<Place> findByPlanIdInOrderByOrder(@Param("planIds") Collection<Integer> planIds);
+    
     Optional<Place> findByPlaceIdAndPlan_PlanId(Integer placeId, Integer planId);
     
+    // 공개 장소 전체 조회 (공간 색인 재구성용)
+    List<Place> findByIsPublicTrue();
+    
+    // 바운딩 박스 내 공개 장소 조회 (idx_place_public_lat_lon 사용)
+    @Query("SELECT p FROM Place p WHERE p.isPublic = true " +
+           "AND p.lat BETWEEN :minLat AND :maxLat " +
+           "AND p.lon BETWEEN :minLon AND :maxLon")
+    List<Place> findPublicInBoundingBox(@Param("minLat") Double minLat, @Param("minLon") Double minLon,
+                                        @Param("maxLat") Double maxLat, @Param("maxLon") Double maxLon);
+    
     @Query("SELECT MAX(p.order) FROM Place p WHERE p.plan.planId = :planId")
     Integer findMaxOrderByPlanId(@Param("planId") Integer planId);
     
@@ -30,6 +46,26 @@ public interface PlaceRepository extends JpaRepository<Place, Integer> {
            "AND FUNCTION('DATEDIFF', p.visitDate, p.plan.startDate) = :dayNumber - 1")
     Integer findMaxOrderByPlanIdAndDay(@Param("planId") Integer planId, @Param("dayNumber") Integer dayNumber);
     
+    // 일차별 최대 순서 조회 (일괄 추가 시 한 번의 쿼리로 순서 계산)
+    @Query(value = "SELECT DATEDIFF(p.visit_date, pl.start_date) + 1 AS dayNumber, MAX(p.p_order) AS maxOrder " +
+                   "FROM place p JOIN plan pl ON p.plan_id = pl.plan_id " +
+                   "WHERE p.plan_id = :planId " +
+                   "GROUP BY DATEDIFF(p.visit_date, pl.start_date)", nativeQuery = true)
+    List<DayMaxOrder> findMaxOrderPerDayByPlanId(@Param("planId") Integer planId);
+    
+    // 일차별 비용 집계 및 누적 비용 (한 번의 집계 쿼리로 계산, 일차 없는 장소는 마지막)
+    @Query(value = "SELECT d.day_number AS dayNumber, d.place_count AS placeCount, d.cost_count AS costCount, " +
+                   "d.total_cost AS totalCost, d.min_cost AS minCost, d.max_cost AS maxCost, d.avg_cost AS avgCost, " +
+                   "SUM(d.total_cost) OVER (ORDER BY d.day_number IS NULL, d.day_number) AS runningTotal " +
+                   "FROM (SELECT DATEDIFF(p.visit_date, pl.start_date) + 1 AS day_number, COUNT(*) AS place_count, " +
+                   "COUNT(p.place_cost) AS cost_count, COALESCE(SUM(p.place_cost), 0) AS total_cost, " +
+                   "MIN(p.place_cost) AS min_cost, MAX(p.place_cost) AS max_cost, AVG(p.place_cost) AS avg_cost " +
+                   "FROM place p JOIN plan pl ON p.plan_id = pl.plan_id " +
+                   "WHERE p.plan_id = :planId " +
+                   "GROUP BY DATEDIFF(p.visit_date, pl.start_date)) d " +
+                   "ORDER BY d.day_number IS NULL, d.day_number", nativeQuery = true)
+    List<DayCostAggregate> aggregateCostPerDayByPlanId(@Param("planId") Integer planId);
+    
     // 특정 일차의 모든 장소 조회
     @Query("SELECT p FROM Place p WHERE p.plan.planId = :planId " +
            "AND FUNCTION('DATEDIFF', p.visitDate, p.plan.startDate) = :dayNumber - 1 " +
@@ -42,4 +78,18 @@ public interface PlaceRepository extends JpaRepository<Place, Integer> {
                   "AND DATEDIFF(p.visit_date, pl.start_date) = :dayNumber - 1 " +
                   "ORDER BY p.p_order", nativeQuery = true)
     List<Place> findByPlanIdAndDayNative(@Param("planId") Integer planId, @Param("dayNumber") Integer dayNumber);
-} 
\ No newline at end of file
+    
+    // 일정의 장소 비용 합계 조회
+    @Query("SELECT COALESCE(SUM(p.placeCost), 0) FROM Place p WHERE p.plan.planId = :planId")
+    Integer sumPlaceCostByPlanId(@Param("planId") Integer planId);
+    
+    // 일정 복제: 원본 일정의 장소를 한 번의 INSERT ... SELECT로 복사 (방문 날짜는 dayOffset만큼 이동, 비공개로 복사)
+    @Modifying
+    @Query(value = "INSERT INTO place (plan_id, place, is_public, visit_date, place_cost, memo, lat, lon, p_name, p_order, google_id) " +
+                   "SELECT :targetPlanId, p.place, FALSE, DATE_ADD(p.visit_date, INTERVAL :dayOffset DAY), " +
+                   "p.place_cost, p.memo, p.lat, p.lon, p.p_name, p.p_order, p.google_id " +
+                   "FROM place p WHERE p.plan_id = :sourcePlanId " +
+                   "ORDER BY p.p_order, p.place_id", nativeQuery = true)
+    int copyPlaces(@Param("sourcePlanId") Integer sourcePlanId, @Param("targetPlanId") Integer targetPlanId,
+                   @Param("dayOffset") long dayOffset);
+} 
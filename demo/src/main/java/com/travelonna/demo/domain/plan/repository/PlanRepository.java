@@ -1,11 +1,17 @@
 package com.travelonna.demo.domain.plan.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.travelonna.demo.domain.plan.dto.PlanSummaryDto;
 import com.travelonna.demo.domain.plan.entity.Plan;
 
 @Repository
@@ -19,4 +25,36 @@ public interface PlanRepository extends JpaRepository<Plan, Integer> {
     
     // 일정 ID와 사용자 ID로 일정 조회 (권한 확인용)
     Optional<Plan> findByPlanIdAndUserId(Integer planId, Integer userId);
+    
+    // 사용자 일정 요약 첫 페이지 조회 (시작 날짜, 일정 ID 순)
+    @Query("SELECT new com.travelonna.demo.domain.plan.dto.PlanSummaryDto(" +
+           "p.planId, p.startDate, p.endDate, p.transportInfo, p.location, p.title, p.isPublic, p.totalCost) " +
+           "FROM Plan p WHERE p.userId = :userId " +
+           "ORDER BY p.startDate, p.planId")
+    List<PlanSummaryDto> findSummariesByUserId(@Param("userId") Integer userId, Pageable pageable);
+    
+    // 사용자 일정 요약 다음 페이지 조회 (커서 이후, idx_plan_user_start_date 사용)
+    @Query("SELECT new com.travelonna.demo.domain.plan.dto.PlanSummaryDto(" +
+           "p.planId, p.startDate, p.endDate, p.transportInfo, p.location, p.title, p.isPublic, p.totalCost) " +
+           "FROM Plan p WHERE p.userId = :userId " +
+           "AND (p.startDate > :cursorDate OR (p.startDate = :cursorDate AND p.planId > :cursorId)) " +
+           "ORDER BY p.startDate, p.planId")
+    List<PlanSummaryDto> findSummariesByUserIdAfter(@Param("userId") Integer userId,
+                                                   @Param("cursorDate") LocalDate cursorDate,
+                                                   @Param("cursorId") Integer cursorId,
+                                                   Pageable pageable);
+    
+    // 일정 총 비용 갱신 (버전 검사 없이 총 비용만 변경하므로 장소 동시 수정 시 일정 충돌이 나지 않음)
+    @Modifying
+    @Query("UPDATE Plan p SET p.totalCost = :totalCost WHERE p.planId = :planId")
+    int updateTotalCost(@Param("planId") Integer planId, @Param("totalCost") Integer totalCost);
+    
+    // 일정이 속한 그룹 ID 조회 (그룹 편집 작업의 일정 소속 확인용)
+    @Query("SELECT p.groupId FROM Plan p WHERE p.planId = :planId")
+    Optional<Integer> findGroupIdByPlanId(@Param("planId") Integer planId);
+    
+    // 일정 버전 증가 (일정/장소 변경 시 상세 응답 캐시 무효화용)
+    @Modifying
+    @Query("UPDATE Plan p SET p.revision = p.revision + 1 WHERE p.planId = :planId")
+    int incrementRevision(@Param("planId") Integer planId);
 } 
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.travelonna.demo.domain.plan.service;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.travelonna.demo.global.exception.ConflictException;
+import com.travelonna.demo.global.exception.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정/장소의 버전별 변경 필드 기록
+ * 클라이언트가 이전 버전을 기준으로 수정을 보냈을 때, 그 사이에 바뀐 필드와
+ * 요청한 필드가 겹치지 않으면 병합하고, 겹치면 ConflictException을 발생시킵니다.
+ * 기록은 엔티티당 최근 MAX_VERSIONS_PER_ENTITY개만 메모리에 보관하며,
+ * 기록이 없는 구간은 판단할 수 없으므로 충돌로 처리합니다.
+ */
+@Slf4j
+@Component
+public class EditHistory {
+
+    public static final String PLAN = "plan";
+    public static final String PLACE = "place";
+
+    private static final int MAX_VERSIONS_PER_ENTITY = 32;
+    private static final int MAX_ENTITIES = 10_000;
+
+    // "유형:ID" -> 최근 변경 기록 (오래된 순)
+    private final Map<String, Deque<Change>> history = Collections.synchronizedMap(
+            new LinkedHashMap<String, Deque<Change>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Deque<Change>> eldest) {
+                    return size() > MAX_ENTITIES;
+                }
+            });
+
+    /**
+     * 요청한 변경이 현재 버전에 적용 가능한지 검사합니다.
+     *
+     * @param entityType 엔티티 유형 (PLAN, PLACE)
+     * @param id 엔티티 ID
+     * @param currentVersion 현재 버전
+     * @param expectedVersion 클라이언트가 기준으로 삼은 버전 (null이면 검사하지 않음)
+     * @param changedFields 요청으로 실제 값이 바뀌는 필드
+     * @param errorCode 충돌 시 사용할 오류 코드
+     * @param currentState 충돌 응답에 포함할 현재 상태
+     */
+    public void checkConflicts(String entityType, Integer id, Long currentVersion, Long expectedVersion,
+                               Set<String> changedFields, ErrorCode errorCode, Supplier<Object> currentState) {
+        if (expectedVersion == null || expectedVersion.equals(currentVersion) || changedFields.isEmpty()) {
+            return;
+        }
+
+        Set<String> conflicts = new LinkedHashSet<>(changedFields);
+        if (expectedVersion < currentVersion) {
+            Set<String> changedSince = changedSince(entityType, id, expectedVersion, currentVersion);
+            if (changedSince != null) {
+                conflicts.retainAll(changedSince);
+            }
+        }
+
+        if (!conflicts.isEmpty()) {
+            throw new ConflictException(errorCode, currentVersion, conflicts, currentState.get());
+        }
+
+        log.info("버전 병합: {} ID {}, 기준 버전 {}, 현재 버전 {}, 변경 필드 {}",
+                entityType, id, expectedVersion, currentVersion, changedFields);
+    }
+
+    /**
+     * 변경 기록을 추가합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void record(String entityType, Integer id, Long version, Set<String> fields) {
+        if (id == null || version == null || fields.isEmpty()) {
+            return;
+        }
+        Change change = new Change(version, Set.copyOf(fields));
+        afterCommit(() -> {
+            Deque<Change> changes = history.computeIfAbsent(key(entityType, id), k -> new ArrayDeque<>());
+            synchronized (changes) {
+                changes.addLast(change);
+                while (changes.size() > MAX_VERSIONS_PER_ENTITY) {
+                    changes.removeFirst();
+                }
+            }
+        });
+    }
+
+    /**
+     * 삭제된 엔티티의 기록을 제거합니다.
+     */
+    public void forget(String entityType, Integer id) {
+        afterCommit(() -> history.remove(key(entityType, id)));
+    }
+
+    /**
+     * fromVersion 이후 toVersion까지 변경된 필드를 반환합니다.
+     * 구간 중 기록이 없는 버전이 있으면 null을 반환합니다.
+     */
+    private Set<String> changedSince(String entityType, Integer id, long fromVersion, long toVersion) {
+        Deque<Change> changes = history.get(key(entityType, id));
+        if (changes == null) {
+            return null;
+        }
+
+        Set<String> fields = new LinkedHashSet<>();
+        int covered = 0;
+        synchronized (changes) {
+            for (Change change : changes) {
+                if (change.getVersion() > fromVersion && change.getVersion() <= toVersion) {
+                    fields.addAll(change.getFields());
+                    covered++;
+                }
+            }
+        }
+        return covered == toVersion - fromVersion ? fields : null;
+    }
+
+    private static String key(String entityType, Integer id) {
+        return entityType + ":" + id;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Change {
+        private final long version;
+        private final Set<String> fields;
+    }
+}
@@ -1,9 +1,17 @@
 package com.travelonna.demo.domain.plan.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -12,13 +20,18 @@ import org.springframework.transaction.annotation.Transactional;
 import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.AddPlaceDto;
 import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.CreatePlaceDto;
 import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.UpdatePlaceDto;
+import com.travelonna.demo.domain.plan.dto.MergedPlaceChangeDto;
+import com.travelonna.demo.domain.plan.dto.NearbyPlaceResponseDto;
 import com.travelonna.demo.domain.plan.dto.PlaceResponseDto;
 import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.repository.DayMaxOrder;
+import com.travelonna.demo.domain.plan.repository.PlaceBatchRepository;
 import com.travelonna.demo.domain.plan.repository.PlaceRepository;
 import com.travelonna.demo.domain.plan.repository.PlanRepository;
 import com.travelonna.demo.global.exception.BusinessException;
 import com.travelonna.demo.global.exception.ErrorCode;
+import com.travelonna.demo.global.util.GeoUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,8 +43,18 @@ import lombok.extern.slf4j.Slf4j;
 public class PlaceService {
     
     private final PlaceRepository placeRepository;
+    private final PlaceBatchRepository placeBatchRepository;
     private final PlanRepository planRepository;
     private final PlanService planService;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final EditHistory editHistory;
+    
+    // 주변 장소 조회 제한값
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    
+    // 일괄 추가 최대 장소 수
+    private static final int MAX_BATCH_SIZE = 500;
     
     /**
      * 여행 장소 생성
@@ -65,6 +88,7 @@ public class PlaceService {
                 .build();
         
         Place savedPlace = placeRepository.save(place);
+        placeSpatialIndex.onPlaceSaved(savedPlace);
         log.info("여행 장소 생성 완료: 장소 ID {}", savedPlace.getPlaceId());
         
         // 일정 총 비용 업데이트
@@ -132,6 +156,106 @@ public class PlaceService {
         return PlaceResponseDto.fromEntityWithDay(savedPlace);
     }
     
+    /**
+     * 여행 장소 일괄 생성
+     * 권한 확인, 일차별 최대 순서 조회, JDBC 배치 INSERT, 총 비용 계산을 요청당 한 번씩만 수행합니다.
+     * 순서가 지정되지 않은 장소는 방문 날짜로 계산한 일차별로 이어지는 순서를 부여합니다.
+     */
+    @Transactional
+    public List<PlaceResponseDto> createPlaces(Integer userId, Integer planId, List<CreatePlaceDto> requestDtos) {
+        log.info("여행 장소 일괄 생성 요청: 사용자 ID {}, 일정 ID {}, 장소 수 {}", userId, planId, requestDtos.size());
+        validateBatchSize(requestDtos);
+        
+        // 일정 존재 여부 확인 및 권한 체크
+        Plan plan = planRepository.findByPlanIdAndUserId(planId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PLAN_NOT_FOUND));
+        
+        OrderAllocator orderAllocator = new OrderAllocator(placeRepository.findMaxOrderPerDayByPlanId(planId));
+        
+        List<Place> places = new ArrayList<>();
+        for (CreatePlaceDto requestDto : requestDtos) {
+            Long dayNumber = null;
+            if (requestDto.getVisitDate() != null && plan.getStartDate() != null) {
+                dayNumber = ChronoUnit.DAYS.between(plan.getStartDate(), requestDto.getVisitDate()) + 1;
+            }
+            
+            places.add(Place.builder()
+                    .plan(plan)
+                    .place(requestDto.getPlace())
+                    .isPublic(requestDto.getIsPublic() != null ? requestDto.getIsPublic() : false)
+                    .visitDate(requestDto.getVisitDate() != null ? requestDto.getVisitDate().atStartOfDay() : null)
+                    .placeCost(requestDto.getPlaceCost())
+                    .memo(requestDto.getMemo())
+                    .lat(requestDto.getLat())
+                    .lon(requestDto.getLon())
+                    .name(requestDto.getName())
+                    .order(orderAllocator.next(dayNumber, requestDto.getOrder()))
+                    .googleId(requestDto.getGoogleId())
+                    .build());
+        }
+        
+        return saveBatch(plan, places);
+    }
+    
+    /**
+     * 일정 생성 후 장소 일괄 추가
+     * 순서가 지정되지 않은 장소는 일차(dayNumber)별로 이어지는 순서를 부여합니다.
+     */
+    @Transactional
+    public List<PlaceResponseDto> addPlaces(Integer userId, Integer planId, List<AddPlaceDto> requestDtos) {
+        log.info("장소 일괄 추가 요청: 사용자 ID {}, 일정 ID {}, 장소 수 {}", userId, planId, requestDtos.size());
+        validateBatchSize(requestDtos);
+        
+        // 일정 존재 여부 확인 및 권한 체크
+        Plan plan = planRepository.findByPlanIdAndUserId(planId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PLAN_NOT_FOUND));
+        
+        OrderAllocator orderAllocator = new OrderAllocator(placeRepository.findMaxOrderPerDayByPlanId(planId));
+        
+        List<Place> places = new ArrayList<>();
+        for (AddPlaceDto requestDto : requestDtos) {
+            LocalDateTime visitDate = null;
+            if (requestDto.getDayNumber() != null && plan.getStartDate() != null) {
+                visitDate = plan.getStartDate().plusDays(requestDto.getDayNumber() - 1).atStartOfDay();
+            }
+            Long dayNumber = requestDto.getDayNumber() != null ? requestDto.getDayNumber().longValue() : null;
+            
+            places.add(Place.builder()
+                    .plan(plan)
+                    .place(requestDto.getAddress())
+                    .isPublic(false) // 기본값
+                    .name(requestDto.getName())
+                    .order(orderAllocator.next(dayNumber, requestDto.getOrder()))
+                    .visitDate(visitDate)
+                    .googleId(requestDto.getGoogleId())
+                    .build());
+        }
+        
+        return saveBatch(plan, places);
+    }
+    
+    private void validateBatchSize(List<?> requestDtos) {
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new IllegalArgumentException("추가할 장소 목록이 비어 있습니다.");
+        }
+        if (requestDtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 장소는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+    }
+    
+    private List<PlaceResponseDto> saveBatch(Plan plan, List<Place> places) {
+        placeBatchRepository.insertAll(places);
+        places.forEach(placeSpatialIndex::onPlaceSaved);
+        log.info("장소 일괄 저장 완료: 일정 ID {}, 장소 수 {}", plan.getPlanId(), places.size());
+        
+        // 일정 총 비용 업데이트 (일괄 처리당 한 번)
+        updatePlanTotalCost(plan.getPlanId());
+        
+        return places.stream()
+                .map(PlaceResponseDto::fromEntityWithDay)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 여행 장소 수정
      */
@@ -147,20 +271,37 @@ public class PlaceService {
         Place place = placeRepository.findByPlaceIdAndPlan_PlanId(placeId, planId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PLACE_NOT_FOUND));
         
-        // 장소 정보 업데이트
-        if (requestDto.getPlace() != null) place.setPlace(requestDto.getPlace());
-        if (requestDto.getIsPublic() != null) place.setIsPublic(requestDto.getIsPublic());
+        // 요청된 필드 중 실제로 값이 바뀌는 필드만 변경 대상으로 함
+        Map<String, Object> requested = new LinkedHashMap<>();
+        if (requestDto.getPlace() != null) requested.put("place", requestDto.getPlace());
+        if (requestDto.getIsPublic() != null) requested.put("isPublic", requestDto.getIsPublic());
         if (requestDto.getVisitDate() != null) {
-            place.setVisitDate(LocalDateTime.of(requestDto.getVisitDate(), java.time.LocalTime.MIDNIGHT));
+            requested.put("visitDate", LocalDateTime.of(requestDto.getVisitDate(), java.time.LocalTime.MIDNIGHT));
         }
-        if (requestDto.getPlaceCost() != null) place.setPlaceCost(requestDto.getPlaceCost());
-        if (requestDto.getMemo() != null) place.setMemo(requestDto.getMemo());
-        if (requestDto.getLat() != null) place.setLat(requestDto.getLat());
-        if (requestDto.getLon() != null) place.setLon(requestDto.getLon());
-        if (requestDto.getName() != null) place.setName(requestDto.getName());
-        if (requestDto.getOrder() != null) place.setOrder(requestDto.getOrder());
-        if (requestDto.getGoogleId() != null) place.setGoogleId(requestDto.getGoogleId());
-        Place updatedPlace = placeRepository.save(place);
+        if (requestDto.getPlaceCost() != null) requested.put("placeCost", requestDto.getPlaceCost());
+        if (requestDto.getMemo() != null) requested.put("memo", requestDto.getMemo());
+        if (requestDto.getLat() != null) requested.put("lat", requestDto.getLat());
+        if (requestDto.getLon() != null) requested.put("lon", requestDto.getLon());
+        if (requestDto.getName() != null) requested.put("name", requestDto.getName());
+        if (requestDto.getOrder() != null) requested.put("order", requestDto.getOrder());
+        if (requestDto.getGoogleId() != null) requested.put("googleId", requestDto.getGoogleId());
+        
+        Map<String, Object> changed = new LinkedHashMap<>();
+        requested.forEach((field, value) -> {
+            if (!Objects.equals(value, getPlaceField(place, field))) {
+                changed.put(field, value);
+            }
+        });
+        
+        // 기준 버전 이후 다른 사용자가 바꾼 필드와 겹치면 충돌, 겹치지 않으면 병합
+        editHistory.checkConflicts(EditHistory.PLACE, placeId, place.getVersion(), requestDto.getVersion(),
+                changed.keySet(), ErrorCode.PLACE_VERSION_CONFLICT, () -> PlaceResponseDto.fromEntityWithDay(place));
+        
+        // 장소 정보 업데이트
+        changed.forEach((field, value) -> setPlaceField(place, field, value));
+        Place updatedPlace = placeRepository.saveAndFlush(place);
+        editHistory.record(EditHistory.PLACE, placeId, updatedPlace.getVersion(), changed.keySet());
+        placeSpatialIndex.onPlaceSaved(updatedPlace);
         log.info("여행 장소 수정 완료: 장소 ID {}", updatedPlace.getPlaceId());
         
         // 일정 총 비용 업데이트
@@ -186,6 +327,8 @@ public class PlaceService {
         
         // 장소 삭제
         placeRepository.delete(place);
+        placeSpatialIndex.onPlaceDeleted(placeId);
+        editHistory.forget(EditHistory.PLACE, placeId);
         log.info("여행 장소 삭제 완료: 장소 ID {}", placeId);
         
         // 일정 총 비용 업데이트
@@ -215,6 +358,61 @@ public class PlaceService {
         return placeDtos;
     }
     
+    /**
+     * 주변 공개 장소 조회 (반경 검색)
+     * 
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param radiusMeters 반경 (미터)
+     * @param limit 최대 결과 수
+     * @return 가까운 순으로 정렬된 장소 목록
+     */
+    public List<NearbyPlaceResponseDto> getNearbyPlaces(Double lat, Double lon, Double radiusMeters, Integer limit) {
+        log.info("주변 장소 조회 요청: 위도 {}, 경도 {}, 반경 {}m", lat, lon, radiusMeters);
+        
+        if (!GeoUtil.isValidCoordinate(lat, lon)) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다: " + lat + ", " + lon);
+        }
+        if (radiusMeters == null || radiusMeters <= 0 || radiusMeters > MAX_NEARBY_RADIUS_METERS) {
+            throw new IllegalArgumentException("반경은 0보다 크고 " + (int) MAX_NEARBY_RADIUS_METERS + "m 이하여야 합니다.");
+        }
+        
+        List<NearbyPlaceResponseDto> result = placeSpatialIndex
+                .findWithinRadius(lat, lon, radiusMeters, normalizeLimit(limit)).stream()
+                .map(NearbyPlaceResponseDto::from)
+                .collect(Collectors.toList());
+        
+        log.info("주변 장소 조회 완료: 장소 수 {}", result.size());
+        return result;
+    }
+    
+    /**
+     * 바운딩 박스 내 공개 장소 조회
+     */
+    public List<NearbyPlaceResponseDto> getPlacesInBox(Double minLat, Double minLon, Double maxLat, Double maxLon, Integer limit) {
+        log.info("영역 내 장소 조회 요청: ({}, {}) ~ ({}, {})", minLat, minLon, maxLat, maxLon);
+        
+        if (!GeoUtil.isValidCoordinate(minLat, minLon) || !GeoUtil.isValidCoordinate(maxLat, maxLon)
+                || minLat > maxLat || minLon > maxLon) {
+            throw new IllegalArgumentException("유효하지 않은 영역입니다.");
+        }
+        
+        List<NearbyPlaceResponseDto> result = placeSpatialIndex
+                .findWithinBox(minLat, minLon, maxLat, maxLon, normalizeLimit(limit)).stream()
+                .map(NearbyPlaceResponseDto::from)
+                .collect(Collectors.toList());
+        
+        log.info("영역 내 장소 조회 완료: 장소 수 {}", result.size());
+        return result;
+    }
+    
+    private int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return 20;
+        }
+        return Math.min(limit, MAX_NEARBY_LIMIT);
+    }
+    
     /**
      * 장소 순서 일괄 업데이트
      * 
@@ -222,11 +420,13 @@ public class PlaceService {
      * @param planId 일정 ID
      * @param dayNumber 일차
      * @param placeIds 순서대로 정렬된 장소 ID 목록
+     * @param expectedVersions 장소 ID별 수정 기준 버전 (null이거나 없는 장소는 버전 검사 없이 덮어씀)
      * @return 업데이트된 장소 목록
      */
     @Transactional
     public List<PlaceResponseDto> updatePlacesOrder(Integer userId, Integer planId, 
-                                                  Integer dayNumber, List<Integer> placeIds) {
+                                                  Integer dayNumber, List<Integer> placeIds,
+                                                  Map<Integer, Long> expectedVersions) {
         log.info("장소 순서 일괄 업데이트 요청: 사용자 ID {}, 일정 ID {}, 일차 {}, 장소 수 {}", 
                 userId, planId, dayNumber, placeIds.size());
         
@@ -248,6 +448,7 @@ public class PlaceService {
         
         // 업데이트할 장소 목록
         List<Place> updatedPlaces = new ArrayList<>();
+        List<Place> changedPlaces = new ArrayList<>();
         
         // 순서 업데이트
         for (int i = 0; i < placeIds.size(); i++) {
@@ -255,7 +456,14 @@ public class PlaceService {
             Place place = placeMap.get(placeId);
             
             if (place != null) {
-                place.setOrder(i + 1); // 1부터 순차적으로 순서 부여
+                if (!Objects.equals(place.getOrder(), i + 1)) {
+                    // 기준 버전 이후 다른 사용자가 이 장소의 순서를 바꿨으면 충돌
+                    Long expectedVersion = expectedVersions != null ? expectedVersions.get(placeId) : null;
+                    editHistory.checkConflicts(EditHistory.PLACE, placeId, place.getVersion(), expectedVersion,
+                            Set.of("order"), ErrorCode.PLACE_VERSION_CONFLICT, () -> PlaceResponseDto.fromEntityWithDay(place));
+                    place.setOrder(i + 1); // 1부터 순차적으로 순서 부여
+                    changedPlaces.add(place);
+                }
                 updatedPlaces.add(place);
             } else {
                 log.warn("장소 ID {}가 해당 일정에 존재하지 않습니다.", placeId);
@@ -263,7 +471,9 @@ public class PlaceService {
         }
         
         // 변경된 장소 저장
-        List<Place> savedPlaces = placeRepository.saveAll(updatedPlaces);
+        List<Place> savedPlaces = placeRepository.saveAllAndFlush(updatedPlaces);
+        changedPlaces.forEach(place -> editHistory.record(EditHistory.PLACE, place.getPlaceId(), place.getVersion(), Set.of("order")));
+        planService.markPlanChanged(planId);
         log.info("장소 순서 일괄 업데이트 완료: 업데이트된 장소 수 {}", savedPlaces.size());
         
         // 응답 DTO 생성
@@ -272,6 +482,85 @@ public class PlaceService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 그룹 동시 편집으로 병합된 장소 상태를 DB에 반영 (CRDT 압축)
+     * 그룹 멤버의 편집이므로 일정 소유자 검사는 하지 않으며 (일정의 그룹 소속은 PlanCrdtService가 작업을 받을 때 확인),
+     * 이 일정의 장소만 반영하고 이미 삭제된 장소는 건너뜁니다.
+     *
+     * @param planId 일정 ID
+     * @param changes 장소별 변경 내용
+     * @param orderedPlaceIds 순서가 바뀐 경우 일정 전체의 정렬된 장소 ID 목록 (바뀌지 않았으면 null)
+     */
+    @Transactional
+    public void applyMergedState(Integer planId, List<MergedPlaceChangeDto> changes, List<Integer> orderedPlaceIds) {
+        log.info("병합된 장소 상태 반영: 일정 ID {}, 변경 장소 수 {}, 순서 변경 {}",
+                planId, changes.size(), orderedPlaceIds != null);
+
+        List<Place> places = placeRepository.findByPlanIdOrderByOrder(planId);
+        Map<Integer, Place> placeMap = places.stream()
+                .collect(Collectors.toMap(Place::getPlaceId, place -> place));
+
+        Map<Integer, Set<String>> changedFieldsByPlace = new LinkedHashMap<>();
+
+        // 필드 변경 및 삭제 반영
+        for (MergedPlaceChangeDto change : changes) {
+            Place place = placeMap.get(change.getPlaceId());
+            if (place == null) {
+                continue;
+            }
+
+            if (change.isDeleted()) {
+                placeRepository.delete(place);
+                placeMap.remove(change.getPlaceId());
+                placeSpatialIndex.onPlaceDeleted(change.getPlaceId());
+                editHistory.forget(EditHistory.PLACE, change.getPlaceId());
+                continue;
+            }
+
+            change.getFields().forEach((field, value) -> {
+                if (!Objects.equals(value, getPlaceField(place, field))) {
+                    setPlaceField(place, field, value);
+                    changedFieldsByPlace.computeIfAbsent(place.getPlaceId(), id -> new LinkedHashSet<>()).add(field);
+                }
+            });
+        }
+
+        // 순서 변경: 병합된 순서를 일차별 1부터의 순서로 변환 (병합 순서에 없는 장소는 기존 순서대로 뒤에 배치)
+        if (orderedPlaceIds != null) {
+            Set<Integer> mergedIds = new HashSet<>(orderedPlaceIds);
+            List<Place> ordered = new ArrayList<>();
+            orderedPlaceIds.stream().map(placeMap::get).filter(Objects::nonNull).forEach(ordered::add);
+            places.stream()
+                    .filter(place -> placeMap.containsKey(place.getPlaceId()) && !mergedIds.contains(place.getPlaceId()))
+                    .forEach(ordered::add);
+
+            Map<LocalDate, Integer> nextOrderByDay = new HashMap<>();
+            for (Place place : ordered) {
+                LocalDate day = place.getVisitDate() != null ? place.getVisitDate().toLocalDate() : null;
+                int order = nextOrderByDay.merge(day, 1, Integer::sum);
+                if (!Objects.equals(place.getOrder(), order)) {
+                    place.setOrder(order);
+                    changedFieldsByPlace.computeIfAbsent(place.getPlaceId(), id -> new LinkedHashSet<>()).add("order");
+                }
+            }
+        }
+
+        List<Place> changedPlaces = changedFieldsByPlace.keySet().stream()
+                .map(placeMap::get)
+                .collect(Collectors.toList());
+        List<Place> savedPlaces = placeRepository.saveAllAndFlush(changedPlaces);
+        for (Place place : savedPlaces) {
+            editHistory.record(EditHistory.PLACE, place.getPlaceId(), place.getVersion(),
+                    changedFieldsByPlace.get(place.getPlaceId()));
+            placeSpatialIndex.onPlaceSaved(place);
+        }
+
+        // 일정 총 비용 업데이트 (일정 버전 증가 및 캐시 무효화 포함)
+        updatePlanTotalCost(planId);
+
+        log.info("병합된 장소 상태 반영 완료: 일정 ID {}, 저장된 장소 수 {}", planId, savedPlaces.size());
+    }
+
     /**
      * 일정 총 비용 자동 계산 및 업데이트 
      * (일정에 장소가 추가/수정/삭제될 때마다 자동으로 호출)
@@ -282,21 +571,85 @@ public class PlaceService {
         log.info("일정 총 비용 자동 계산: 일정 ID {}", planId);
         
         // 해당 일정의 모든 장소 비용 합산
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(planId);
+        Integer totalCost = placeRepository.sumPlaceCostByPlanId(planId);
         
-        Integer totalCost = places.stream()
-                .filter(place -> place.getPlaceCost() != null)
-                .mapToInt(Place::getPlaceCost)
-                .sum();
-        
-        // 계산된 총 비용으로 일정 업데이트
-        Plan plan = planRepository.findById(planId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PLAN_NOT_FOUND));
+        // 계산된 총 비용으로 일정 업데이트 (일정 버전은 증가시키지 않음)
+        if (planRepository.updateTotalCost(planId, totalCost) == 0) {
+            throw new BusinessException(ErrorCode.PLAN_NOT_FOUND);
+        }
         
-        // 일정 비용 직접 업데이트
-        plan.updateTotalCost(totalCost);
-        planRepository.save(plan);
+        // 장소 변경에 따른 일정 버전 증가 및 상세 캐시 무효화
+        planService.markPlanChanged(planId);
         
         log.info("일정 총 비용 자동 계산 완료: 일정 ID {}, 총 비용 {}", planId, totalCost);
     }
-} 
\ No newline at end of file
+    
+    private Object getPlaceField(Place place, String field) {
+        switch (field) {
+            case "place": return place.getPlace();
+            case "isPublic": return place.getIsPublic();
+            case "visitDate": return place.getVisitDate();
+            case "placeCost": return place.getPlaceCost();
+            case "memo": return place.getMemo();
+            case "lat": return place.getLat();
+            case "lon": return place.getLon();
+            case "name": return place.getName();
+            case "order": return place.getOrder();
+            case "googleId": return place.getGoogleId();
+            default: throw new IllegalArgumentException("수정할 수 없는 장소 필드입니다: " + field);
+        }
+    }
+    
+    private void setPlaceField(Place place, String field, Object value) {
+        switch (field) {
+            case "place": place.setPlace((String) value); break;
+            case "isPublic": place.setIsPublic((Boolean) value); break;
+            case "visitDate": place.setVisitDate((LocalDateTime) value); break;
+            case "placeCost": place.setPlaceCost((Integer) value); break;
+            case "memo": place.setMemo((String) value); break;
+            case "lat": place.setLat((Double) value); break;
+            case "lon": place.setLon((Double) value); break;
+            case "name": place.setName((String) value); break;
+            case "order": place.setOrder((Integer) value); break;
+            case "googleId": place.setGoogleId((String) value); break;
+            default: throw new IllegalArgumentException("수정할 수 없는 장소 필드입니다: " + field);
+        }
+    }
+    
+    /**
+     * 일괄 추가 시 일차별 순서를 메모리에서 부여하는 도우미
+     * 일차가 없는 장소는 일정 전체의 최대 순서 다음 값을 받습니다.
+     */
+    private static class OrderAllocator {
+        
+        private final Map<Long, Integer> maxOrderByDay = new HashMap<>();
+        private int globalMaxOrder = 0;
+        
+        OrderAllocator(List<DayMaxOrder> dayMaxOrders) {
+            for (DayMaxOrder dayMaxOrder : dayMaxOrders) {
+                int maxOrder = dayMaxOrder.getMaxOrder() != null ? dayMaxOrder.getMaxOrder() : 0;
+                if (dayMaxOrder.getDayNumber() != null) {
+                    maxOrderByDay.put(dayMaxOrder.getDayNumber(), maxOrder);
+                }
+                globalMaxOrder = Math.max(globalMaxOrder, maxOrder);
+            }
+        }
+        
+        int next(Long dayNumber, Integer requestedOrder) {
+            int order;
+            if (requestedOrder != null) {
+                order = requestedOrder;
+            } else if (dayNumber != null) {
+                order = maxOrderByDay.getOrDefault(dayNumber, 0) + 1;
+            } else {
+                order = globalMaxOrder + 1;
+            }
+            
+            if (dayNumber != null) {
+                maxOrderByDay.merge(dayNumber, order, Math::max);
+            }
+            globalMaxOrder = Math.max(globalMaxOrder, order);
+            return order;
+        }
+    }
+} 
@@ -0,0 +1,243 @@
+package com.travelonna.demo.domain.plan.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.global.util.GeoUtil;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 장소에 대한 메모리 내 공간 색인
+ * 지오해시(정밀도 12) + 장소 ID를 키로 하는 정렬 맵에 장소를 저장하고,
+ * 영역 조회는 영역을 덮는 지오해시 접두사마다 범위 조회(O(log n))로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndex {
+
+    private final PlaceRepository placeRepository;
+
+    // "지오해시#장소ID" -> 색인 항목
+    private final ConcurrentSkipListMap<String, IndexedPlace> index = new ConcurrentSkipListMap<>();
+
+    // 장소 ID -> 색인 키 (갱신/삭제 시 기존 키를 찾기 위함)
+    private final Map<Integer, String> keysByPlaceId = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 공개 장소 전체로 색인을 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("장소 공간 색인 재구성 시작");
+
+        index.clear();
+        keysByPlaceId.clear();
+
+        List<Place> publicPlaces = placeRepository.findByIsPublicTrue();
+        publicPlaces.forEach(this::put);
+        ready = true;
+
+        log.info("장소 공간 색인 재구성 완료: 색인된 장소 수 {}", keysByPlaceId.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return keysByPlaceId.size();
+    }
+
+    /**
+     * 장소 저장 후 호출합니다. 공개 장소이면서 좌표가 있으면 색인에 반영하고,
+     * 그렇지 않으면 색인에서 제거합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void onPlaceSaved(Place place) {
+        IndexedPlace entry = toIndexedPlace(place);
+        Integer placeId = place.getPlaceId();
+        afterCommit(() -> {
+            if (entry != null) {
+                put(entry);
+            } else {
+                remove(placeId);
+            }
+        });
+    }
+
+    /**
+     * 장소 삭제 후 호출합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void onPlaceDeleted(Integer placeId) {
+        afterCommit(() -> remove(placeId));
+    }
+
+    /**
+     * 일정 삭제 후 호출합니다. 해당 일정의 장소를 모두 색인에서 제거합니다.
+     */
+    public void onPlanDeleted(Integer planId) {
+        afterCommit(() -> index.values().stream()
+                .filter(entry -> planId.equals(entry.getPlanId()))
+                .map(IndexedPlace::getPlaceId)
+                .collect(Collectors.toList())
+                .forEach(this::remove));
+    }
+
+    /**
+     * 중심 좌표로부터 반경 내의 공개 장소를 가까운 순으로 조회합니다.
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param radiusMeters 반경 (미터)
+     * @param limit 최대 결과 수
+     */
+    public List<NearbyPlace> findWithinRadius(double lat, double lon, double radiusMeters, int limit) {
+        double[] box = GeoUtil.boundingBox(lat, lon, radiusMeters);
+
+        List<NearbyPlace> result = new ArrayList<>();
+        for (IndexedPlace candidate : scan(box[0], box[1], box[2], box[3])) {
+            double distance = GeoUtil.distanceMeters(lat, lon, candidate.getLat(), candidate.getLon());
+            if (distance <= radiusMeters) {
+                result.add(new NearbyPlace(candidate, distance));
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(NearbyPlace::getDistanceMeters));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * 바운딩 박스 안의 공개 장소를 조회합니다.
+     */
+    public List<IndexedPlace> findWithinBox(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+        List<IndexedPlace> result = new ArrayList<>();
+        for (IndexedPlace candidate : scan(minLat, minLon, maxLat, maxLon)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(candidate);
+        }
+        return result;
+    }
+
+    private List<IndexedPlace> scan(double minLat, double minLon, double maxLat, double maxLon) {
+        // 시작 직후 색인 재구성 전에는 바운딩 박스 인덱스를 사용해 DB에서 조회
+        if (!ready) {
+            return placeRepository.findPublicInBoundingBox(minLat, minLon, maxLat, maxLon).stream()
+                    .map(this::toIndexedPlace)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        List<IndexedPlace> candidates = new ArrayList<>();
+
+        for (String prefix : GeoUtil.coveringGeohashes(minLat, minLon, maxLat, maxLon)) {
+            NavigableMap<String, IndexedPlace> cell = prefix.isEmpty()
+                    ? index
+                    : index.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+            for (IndexedPlace candidate : cell.values()) {
+                if (candidate.getLat() >= minLat && candidate.getLat() <= maxLat
+                        && candidate.getLon() >= minLon && candidate.getLon() <= maxLon) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void put(Place place) {
+        IndexedPlace entry = toIndexedPlace(place);
+        if (entry != null) {
+            put(entry);
+        }
+    }
+
+    private void put(IndexedPlace entry) {
+        String key = GeoUtil.encodeGeohash(entry.getLat(), entry.getLon(), GeoUtil.MAX_PRECISION)
+                + "#" + entry.getPlaceId();
+
+        String previousKey = keysByPlaceId.put(entry.getPlaceId(), key);
+        if (previousKey != null && !previousKey.equals(key)) {
+            index.remove(previousKey);
+        }
+        index.put(key, entry);
+    }
+
+    private void remove(Integer placeId) {
+        if (placeId == null) {
+            return;
+        }
+        String key = keysByPlaceId.remove(placeId);
+        if (key != null) {
+            index.remove(key);
+        }
+    }
+
+    private IndexedPlace toIndexedPlace(Place place) {
+        if (place.getPlaceId() == null || !Boolean.TRUE.equals(place.getIsPublic())) {
+            return null;
+        }
+
+        if (!GeoUtil.isValidCoordinate(place.getLat(), place.getLon())) {
+            return null;
+        }
+
+        Integer planId = place.getPlan() != null ? place.getPlan().getPlanId() : null;
+        return new IndexedPlace(place.getPlaceId(), planId, place.getName(), place.getPlace(),
+                place.getGoogleId(), place.getLat(), place.getLon());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class IndexedPlace {
+        private final Integer placeId;
+        private final Integer planId;
+        private final String name;
+        private final String address;
+        private final String googleId;
+        private final double lat;
+        private final double lon;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NearbyPlace {
+        private final IndexedPlace place;
+        private final double distanceMeters;
+    }
+}
@@ -0,0 +1,130 @@
+package com.travelonna.demo.domain.plan.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.domain.group.service.PlanMessageBroadcaster;
+import com.travelonna.demo.domain.plan.dto.PlanDetailResponseDto;
+import com.travelonna.demo.global.common.ApiResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 상세 응답 캐시
+ * 일정 ID별로 (버전, 소유자, 직렬화된 응답 본문)을 보관하며,
+ * 일정 또는 장소가 변경되면 트랜잭션 종료 후에 해당 일정의 항목을 제거합니다.
+ * 노드 간 브리지가 구성되어 있으면 제거 사실을 다른 노드에도 전달하므로, 캐시 적중과 304 응답은 DB 조회 없이 처리됩니다.
+ * 브리지가 없는 구성(relay 모드 등)에서는 짧은 유효 시간(plan.detail-cache.ttl-ms)이 지나면 다시 조회합니다.
+ */
+@Slf4j
+@Component
+public class PlanDetailCache {
+
+    private final ObjectMapper objectMapper;
+    // PlanMessageBroadcaster가 PlanService를 거쳐 이 캐시에 의존하므로 지연 조회
+    private final ObjectProvider<PlanMessageBroadcaster> broadcasterProvider;
+    private final PlanScopedCache<CachedPlanDetail> entries;
+
+    public PlanDetailCache(ObjectMapper objectMapper, ObjectProvider<PlanMessageBroadcaster> broadcasterProvider,
+                           @Value("${plan.detail-cache.max-entries:1000}") int maxEntries,
+                           @Value("${plan.detail-cache.ttl-ms:60000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.broadcasterProvider = broadcasterProvider;
+        this.entries = new PlanScopedCache<>(maxEntries, ttlMillis);
+    }
+
+    /**
+     * 캐시된 상세 응답을 반환하고, 없으면 loader로 조회한 뒤 직렬화해 캐시합니다.
+     *
+     * @param userId 요청 사용자 ID (일정 소유자만 캐시 항목을 사용할 수 있음)
+     * @param planId 일정 ID
+     * @param message 응답 메시지
+     * @param loader 캐시 미스 시 상세 정보를 조회하는 함수
+     */
+    public CachedPlanDetail getOrLoad(Integer userId, Integer planId, String message,
+                                      Supplier<PlanDetailResponseDto> loader) {
+        CachedPlanDetail cached = entries.get(planId);
+        if (cached != null && cached.getUserId().equals(userId)) {
+            log.debug("일정 상세 캐시 적중: 일정 ID {}, 버전 {}", planId, cached.getRevision());
+            return cached;
+        }
+
+        return entries.load(planId, () -> {
+            PlanDetailResponseDto detail = loader.get();
+            return new CachedPlanDetail(planId, detail.getUserId(), detail.getRevision(),
+                    toETag(planId, detail.getRevision()), serialize(ApiResponse.success(message, detail)));
+        });
+    }
+
+    /**
+     * 일정이 변경되었을 때 호출합니다. 트랜잭션 안에서는 트랜잭션 종료 후에 캐시에서 제거되고,
+     * 브리지가 구성되어 있으면 다른 노드에도 제거를 요청합니다.
+     */
+    public void evict(Integer planId) {
+        entries.evict(planId, () -> {
+            PlanMessageBroadcaster broadcaster = broadcasterProvider.getIfAvailable();
+            if (broadcaster != null) {
+                broadcaster.publishPlanEviction(planId);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드에서 전달된 제거 요청을 처리합니다. 다시 전달하지 않습니다.
+     */
+    public void evictLocal(Integer planId) {
+        entries.evict(planId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일정 상세 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static String toETag(Integer planId, Long revision) {
+        return "\"" + planId + "-" + (revision != null ? revision : 0L) + "\"";
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPlanDetail {
+        private final Integer planId;
+        private final Integer userId;
+        private final Long revision;
+        private final String eTag;
+        private final byte[] body;
+
+        /**
+         * If-None-Match 헤더 값과 ETag가 일치하는지 확인합니다.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
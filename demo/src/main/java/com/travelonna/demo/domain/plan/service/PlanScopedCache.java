@@ -0,0 +1,162 @@
+package com.travelonna.demo.domain.plan.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 일정 ID별 캐시
+ * 일정 또는 장소가 변경되면 evict로 항목을 제거하며, 트랜잭션 안에서는 트랜잭션 종료 후에 제거됩니다.
+ * 조회 도중 같은 일정이 무효화되면 조회 결과를 캐시하지 않아 변경 전 데이터가 다시 들어가지 않습니다
+ * (다른 일정의 무효화는 영향을 주지 않습니다).
+ * 항목 수가 maxEntries를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고,
+ * ttlMillis가 지난 항목은 사용하지 않습니다 (다른 노드에서 일어난 변경은 evict가 전달되지 않으므로).
+ *
+ * @param <V> 캐시 값 타입
+ */
+public class PlanScopedCache<V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // 접근 순서 유지 (가장 오래 사용하지 않은 항목이 앞)
+    private final LinkedHashMap<Integer, Entry<V>> entries;
+
+    // 조회 중인 일정 ID -> 조회 토큰 (entries 잠금 안에서만 변경, 조회가 끝나면 제거되므로 동시 조회 수만큼만 유지)
+    private final Map<Integer, LoadToken> loading = new HashMap<>();
+
+    /**
+     * @param maxEntries 최대 항목 수
+     * @param ttlMillis 항목 유효 시간 (0 이하면 만료 없음)
+     */
+    public PlanScopedCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry<V>> eldest) {
+                return size() > PlanScopedCache.this.maxEntries;
+            }
+        };
+    }
+
+    public V get(Integer planId) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(planId);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry)) {
+                entries.remove(planId);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader로 조회한 뒤 캐시합니다.
+     */
+    public V getOrLoad(Integer planId, Supplier<V> loader) {
+        V cached = get(planId);
+        if (cached != null) {
+            return cached;
+        }
+        return load(planId, loader);
+    }
+
+    /**
+     * 캐시를 확인하지 않고 loader로 조회한 뒤 캐시합니다.
+     */
+    public V load(Integer planId, Supplier<V> loader) {
+        LoadToken token;
+        long observed;
+        synchronized (entries) {
+            token = loading.computeIfAbsent(planId, key -> new LoadToken());
+            token.loaders++;
+            observed = token.generation;
+        }
+
+        V loaded = null;
+        try {
+            loaded = loader.get();
+            return loaded;
+        } finally {
+            synchronized (entries) {
+                // 조회 이후 이 일정의 무효화가 없었던 경우에만 캐시 (생성 번호가 같을 때)
+                if (loaded != null && token.generation == observed) {
+                    entries.put(planId, new Entry<>(loaded, System.currentTimeMillis()));
+                }
+                if (--token.loaders == 0) {
+                    loading.remove(planId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 일정이 변경되었을 때 호출합니다. 트랜잭션 안에서는 트랜잭션 종료 후에 제거됩니다.
+     */
+    public void evict(Integer planId) {
+        evict(planId, null);
+    }
+
+    /**
+     * 일정이 변경되었을 때 호출합니다. 항목을 제거한 뒤 afterRemove를 실행합니다 (다른 노드에 무효화 전달용).
+     */
+    public void evict(Integer planId, Runnable afterRemove) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(planId, afterRemove);
+                }
+            });
+        } else {
+            remove(planId, afterRemove);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(Integer planId, Runnable afterRemove) {
+        synchronized (entries) {
+            LoadToken token = loading.get(planId);
+            if (token != null) {
+                token.generation++;
+            }
+            entries.remove(planId);
+        }
+        if (afterRemove != null) {
+            afterRemove.run();
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return ttlMillis > 0 && System.currentTimeMillis() - entry.loadedAt > ttlMillis;
+    }
+
+    // 같은 일정을 조회 중인 요청 수와 그동안 일어난 무효화 횟수
+    private static class LoadToken {
+        private int loaders;
+        private long generation;
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
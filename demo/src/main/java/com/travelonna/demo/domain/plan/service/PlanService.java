@@ -1,24 +1,38 @@
 package com.travelonna.demo.domain.plan.service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.travelonna.demo.domain.plan.dto.PlaceResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanCostAnalyticsResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanCostAnalyticsResponseDto.DayCostDto;
 import com.travelonna.demo.domain.plan.dto.PlanDetailResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanPageResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanRequestDto.ClonePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.CreatePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdateLocationDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdatePeriodDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdatePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdateTransportDto;
 import com.travelonna.demo.domain.plan.dto.PlanResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanSummaryDto;
 import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.entity.TransportInfo;
+import com.travelonna.demo.domain.plan.repository.DayCostAggregate;
 import com.travelonna.demo.domain.plan.repository.PlaceRepository;
 import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.global.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +45,19 @@ public class PlanService {
     
     private final PlanRepository planRepository;
     private final PlaceRepository placeRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlanDetailCache planDetailCache;
+    private final EditHistory editHistory;
+    
+    // 일정 목록 페이지 크기 제한
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    // 일정별 비용 분석 결과 캐시 (일정/장소 변경 시 무효화, 다른 노드의 변경은 TTL이 지나면 반영)
+    private static final int COST_ANALYTICS_CACHE_SIZE = 1000;
+    private static final long COST_ANALYTICS_CACHE_TTL_MS = 60_000;
+    private final PlanScopedCache<PlanCostAnalyticsResponseDto> costAnalyticsCache =
+            new PlanScopedCache<>(COST_ANALYTICS_CACHE_SIZE, COST_ANALYTICS_CACHE_TTL_MS);
     
     /**
      * 개인 일정 생성
@@ -75,9 +102,12 @@ public class PlanService {
         log.info("일정 여행지 업데이트: 사용자 ID {}, 일정 ID {}", userId, planId);
         
         Plan plan = getPlanWithPermissionCheck(userId, planId);
-        plan.updateLocation(requestDto.getLocation());
         
-        Plan updatedPlan = planRepository.save(plan);
+        Map<String, Object> requested = new LinkedHashMap<>();
+        requested.put("location", requestDto.getLocation());
+        
+        Plan updatedPlan = applyChanges(plan, requestDto.getVersion(), requested);
+        markPlanChanged(planId);
         log.info("일정 여행지가 업데이트되었습니다. ID: {}", updatedPlan.getPlanId());
         
         return PlanResponseDto.fromEntity(updatedPlan);
@@ -90,9 +120,12 @@ public class PlanService {
         log.info("일정 이동수단 업데이트: 사용자 ID {}, 일정 ID {}", userId, planId);
         
         Plan plan = getPlanWithPermissionCheck(userId, planId);
-        plan.updateTransport(requestDto.getTransportInfo());
         
-        Plan updatedPlan = planRepository.save(plan);
+        Map<String, Object> requested = new LinkedHashMap<>();
+        requested.put("transportInfo", requestDto.getTransportInfo());
+        
+        Plan updatedPlan = applyChanges(plan, requestDto.getVersion(), requested);
+        markPlanChanged(planId);
         log.info("일정 이동수단이 업데이트되었습니다. ID: {}", updatedPlan.getPlanId());
         
         return PlanResponseDto.fromEntity(updatedPlan);
@@ -112,15 +145,17 @@ public class PlanService {
         }
         
         // 업데이트할 필드만 업데이트
-        if (requestDto.getTitle() != null) plan.setTitle(requestDto.getTitle());
-        if (requestDto.getStartDate() != null) plan.setStartDate(requestDto.getStartDate());
-        if (requestDto.getEndDate() != null) plan.setEndDate(requestDto.getEndDate());
-        if (requestDto.getLocation() != null) plan.setLocation(requestDto.getLocation());
-        if (requestDto.getTransportInfo() != null) plan.setTransportInfo(requestDto.getTransportInfo());
-        if (requestDto.getIsPublic() != null) plan.setIsPublic(requestDto.getIsPublic());
-        if (requestDto.getMemo() != null) plan.setMemo(requestDto.getMemo());
-        
-        Plan updatedPlan = planRepository.save(plan);
+        Map<String, Object> requested = new LinkedHashMap<>();
+        if (requestDto.getTitle() != null) requested.put("title", requestDto.getTitle());
+        if (requestDto.getStartDate() != null) requested.put("startDate", requestDto.getStartDate());
+        if (requestDto.getEndDate() != null) requested.put("endDate", requestDto.getEndDate());
+        if (requestDto.getLocation() != null) requested.put("location", requestDto.getLocation());
+        if (requestDto.getTransportInfo() != null) requested.put("transportInfo", requestDto.getTransportInfo());
+        if (requestDto.getIsPublic() != null) requested.put("isPublic", requestDto.getIsPublic());
+        if (requestDto.getMemo() != null) requested.put("memo", requestDto.getMemo());
+        
+        Plan updatedPlan = applyChanges(plan, requestDto.getVersion(), requested);
+        markPlanChanged(planId);
         log.info("일정 정보가 업데이트되었습니다. ID: {}", updatedPlan.getPlanId());
         
         return PlanResponseDto.fromEntity(updatedPlan);
@@ -135,9 +170,13 @@ public class PlanService {
         Plan plan = getPlanWithPermissionCheck(userId, planId);
         
         validatePeriod(requestDto.getStartDate(), requestDto.getEndDate());
-        plan.updatePeriod(requestDto.getStartDate(), requestDto.getEndDate());
         
-        Plan updatedPlan = planRepository.save(plan);
+        Map<String, Object> requested = new LinkedHashMap<>();
+        requested.put("startDate", requestDto.getStartDate());
+        requested.put("endDate", requestDto.getEndDate());
+        
+        Plan updatedPlan = applyChanges(plan, requestDto.getVersion(), requested);
+        markPlanChanged(planId);
         log.info("일정 기간이 업데이트되었습니다. ID: {}", updatedPlan.getPlanId());
         
         return PlanResponseDto.fromEntity(updatedPlan);
@@ -151,10 +190,55 @@ public class PlanService {
         
         Plan plan = getPlanWithPermissionCheck(userId, planId);
         planRepository.delete(plan);
+        placeSpatialIndex.onPlanDeleted(planId);
+        planDetailCache.evict(planId);
+        costAnalyticsCache.evict(planId);
         
         log.info("일정이 삭제되었습니다. ID: {}", planId);
     }
     
+    /**
+     * 일정 복제
+     * 일정 1건 INSERT와 장소 INSERT ... SELECT 1건으로 복제하며, 총 비용은 한 번만 계산합니다.
+     * 본인 일정 또는 공개 일정만 복제할 수 있고, 복제된 일정과 장소는 비공개로 생성됩니다.
+     */
+    public PlanResponseDto clonePlan(Integer userId, Integer planId, ClonePlanDto requestDto) {
+        log.info("일정 복제: 사용자 ID {}, 원본 일정 ID {}", userId, planId);
+        
+        Plan source = planRepository.findById(planId)
+                .filter(plan -> plan.getUserId().equals(userId) || Boolean.TRUE.equals(plan.getIsPublic()))
+                .orElseThrow(() -> new IllegalArgumentException("해당 일정을 찾을 수 없거나 권한이 없습니다: " + planId));
+        
+        // 새 시작 날짜가 지정되면 기간과 장소 방문 날짜를 같은 일수만큼 이동
+        LocalDate startDate = source.getStartDate();
+        LocalDate endDate = source.getEndDate();
+        long dayOffset = 0;
+        if (requestDto != null && requestDto.getStartDate() != null) {
+            dayOffset = ChronoUnit.DAYS.between(source.getStartDate(), requestDto.getStartDate());
+            startDate = requestDto.getStartDate();
+            endDate = source.getEndDate().plusDays(dayOffset);
+        }
+        
+        Plan clone = new Plan();
+        clone.setUserId(userId);
+        clone.setTitle(requestDto != null && requestDto.getTitle() != null ? requestDto.getTitle() : source.getTitle());
+        clone.setStartDate(startDate);
+        clone.setEndDate(endDate);
+        clone.setLocation(source.getLocation());
+        clone.setTransportInfo(source.getTransportInfo());
+        clone.setMemo(source.getMemo());
+        clone.setIsPublic(false);
+        clone.setTotalCost(placeRepository.sumPlaceCostByPlanId(planId));
+        
+        Plan savedClone = planRepository.save(clone);
+        int copiedPlaces = placeRepository.copyPlaces(planId, savedClone.getPlanId(), dayOffset);
+        
+        log.info("일정이 복제되었습니다. 원본 ID: {}, 복제 ID: {}, 복사된 장소 수: {}",
+                planId, savedClone.getPlanId(), copiedPlaces);
+        
+        return PlanResponseDto.fromEntity(savedClone);
+    }
+    
     /**
      * 일정 비용 조회
      */
@@ -187,6 +271,132 @@ public class PlanService {
         return result;
     }
     
+    /**
+     * 일정 비용 분석 조회
+     * 일차별 합계/최소/최대/평균과 누적 비용을 집계 쿼리 한 번으로 계산하고 캐시합니다.
+     */
+    @Transactional(readOnly = true)
+    public PlanCostAnalyticsResponseDto getCostAnalytics(Integer userId, Integer planId) {
+        log.info("일정 비용 분석 조회: 사용자 ID {}, 일정 ID {}", userId, planId);
+        
+        getPlanWithPermissionCheck(userId, planId);
+        
+        return costAnalyticsCache.getOrLoad(planId, () -> buildCostAnalytics(planId));
+    }
+    
+    private PlanCostAnalyticsResponseDto buildCostAnalytics(Integer planId) {
+        List<DayCostAggregate> rows = placeRepository.aggregateCostPerDayByPlanId(planId);
+        
+        long placeCount = 0;
+        long costCount = 0;
+        long totalCost = 0;
+        Integer minCost = null;
+        Integer maxCost = null;
+        
+        List<DayCostDto> days = new ArrayList<>();
+        for (DayCostAggregate row : rows) {
+            placeCount += row.getPlaceCount();
+            costCount += row.getCostCount();
+            totalCost += row.getTotalCost();
+            if (row.getMinCost() != null && (minCost == null || row.getMinCost() < minCost)) {
+                minCost = row.getMinCost();
+            }
+            if (row.getMaxCost() != null && (maxCost == null || row.getMaxCost() > maxCost)) {
+                maxCost = row.getMaxCost();
+            }
+            
+            days.add(DayCostDto.builder()
+                    .dayNumber(row.getDayNumber() != null ? row.getDayNumber().intValue() : null)
+                    .placeCount(row.getPlaceCount())
+                    .totalCost(row.getTotalCost())
+                    .minCost(row.getMinCost())
+                    .maxCost(row.getMaxCost())
+                    .avgCost(row.getAvgCost())
+                    .runningTotal(row.getRunningTotal())
+                    .build());
+        }
+        
+        log.info("일정 비용 분석 완료: 일정 ID {}, 일차 수 {}, 총 비용 {}", planId, days.size(), totalCost);
+        return PlanCostAnalyticsResponseDto.builder()
+                .planId(planId)
+                .placeCount(placeCount)
+                .totalCost(totalCost)
+                .minPlaceCost(minCost)
+                .maxPlaceCost(maxCost)
+                .avgPlaceCost(costCount > 0 ? (double) totalCost / costCount : null)
+                .days(days)
+                .build();
+    }
+    
+    /**
+     * 사용자의 개인 일정 목록 페이지 조회 (시작 날짜순 키셋 페이지네이션)
+     * 요약 컬럼만 조회하며, 커서(cursorDate, cursorId) 이후의 일정을 size개 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public PlanPageResponseDto getUserPlansPage(Integer userId, LocalDate cursorDate, Integer cursorId, Integer size) {
+        log.info("사용자 일정 목록 페이지 조회: 사용자 ID {}, 커서 ({}, {}), 크기 {}", userId, cursorDate, cursorId, size);
+        
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PlanSummaryDto> plans;
+        if (cursorDate != null && cursorId != null) {
+            plans = planRepository.findSummariesByUserIdAfter(userId, cursorDate, cursorId, limit);
+        } else {
+            plans = planRepository.findSummariesByUserId(userId, limit);
+        }
+        
+        boolean hasNext = plans.size() > pageSize;
+        if (hasNext) {
+            plans = plans.subList(0, pageSize);
+        }
+        
+        PlanSummaryDto last = plans.isEmpty() ? null : plans.get(plans.size() - 1);
+        
+        log.info("사용자 일정 목록 페이지 조회 완료: {}개, 다음 페이지 {}", plans.size(), hasNext);
+        return PlanPageResponseDto.builder()
+                .plans(plans)
+                .hasNext(hasNext)
+                .nextCursorDate(hasNext ? last.getStartDate() : null)
+                .nextCursorId(hasNext ? last.getPlanId() : null)
+                .build();
+    }
+    
+    /**
+     * 그룹 동시 편집(WebSocket)으로 모인 일정 필드 변경을 DB에 반영 (쓰기 지연 큐)
+     * 그룹 멤버의 편집이므로 일정 소유자 대신 그룹 일치 여부만 검사하며, 편집 사이의 충돌은 마지막 값이 이깁니다.
+     *
+     * @param groupId 편집이 들어온 그룹 ID
+     * @param planId 일정 ID
+     * @param fields 필드별 최종 값 (변환과 검증을 마친 값)
+     */
+    public void applyGroupEdits(Integer groupId, Integer planId, Map<String, Object> fields) {
+        Plan plan = planRepository.findById(planId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 일정을 찾을 수 없습니다: " + planId));
+        if (!Objects.equals(plan.getGroupId(), groupId)) {
+            throw new IllegalArgumentException("그룹에 속한 일정이 아닙니다: " + planId);
+        }
+
+        LocalDate startDate = (LocalDate) fields.getOrDefault("startDate", plan.getStartDate());
+        LocalDate endDate = (LocalDate) fields.getOrDefault("endDate", plan.getEndDate());
+        validatePeriod(startDate, endDate);
+
+        applyChanges(plan, null, fields);
+        markPlanChanged(planId);
+        log.info("그룹 편집으로 일정 정보가 반영되었습니다. ID: {}, 필드: {}", planId, fields.keySet());
+    }
+
+    /**
+     * 일정 또는 장소 변경 시 호출합니다.
+     * 일정 버전을 증가시키고 커밋 이후 상세 응답 캐시와 비용 분석 캐시에서 해당 일정을 제거합니다.
+     */
+    public void markPlanChanged(Integer planId) {
+        planRepository.incrementRevision(planId);
+        planDetailCache.evict(planId);
+        costAnalyticsCache.evict(planId);
+    }
+    
     /**
      * 권한 검증이 포함된 일정 조회
      */
@@ -195,6 +405,56 @@ public class PlanService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 일정을 찾을 수 없거나 권한이 없습니다: " + planId));
     }
     
+    /**
+     * 일정 필드 변경 적용 (낙관적 락)
+     * 기준 버전 이후 다른 사용자가 바꾼 필드와 겹치지 않으면 병합하고, 겹치면 충돌 예외를 발생시킵니다.
+     * 같은 행을 동시에 수정한 경우 flush 시점에 버전 검사로 감지됩니다.
+     */
+    private Plan applyChanges(Plan plan, Long expectedVersion, Map<String, Object> requested) {
+        // 실제로 값이 바뀌는 필드만 대상으로 함
+        Map<String, Object> changed = new LinkedHashMap<>();
+        requested.forEach((field, value) -> {
+            if (!Objects.equals(value, getPlanField(plan, field))) {
+                changed.put(field, value);
+            }
+        });
+        
+        editHistory.checkConflicts(EditHistory.PLAN, plan.getPlanId(), plan.getVersion(), expectedVersion,
+                changed.keySet(), ErrorCode.PLAN_VERSION_CONFLICT, () -> PlanResponseDto.fromEntity(plan));
+        
+        changed.forEach((field, value) -> setPlanField(plan, field, value));
+        
+        Plan savedPlan = planRepository.saveAndFlush(plan);
+        editHistory.record(EditHistory.PLAN, savedPlan.getPlanId(), savedPlan.getVersion(), changed.keySet());
+        return savedPlan;
+    }
+    
+    private Object getPlanField(Plan plan, String field) {
+        switch (field) {
+            case "title": return plan.getTitle();
+            case "startDate": return plan.getStartDate();
+            case "endDate": return plan.getEndDate();
+            case "location": return plan.getLocation();
+            case "transportInfo": return plan.getTransportInfo();
+            case "isPublic": return plan.getIsPublic();
+            case "memo": return plan.getMemo();
+            default: throw new IllegalArgumentException("수정할 수 없는 일정 필드입니다: " + field);
+        }
+    }
+    
+    private void setPlanField(Plan plan, String field, Object value) {
+        switch (field) {
+            case "title": plan.updateTitle((String) value); break;
+            case "startDate": plan.setStartDate((LocalDate) value); break;
+            case "endDate": plan.setEndDate((LocalDate) value); break;
+            case "location": plan.updateLocation((String) value); break;
+            case "transportInfo": plan.updateTransport((TransportInfo) value); break;
+            case "isPublic": plan.updateIsPublic((Boolean) value); break;
+            case "memo": plan.updateMemo((String) value); break;
+            default: throw new IllegalArgumentException("수정할 수 없는 일정 필드입니다: " + field);
+        }
+    }
+    
     // 기간 유효성 검사 공통 메소드
     private void validatePeriod(LocalDate startDate, LocalDate endDate) {
         if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
@@ -4,6 +4,8 @@ import com.travelonna.demo.domain.user.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,5 @@ public interface ProfileRepository extends JpaRepository<Profile, Integer> {
     boolean existsByNickname(String nickname);
     Optional<Profile> findByNickname(String nickname);
     Optional<Profile> findByUserId(Integer userId);
+    List<Profile> findByUserIdIn(Collection<Integer> userIds);
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.global.util.SingleFlight;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,10 @@ public class ODSayApiClient {
     private final RestTemplate restTemplate;
     private final Environment environment;
     private final ObjectMapper objectMapper;
+    private final TimetableCache timetableCache;
+    
+    // 실행 중인 API 호출 (URL별)
+    private final SingleFlight<String, JsonNode> inFlightCalls = new SingleFlight<>();
     
     @Value("${odsay.api.key.server}")
     private String serverApiKey;
@@ -160,13 +165,23 @@ public class ODSayApiClient {
         return apiKey;
     }
     
+    /**
+     * API 호출 (같은 URL의 동시 호출은 한 번만 실행하고 결과를 함께 받음)
+     * 
+     * @param urlStr API URL
+     * @return API 응답 (JSON, 동시에 호출한 쪽과 공유하므로 수정하지 않아야 함)
+     */
+    JsonNode callApiWithUrlConnection(String urlStr) {
+        return inFlightCalls.execute(urlStr, () -> requestWithUrlConnection(urlStr));
+    }
+    
     /**
      * 직접 HttpURLConnection을 사용하여 API 호출
      * 
      * @param urlStr API URL
      * @return API 응답 (JSON)
      */
-    private JsonNode callApiWithUrlConnection(String urlStr) {
+    JsonNode requestWithUrlConnection(String urlStr) {
         try {
             log.info("API 호출: {}", urlStr);
             URL url = new URL(urlStr);
@@ -335,7 +350,7 @@ public class ODSayApiClient {
     }
     
     /**
-     * 기차 시간표 조회
+     * 기차 시간표 조회 (시간표 캐시 사용, 기차 시간표 API는 날짜 없이 조회)
      * 
      * @param startStationID 출발역 ID
      * @param endStationID 도착역 ID
@@ -343,6 +358,11 @@ public class ODSayApiClient {
      * @return API 응답 (JSON)
      */
     public JsonNode getTrainServiceTime(String startStationID, String endStationID, String lang) {
+        return timetableCache.get(TimetableCache.Mode.TRAIN, startStationID, endStationID, null, lang,
+                () -> fetchTrainServiceTime(startStationID, endStationID, lang));
+    }
+    
+    private JsonNode fetchTrainServiceTime(String startStationID, String endStationID, String lang) {
         log.info("ODSay API 호출: 기차 시간표 조회 출발역ID {}, 도착역ID {}, 언어 {}", startStationID, endStationID, lang);
         
         String apiKey = getApiKey();
@@ -455,7 +475,7 @@ public class ODSayApiClient {
     }
     
     /**
-     * 고속버스 시간표 조회
+     * 고속버스 시간표 조회 (시간표 캐시 사용)
      * 
      * @param startStationID 출발 터미널 ID
      * @param endStationID 도착 터미널 ID
@@ -464,6 +484,11 @@ public class ODSayApiClient {
      * @return API 응답 (JSON)
      */
     public JsonNode getExpressBusServiceTime(String startStationID, String endStationID, String searchDate, String lang) {
+        return timetableCache.get(TimetableCache.Mode.EXPRESS_BUS, startStationID, endStationID, searchDate, lang,
+                () -> fetchExpressBusServiceTime(startStationID, endStationID, searchDate, lang));
+    }
+    
+    private JsonNode fetchExpressBusServiceTime(String startStationID, String endStationID, String searchDate, String lang) {
         log.info("ODSay API 호출: 고속버스 시간표 조회 출발역ID {}, 도착역ID {}, 날짜 {}, 언어 {}", 
                 startStationID, endStationID, searchDate, lang);
         
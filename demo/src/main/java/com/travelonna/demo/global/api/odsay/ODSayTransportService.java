@@ -23,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ODSayTransportService {
 
     private final ODSayApiClient odSayApiClient;
+    private final StationDictionary stationDictionary;
     
     /**
      * 출발지와 도착지, 날짜, 교통수단으로 교통편 검색
@@ -146,58 +147,15 @@ public class ODSayTransportService {
     
     /**
      * 역 이름으로 역 ID 조회
+     * 역 사전에 있는 역은 API를 호출하지 않습니다 (StationDictionary 참고).
      * 
      * @param terminalName 역 이름(예: "대구", "서울")
      * @return 역 ID, 역 이름, 좌표 등의 정보를 포함한 Map (역을 찾을 수 없는 경우 빈 Map 반환)
      */
     public Map<String, Object> getStationIdByName(String terminalName) {
-        Map<String, Object> result = new HashMap<>();
-        
-        try {
-            JsonNode response = odSayApiClient.getTrainTerminals(terminalName, "0");
-            
-            if (response == null) {
-                return result;
-            }
-            
-            if (response.has("error")) {
-                return result;
-            }
-            
-            if (response.has("result")) {
-                JsonNode resultNode = response.get("result");
-                
-                if (resultNode == null || resultNode.isNull()) {
-                    return result;
-                }
-                
-                if (!resultNode.isArray()) {
-                    return result;
-                }
-                
-                int stationCount = resultNode.size();
-                
-                if (stationCount > 0) {
-                    JsonNode station = resultNode.get(0);
-                    
-                    if (!station.has("stationID") || !station.has("stationName") || 
-                        !station.has("x") || !station.has("y")) {
-                        return result;
-                    }
-                    
-                    result.put("stationID", station.get("stationID").asText());
-                    result.put("stationName", station.get("stationName").asText());
-                    result.put("x", station.get("x").asDouble());
-                    result.put("y", station.get("y").asDouble());
-                    
-                    // arrivalTerminals 정보 처리는 제외 (사용하지 않음)
-                }
-            }
-        } catch (Exception e) {
-            // 예외 발생 시 빈 결과 반환
-        }
-        
-        return result;
+        return stationDictionary.find(terminalName)
+                .map(StationDictionary.Station::toMap)
+                .orElseGet(HashMap::new);
     }
     
     /**
@@ -0,0 +1,419 @@
+package com.travelonna.demo.global.api.odsay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 역 이름 -> ODSay 역 ID 사전
+ * 역 ID는 거의 바뀌지 않으므로 한 번 조회한 역은 메모리에 두고 TTL이 지나도 그대로 쓰면서
+ * 주기 작업에서 오래된 항목만 다시 조회합니다. 없는 역도 짧은 TTL로 기억해 같은 이름을 반복 조회하지 않고,
+ * TTL이 지난 없는 역 항목은 다시 조회하지 않고 제거합니다.
+ * 사용자 입력 이름이 키이므로 항목 수가 max-entries를 넘으면 없는 역 항목부터, 그다음 오래 조회한 항목부터 제거합니다.
+ * 사전은 로컬 스냅샷 파일(odsay.station.snapshot-path)에 저장하고 시작할 때 다시 읽어 들이므로
+ * 재시작 후에도 역 조회 API를 다시 호출하지 않습니다. 임시 디렉터리는 재부팅 시 지워질 수 있으므로 영구 경로를 사용합니다.
+ *
+ * 스냅샷 형식: magic(int) version(int) count(int), 항목마다
+ *   name, stationId, stationName (길이(int) + UTF-8), x(double) y(double) fetchedAt(long)
+ *   (없는 역은 stationId 길이가 -1)
+ */
+@Slf4j
+@Component
+public class StationDictionary {
+
+    private static final int SNAPSHOT_MAGIC = 0x5354_4E44; // "STND"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ODSayApiClient odSayApiClient;
+    private final long ttlMillis;
+    private final long notFoundTtlMillis;
+    private final int refreshBatchSize;
+    private final int maxEntries;
+    private final Path snapshotPath;
+
+    private final Map<String, Station> stations = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public StationDictionary(ODSayApiClient odSayApiClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${odsay.station.ttl-ms:604800000}") long ttlMillis,
+                             @Value("${odsay.station.not-found-ttl-ms:3600000}") long notFoundTtlMillis,
+                             @Value("${odsay.station.refresh-batch-size:20}") int refreshBatchSize,
+                             @Value("${odsay.station.max-entries:10000}") int maxEntries,
+                             @Value("${odsay.station.snapshot-path:data/odsay-stations.bin}") String snapshotPath) {
+        this.odSayApiClient = odSayApiClient;
+        this.ttlMillis = ttlMillis;
+        this.notFoundTtlMillis = notFoundTtlMillis;
+        this.refreshBatchSize = refreshBatchSize;
+        this.maxEntries = maxEntries;
+        this.snapshotPath = Paths.get(snapshotPath);
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.staleHits = lookupCounter(meterRegistry, "stale");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("odsay.station.evictions")
+                .description("항목 수 제한으로 제거한 역 사전 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("odsay.station.size", stations, Map::size)
+                .description("역 사전 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 역 이름으로 역 정보를 찾습니다.
+     * 사전에 있으면 TTL이 지났더라도 API를 호출하지 않고 돌려주며(갱신은 주기 작업이 처리), 없을 때만 API를 호출합니다.
+     *
+     * @return 역 정보, 없는 역이거나 API 호출에 실패하면 빈 값
+     */
+    public Optional<Station> find(String terminalName) {
+        if (!StringUtils.hasText(terminalName)) {
+            return Optional.empty();
+        }
+        String name = terminalName.trim();
+
+        Station cached = stations.get(name);
+        if (cached != null) {
+            // 찾은 역은 TTL이 지나도 그대로 사용하고, 없는 역은 TTL 안에서만 기억
+            boolean expired = isExpired(cached, System.currentTimeMillis());
+            if (!cached.isNotFound() || !expired) {
+                (expired ? staleHits : hits).increment();
+                return cached.isNotFound() ? Optional.empty() : Optional.of(cached);
+            }
+        }
+
+        misses.increment();
+        Station fetched = fetch(name);
+        if (fetched == null) {
+            // 일시적인 오류는 기억하지 않음
+            return Optional.empty();
+        }
+        store(fetched);
+        return fetched.isNotFound() ? Optional.empty() : Optional.of(fetched);
+    }
+
+    /**
+     * TTL이 지난 없는 역 항목은 제거하고, TTL이 지난 역 항목은 오래된 순으로 일부만 다시 조회합니다.
+     * 바뀐 내용이 있으면 스냅샷을 저장하며, 다시 조회하다 실패한 항목은 기존 값을 그대로 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${odsay.station.refresh-interval-ms:300000}",
+            initialDelayString = "${odsay.station.refresh-interval-ms:300000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+
+        // 없는 역은 다시 조회하지 않고 제거 (다시 요청되면 find에서 조회)
+        int removed = 0;
+        for (Station station : stations.values()) {
+            if (station.isNotFound() && isExpired(station, now) && stations.remove(station.getName(), station)) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            dirty.set(true);
+            log.debug("역 사전에서 만료된 없는 역 {}개 제거", removed);
+        }
+
+        List<Station> expired = stations.values().stream()
+                .filter(station -> !station.isNotFound() && isExpired(station, now))
+                .sorted(Comparator.comparingLong(Station::getFetchedAt))
+                .limit(refreshBatchSize)
+                .toList();
+
+        for (Station station : expired) {
+            Station fetched = fetch(station.getName());
+            if (fetched != null) {
+                store(fetched);
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("역 사전 갱신: {}개 확인, 남은 항목 {}개", expired.size(), stations.size());
+        }
+
+        if (dirty.compareAndSet(true, false)) {
+            try {
+                saveSnapshot();
+            } catch (IOException e) {
+                dirty.set(true);
+                log.warn("역 사전 스냅샷 저장 실패: {}", snapshotPath, e);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void loadSnapshot() {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return;
+        }
+        try (InputStream file = Files.newInputStream(snapshotPath);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            if (Files.size(snapshotPath) < 12 || in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("알 수 없는 역 사전 스냅샷 형식이므로 무시합니다: {}", snapshotPath);
+                return;
+            }
+            // 끝까지 읽은 경우에만 반영 (손상된 스냅샷은 일부도 사용하지 않음)
+            int count = in.readInt();
+            Map<String, Station> loaded = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                String stationId = readString(in);
+                String stationName = readString(in);
+                double x = in.readDouble();
+                double y = in.readDouble();
+                long fetchedAt = in.readLong();
+                loaded.put(name, new Station(name, stationId, stationName, x, y, fetchedAt));
+            }
+            loaded.forEach(stations::putIfAbsent);
+            trim();
+            log.info("역 사전 스냅샷 로드: {}개 ({})", count, snapshotPath);
+        } catch (IOException e) {
+            log.warn("역 사전 스냅샷을 읽지 못했습니다. 빈 사전으로 시작합니다: {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dirty.get()) {
+            try {
+                saveSnapshot();
+            } catch (IOException e) {
+                log.warn("역 사전 스냅샷 저장 실패: {}", snapshotPath, e);
+            }
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로 저장 중에 종료되어도 이전 스냅샷은 그대로 남습니다.
+     */
+    synchronized void saveSnapshot() throws IOException {
+        List<Station> snapshot = new ArrayList<>(stations.values());
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, "stations", ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(snapshot.size());
+            for (Station station : snapshot) {
+                writeString(out, station.getName());
+                writeString(out, station.getStationId());
+                writeString(out, station.getStationName());
+                out.writeDouble(station.getX());
+                out.writeDouble(station.getY());
+                out.writeLong(station.getFetchedAt());
+            }
+        }
+        try {
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        log.debug("역 사전 스냅샷 저장: {}개 ({})", snapshot.size(), snapshotPath);
+    }
+
+    /**
+     * trainTerminals API로 역을 조회합니다. 첫 번째 검색 결과를 사용합니다.
+     *
+     * @return 조회한 역 (검색 결과가 없으면 없는 역 항목), API 호출에 실패하면 null
+     */
+    private Station fetch(String name) {
+        try {
+            JsonNode response = odSayApiClient.getTrainTerminals(name, "0");
+            if (response == null || response.has("error")) {
+                return null;
+            }
+
+            JsonNode resultNode = response.get("result");
+            long now = System.currentTimeMillis();
+            if (resultNode == null || !resultNode.isArray() || resultNode.isEmpty()) {
+                return Station.notFound(name, now);
+            }
+
+            JsonNode station = resultNode.get(0);
+            if (!station.has("stationID") || !station.has("stationName") || !station.has("x") || !station.has("y")) {
+                return Station.notFound(name, now);
+            }
+            return new Station(name, station.get("stationID").asText(), station.get("stationName").asText(),
+                    station.get("x").asDouble(), station.get("y").asDouble(), now);
+        } catch (Exception e) {
+            log.warn("역 조회 실패: {}", name, e);
+            return null;
+        }
+    }
+
+    private void store(Station station) {
+        stations.put(station.getName(), station);
+        dirty.set(true);
+        if (stations.size() > maxEntries) {
+            trim();
+        }
+    }
+
+    /**
+     * 항목 수가 maxEntries를 넘으면 없는 역 항목부터, 그다음 오래 조회한 항목부터 제거합니다.
+     * 넘을 때마다 정렬하지 않도록 maxEntries의 90%까지 한 번에 줄입니다.
+     */
+    synchronized void trim() {
+        int excess = stations.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+        int target = excess + maxEntries / 10;
+        List<Station> victims = stations.values().stream()
+                .sorted(Comparator.comparing(Station::isNotFound).reversed()
+                        .thenComparingLong(Station::getFetchedAt))
+                .limit(target)
+                .toList();
+        for (Station victim : victims) {
+            if (stations.remove(victim.getName(), victim)) {
+                evictions.increment();
+            }
+        }
+        dirty.set(true);
+        log.info("역 사전 항목 수 제한({})으로 {}개 제거", maxEntries, victims.size());
+    }
+
+    // 테스트/진단용
+    int size() {
+        return stations.size();
+    }
+
+    private boolean isExpired(Station station, long now) {
+        long ttl = station.isNotFound() ? notFoundTtlMillis : ttlMillis;
+        return now - station.getFetchedAt() > ttl;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("odsay.station.lookups")
+                .description("역 사전 조회 수 (miss만 API 호출)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        // 손상된 길이 값으로 큰 배열을 미리 잡지 않도록 읽은 만큼만 할당
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("스냅샷이 중간에 끝났습니다.");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 사전 항목 (stationId가 null이면 없는 역)
+     */
+    public static class Station {
+        private final String name;
+        private final String stationId;
+        private final String stationName;
+        private final double x;
+        private final double y;
+        private final long fetchedAt;
+
+        Station(String name, String stationId, String stationName, double x, double y, long fetchedAt) {
+            this.name = name;
+            this.stationId = stationId;
+            this.stationName = stationName;
+            this.x = x;
+            this.y = y;
+            this.fetchedAt = fetchedAt;
+        }
+
+        static Station notFound(String name, long fetchedAt) {
+            return new Station(name, null, null, 0, 0, fetchedAt);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStationId() {
+            return stationId;
+        }
+
+        public String getStationName() {
+            return stationName;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+
+        public boolean isNotFound() {
+            return stationId == null;
+        }
+
+        /**
+         * 기존 getStationIdByName 응답 형식 (stationID, stationName, x, y)
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("stationID", stationId);
+            map.put("stationName", stationName);
+            map.put("x", x);
+            map.put("y", y);
+            return map;
+        }
+    }
+}
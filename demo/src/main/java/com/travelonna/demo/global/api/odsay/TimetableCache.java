@@ -0,0 +1,260 @@
+package com.travelonna.demo.global.api.odsay;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기차/고속버스 시간표 응답 캐시 (출발역, 도착역, 날짜, 교통수단별)
+ * - TTL 안의 응답은 그대로 사용합니다.
+ * - TTL이 지났어도 stale 구간 안이면 기존 응답을 바로 돌려주고 백그라운드에서 한 번만 다시 조회합니다.
+ * - 그 이후에는 동기로 다시 조회하며, 조회에 실패하면 기존 응답이라도 돌려줍니다.
+ * 응답 JSON 크기(문자 수) 합계가 max-bytes를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+ * 에러 응답이나 빈 응답은 저장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TimetableCache {
+
+    /**
+     * 시간표 종류
+     */
+    public enum Mode {
+        TRAIN, EXPRESS_BUS
+    }
+
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final long maxWeight;
+    private final LongSupplier clock;
+
+    // 접근 순서 유지 (가장 오래 사용하지 않은 항목이 앞)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public TimetableCache(MeterRegistry meterRegistry,
+                          @Value("${odsay.timetable.ttl-ms:21600000}") long ttlMillis,
+                          @Value("${odsay.timetable.stale-ms:86400000}") long staleMillis,
+                          @Value("${odsay.timetable.max-bytes:33554432}") long maxWeight) {
+        this(meterRegistry, ttlMillis, staleMillis, maxWeight, System::currentTimeMillis,
+                Executors.newFixedThreadPool(2, runnable -> {
+                    Thread thread = new Thread(runnable, "odsay-timetable-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * 현재 시각과 백그라운드 갱신 실행기를 지정합니다. (테스트용)
+     */
+    TimetableCache(MeterRegistry meterRegistry, long ttlMillis, long staleMillis, long maxWeight,
+                   LongSupplier clock, ExecutorService refreshExecutor) {
+        this.ttlMillis = ttlMillis;
+        this.staleMillis = staleMillis;
+        this.maxWeight = maxWeight;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.staleHits = requestCounter(meterRegistry, "stale");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("odsay.timetable.evictions")
+                .description("크기 제한으로 제거된 시간표 수")
+                .register(meterRegistry);
+        Gauge.builder("odsay.timetable.size", this, TimetableCache::size)
+                .description("캐시된 시간표 수")
+                .register(meterRegistry);
+        Gauge.builder("odsay.timetable.bytes", this, TimetableCache::weight)
+                .description("캐시된 시간표 JSON 크기 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("odsay.timetable.hit.ratio", this, TimetableCache::hitRatio)
+                .description("API를 호출하지 않고 응답한 비율 (stale 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 시간표를 돌려주거나, 없으면 loader로 조회해 저장합니다.
+     *
+     * @param date 검색 날짜 (날짜 없이 조회하는 API면 null)
+     * @param loader 실제 API 호출
+     * @return 시간표 응답 (조회에 실패하고 캐시에도 없으면 null)
+     */
+    public JsonNode get(Mode mode, String startStationID, String endStationID, String date, String lang,
+                        Supplier<JsonNode> loader) {
+        Key key = new Key(mode, startStationID, endStationID, date != null ? date : "", lang);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            long age = clock.getAsLong() - entry.loadedAt;
+            if (age <= ttlMillis) {
+                hits.increment();
+                return entry.response;
+            }
+            if (age <= ttlMillis + staleMillis) {
+                staleHits.increment();
+                refreshAsync(key, loader);
+                return entry.response;
+            }
+        }
+
+        misses.increment();
+        JsonNode response = loader.get();
+        if (isCacheable(response)) {
+            put(key, response);
+            return response;
+        }
+        // 시간표는 거의 바뀌지 않으므로 조회에 실패하면 오래된 응답이라도 사용
+        return entry != null ? entry.response : response;
+    }
+
+    /**
+     * 시간표를 비웁니다.
+     *
+     * @param mode 비울 시간표 종류 (null이면 전체)
+     * @return 제거한 항목 수
+     */
+    public synchronized int purge(Mode mode) {
+        int removed = 0;
+        for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Key, Entry> entry = it.next();
+            if (mode == null || entry.getKey().mode() == mode) {
+                weight -= entry.getValue().weight;
+                it.remove();
+                removed++;
+            }
+        }
+        log.info("시간표 캐시 비움: 종류 {}, {}개 제거", mode != null ? mode : "전체", removed);
+        return removed;
+    }
+
+    /**
+     * 캐시 상태 (관리자 API 응답용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", size());
+        stats.put("bytes", weight());
+        stats.put("hits", (long) hits.count());
+        stats.put("staleHits", (long) staleHits.count());
+        stats.put("misses", (long) misses.count());
+        stats.put("hitRatio", hitRatio());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshAsync(Key key, Supplier<JsonNode> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    JsonNode response = loader.get();
+                    if (isCacheable(response)) {
+                        put(key, response);
+                    }
+                } catch (Exception e) {
+                    log.warn("시간표 백그라운드 갱신 실패: {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private synchronized void put(Key key, JsonNode response) {
+        long entryWeight = response.toString().length();
+        Entry previous = entries.put(key, new Entry(response, clock.getAsLong(), entryWeight));
+        weight += entryWeight - (previous != null ? previous.weight : 0);
+
+        // 방금 넣은 항목은 남기고 오래 사용하지 않은 항목부터 제거
+        for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+             weight > maxWeight && entries.size() > 1 && it.hasNext(); ) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            weight -= eldest.getValue().weight;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static boolean isCacheable(JsonNode response) {
+        return response != null && !response.has("error") && response.has("result");
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized long weight() {
+        return weight;
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + staleHits.count();
+        double total = served + misses.count();
+        return total > 0 ? served / total : 0;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("odsay.timetable.requests")
+                .description("시간표 캐시 조회 수 (miss만 API 호출)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Key(Mode mode, String startStationID, String endStationID, String date, String lang) {
+    }
+
+    private static class Entry {
+        private final JsonNode response;
+        private final long loadedAt;
+        private final long weight;
+
+        Entry(JsonNode response, long loadedAt, long weight) {
+            this.response = response;
+            this.loadedAt = loadedAt;
+            this.weight = weight;
+        }
+    }
+}
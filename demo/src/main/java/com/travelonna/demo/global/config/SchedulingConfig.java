@@ -0,0 +1,12 @@
+package com.travelonna.demo.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업(작업 로그 일괄 저장 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
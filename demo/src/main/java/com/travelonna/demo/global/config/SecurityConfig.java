@@ -44,8 +44,11 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/api-docs/**").permitAll()
                 .requestMatchers("/error").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                // Actuator 헬스 체크 엔드포인트 인증 없이 허용
-                .requestMatchers("/actuator/**").permitAll()
+                // Actuator는 헬스 체크와 정보만 인증 없이 허용하고 나머지(metrics, websocket 등)는 관리자만 허용 (jwt.admin-user-ids)
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // WebSocket 핸드셰이크는 허용하고 STOMP CONNECT 프레임에서 JWT를 검증 (StompAuthChannelInterceptor)
+                .requestMatchers("/ws/**", "/ws-binary").permitAll()
                 // 프로필 조회 API는 인증 없이 허용
                 .requestMatchers("/api/v1/profiles/user/**").permitAll()
                 // 프로필 생성 및 수정 API는 인증 필요
@@ -57,6 +60,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/logs/**").permitAll()
                 // 테스트 API 인증 없이 허용
                 .requestMatchers("/api/v1/plans/test/**").permitAll()
+                // 일정 관리자 API(캐시 비우기 등)는 관리자만 허용 (jwt.admin-user-ids)
+                .requestMatchers("/api/v1/plans/admin/**").hasRole("ADMIN")
                 // 그 외 모든 API는 인증 필요
                 .anyRequest().authenticated()
             )
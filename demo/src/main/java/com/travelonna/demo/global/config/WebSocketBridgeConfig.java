@@ -0,0 +1,92 @@
+package com.travelonna.demo.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.StringUtils;
+
+import com.travelonna.demo.domain.group.service.PlanSequenceAllocator;
+import com.travelonna.demo.global.websocket.EmbeddedPlanMessageBridge;
+import com.travelonna.demo.global.websocket.EmbeddedPlanSequenceAllocator;
+import com.travelonna.demo.global.websocket.PlanMessageBridge;
+import com.travelonna.demo.global.websocket.RedisPlanMessageBridge;
+import com.travelonna.demo.global.websocket.RedisPlanSequenceAllocator;
+
+/**
+ * bridge 브로커 모드에서 노드 간 메시지 브리지와 공유 작업 순번 발급기를 구성합니다.
+ * websocket.bridge.type 이 redis 이면 Redis Pub/Sub과 Redis 카운터, embedded 이면 같은 JVM 안에서만 동작하는 내장 구현을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "bridge")
+public class WebSocketBridgeConfig {
+
+    @Value("${websocket.bridge.channel:travelonna:plan-updates}")
+    private String channel;
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.bridge.type", havingValue = "embedded", matchIfMissing = true)
+    public PlanMessageBridge embeddedPlanMessageBridge() {
+        return new EmbeddedPlanMessageBridge(channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.bridge.type", havingValue = "embedded", matchIfMissing = true)
+    public PlanSequenceAllocator embeddedPlanSequenceAllocator() {
+        return new EmbeddedPlanSequenceAllocator(channel);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "websocket.bridge.type", havingValue = "redis")
+    static class RedisBridgeConfig {
+
+        @Value("${websocket.bridge.channel:travelonna:plan-updates}")
+        private String channel;
+
+        @Value("${websocket.bridge.redis.host:localhost}")
+        private String host;
+
+        @Value("${websocket.bridge.redis.port:6379}")
+        private int port;
+
+        @Value("${websocket.bridge.redis.password:}")
+        private String password;
+
+        @Bean
+        public LettuceConnectionFactory bridgeRedisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+            if (StringUtils.hasText(password)) {
+                configuration.setPassword(password);
+            }
+            return new LettuceConnectionFactory(configuration);
+        }
+
+        @Bean
+        public StringRedisTemplate bridgeRedisTemplate(RedisConnectionFactory bridgeRedisConnectionFactory) {
+            return new StringRedisTemplate(bridgeRedisConnectionFactory);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer bridgeRedisListenerContainer(RedisConnectionFactory bridgeRedisConnectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(bridgeRedisConnectionFactory);
+            return container;
+        }
+
+        @Bean
+        public PlanMessageBridge redisPlanMessageBridge(StringRedisTemplate bridgeRedisTemplate,
+                                                        RedisMessageListenerContainer bridgeRedisListenerContainer) {
+            return new RedisPlanMessageBridge(bridgeRedisTemplate, bridgeRedisListenerContainer, channel);
+        }
+
+        @Bean
+        public PlanSequenceAllocator redisPlanSequenceAllocator(StringRedisTemplate bridgeRedisTemplate) {
+            return new RedisPlanSequenceAllocator(bridgeRedisTemplate, channel);
+        }
+    }
+}
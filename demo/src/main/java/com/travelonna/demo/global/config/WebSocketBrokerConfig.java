@@ -0,0 +1,39 @@
+package com.travelonna.demo.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+import com.travelonna.demo.global.websocket.SlowConsumerEvictingWebSocketHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * STOMP 메시지 브로커 기반 설정 (@EnableWebSocketMessageBroker 대신 사용)
+ * 세션 핸들러를 느린 클라이언트 강제 종료를 집계하는 SlowConsumerEvictingWebSocketHandler로 바꾸고,
+ * 나머지 설정은 WebSocketConfig 등 WebSocketMessageBrokerConfigurer에 위임합니다.
+ */
+@Configuration
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public WebSocketBrokerConfig(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        SlowConsumerEvictingWebSocketHandler handler = new SlowConsumerEvictingWebSocketHandler(
+                clientInboundChannel, clientOutboundChannel, meterRegistryProvider.getObject());
+        handler.setPhase(getPhase());
+        return handler;
+    }
+}
@@ -1,26 +1,186 @@
 package com.travelonna.demo.global.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.travelonna.demo.global.websocket.PlanPayloadEncodingNegotiator;
+import com.travelonna.demo.global.websocket.StompAuthChannelInterceptor;
+import com.travelonna.demo.global.websocket.WebSocketMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * STOMP 메시지 브로커 설정
+ * websocket.broker.mode 에 따라 브로커를 선택합니다.
+ * - simple: 노드 내 메모리 브로커 (단일 인스턴스)
+ * - relay: 외부 STOMP 브로커(ActiveMQ Artemis, RabbitMQ 등 클러스터 구성 가능)로 중계
+ * - bridge: 노드 내 메모리 브로커 + 노드 간 Pub/Sub 브리지 (PlanMessageBroadcaster 참고)
+ * 클라이언트 입력/출력 채널은 크기가 정해진 스레드 풀과 대기열을 사용하고,
+ * 전송 버퍼나 전송 시간 제한을 넘긴 느린 클라이언트는 연결을 끊어 메시지가 힙에 쌓이지 않도록 합니다.
+ * 인증/인가는 클라이언트 입력 채널의 StompAuthChannelInterceptor가 처리합니다.
+ * /ws-binary 로 접속한 클라이언트는 CBOR/Smile 인코딩을 협상할 수 있습니다 (PlanPayloadEncodingNegotiator 참고).
+ * 입력/출력/브로커 채널을 지나는 메시지는 WebSocketMetrics가 집계합니다 (/actuator/websocket).
+ */
+@Slf4j
 @Configuration
-@EnableWebSocketMessageBroker
+@Import(WebSocketBrokerConfig.class)
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    public static final String MODE_SIMPLE = "simple";
+    public static final String MODE_RELAY = "relay";
+    public static final String MODE_BRIDGE = "bridge";
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${websocket.broker.relay.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${websocket.broker.relay.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${websocket.broker.relay.system-passcode:guest}")
+    private String systemPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String virtualHost;
+
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.channel.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:2000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.channel.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.sockjs.http-message-cache-size:100}")
+    private int sockJsHttpMessageCacheSize;
+
+    private final WebSocketMetrics webSocketMetrics;
+
+    // websocket.auth.enabled=false 이면 등록되지 않음
+    private final ObjectProvider<StompAuthChannelInterceptor> authInterceptorProvider;
+
+    private final PlanPayloadEncodingNegotiator payloadEncodingNegotiator = new PlanPayloadEncodingNegotiator();
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");  // 메시지 브로커가 "/topic"로 시작하는 대상에게 메시지를 보냅니다.
+        if (MODE_RELAY.equalsIgnoreCase(brokerMode)) {
+            // 모든 노드가 같은 외부 브로커를 구독하므로 어느 노드에 접속해도 메시지를 받습니다.
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode);
+            if (StringUtils.hasText(virtualHost)) {
+                relay.setVirtualHost(virtualHost);
+            }
+            log.info("STOMP 브로커 릴레이 모드: {}:{}", relayHost, relayPort);
+        } else if (MODE_SIMPLE.equalsIgnoreCase(brokerMode) || MODE_BRIDGE.equalsIgnoreCase(brokerMode)) {
+            config.enableSimpleBroker("/topic");  // 메시지 브로커가 "/topic"로 시작하는 대상에게 메시지를 보냅니다.
+            log.info("STOMP 메모리 브로커 모드: {}", brokerMode);
+        } else {
+            throw new IllegalStateException("지원하지 않는 WebSocket 브로커 모드입니다: " + brokerMode);
+        }
         config.setApplicationDestinationPrefixes("/app");  // 클라이언트에서 메시지를 보내는 엔드포인트의 접두사입니다.
+        // 일정 편집 메시지가 세션마다 보낸 순서 그대로 전달되도록 합니다.
+        config.setPreservePublishOrder(true);
+        config.configureBrokerChannel().interceptors(webSocketMetrics.channelInterceptor("broker"));
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 같은 세션에서 받은 메시지를 받은 순서대로 처리합니다.
+        registry.setPreserveReceiveOrder(true);
         // WebSocket 엔드포인트 등록, SockJS를 지원하여 브라우저 호환성을 보장합니다.
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
-                .withSockJS();
+                .withSockJS()
+                // 폴링 방식 클라이언트가 다음 요청을 보낼 때까지 서버에 보관하는 메시지 수
+                .setHttpMessageCacheSize(sockJsHttpMessageCacheSize);
+        // SockJS 없이 바이너리 프레임을 주고받는 엔드포인트 (CBOR/Smile 협상 가능)
+        registry.addEndpoint("/ws-binary")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(payloadEncodingNegotiator.binaryTransportHandshakeInterceptor());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+        authInterceptorProvider.ifAvailable(registration::interceptors);
+        registration.interceptors(payloadEncodingNegotiator.inboundInterceptor(),
+                webSocketMetrics.channelInterceptor("inbound"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(payloadEncodingNegotiator.outboundInterceptor(),
+                webSocketMetrics.channelInterceptor("outbound"));
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // content-type이 CBOR/Smile인 메시지만 처리하는 변환기를 추가하고, 기본 변환기(JSON 등)도 유지합니다.
+        messageConverters.addAll(payloadEncodingNegotiator.binaryMessageConverters());
+        return true;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 전송 버퍼 또는 전송 시간 제한을 넘기면 해당 세션을 닫습니다. (SlowConsumerEvictingWebSocketHandler가 집계)
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.travelonna.demo.global.exception;
+
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * 낙관적 락 버전 충돌 예외
+ * 클라이언트가 기준으로 삼은 버전 이후에 같은 필드가 다른 사용자에 의해 변경된 경우 발생합니다.
+ */
+@Getter
+public class ConflictException extends BusinessException {
+
+    private final Long currentVersion;
+    private final Set<String> conflictingFields;
+    private final Object current;
+
+    public ConflictException(ErrorCode errorCode, Long currentVersion, Set<String> conflictingFields, Object current) {
+        super(errorCode);
+        this.currentVersion = currentVersion;
+        this.conflictingFields = conflictingFields;
+        this.current = current;
+    }
+}
@@ -29,10 +29,12 @@ public enum ErrorCode {
     // Plan
     PLAN_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "Plan not found"),
     PLAN_ACCESS_DENIED(HttpStatus.FORBIDDEN, "P002", "You don't have permission to access this plan"),
+    PLAN_VERSION_CONFLICT(HttpStatus.CONFLICT, "P003", "Plan was modified by another user"),
     
     // Place
     PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "PL001", "Place not found"),
     PLACE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "PL002", "You don't have permission to access this place"),
+    PLACE_VERSION_CONFLICT(HttpStatus.CONFLICT, "PL003", "Place was modified by another user"),
     
     // Group
     GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "G001", "Group not found"),
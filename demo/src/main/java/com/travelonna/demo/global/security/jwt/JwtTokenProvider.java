@@ -1,7 +1,10 @@
 package com.travelonna.demo.global.security.jwt;
 
 import java.security.Key;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,14 +25,22 @@ public class JwtTokenProvider {
     private final Key key;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
+    // 관리자 API를 호출할 수 있는 사용자 ID (ROLE_ADMIN 부여)
+    private final Set<Integer> adminUserIds;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity-in-days}") long refreshTokenValidityInDays) {
+            @Value("${jwt.refresh-token-validity-in-days}") long refreshTokenValidityInDays,
+            @Value("${jwt.admin-user-ids:}") String adminUserIds) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInDays * 24 * 60 * 60 * 1000;
+        this.adminUserIds = Arrays.stream(adminUserIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     public String createAccessToken(String email) {
@@ -83,8 +94,8 @@ public class JwtTokenProvider {
         String email = claims.getSubject();
         Integer userId = claims.get("user_id", Integer.class);
         
-        // JwtUserDetails 객체 생성
-        JwtUserDetails userDetails = new JwtUserDetails(email, userId);
+        // JwtUserDetails 객체 생성 (설정된 관리자 ID이면 관리자 권한 부여)
+        JwtUserDetails userDetails = new JwtUserDetails(email, userId, userId != null && adminUserIds.contains(userId));
         
         return new UsernamePasswordAuthenticationToken(
                 userDetails,
@@ -1,7 +1,7 @@
 package com.travelonna.demo.global.security.jwt;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,9 +17,18 @@ public class JwtUserDetails implements UserDetails {
     private final Collection<? extends GrantedAuthority> authorities;
 
     public JwtUserDetails(String email, Integer userId) {
+        this(email, userId, false);
+    }
+
+    /**
+     * @param admin 관리자이면 ROLE_ADMIN 권한을 함께 부여
+     */
+    public JwtUserDetails(String email, Integer userId, boolean admin) {
         this.email = email;
         this.userId = userId;
-        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        this.authorities = admin
+                ? List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                : List.of(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
     @Override
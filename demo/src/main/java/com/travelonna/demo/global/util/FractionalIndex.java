@@ -0,0 +1,127 @@
+package com.travelonna.demo.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 문자열 비교 순서로 정렬되는 분수 인덱스(fractional index) 키 생성 유틸리티
+ * 두 키 사이에 항상 새 키를 만들 수 있으므로, 목록 중간에 요소를 넣거나 옮길 때
+ * 다른 요소의 키를 바꾸지 않아도 됩니다.
+ * 생성되는 키는 base62 숫자로 이루어지며 '0'으로 끝나지 않습니다.
+ */
+public class FractionalIndex {
+
+    // ASCII 순서와 숫자 값 순서가 같도록 배치
+    private static final char[] DIGITS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private static final int BASE = DIGITS.length;
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * lower와 upper 사이의 키를 생성합니다.
+     *
+     * @param lower 하한 키 (null이면 맨 앞)
+     * @param upper 상한 키 (null이면 맨 뒤)
+     * @throws IllegalArgumentException lower가 upper보다 작지 않거나 올바른 키가 아닌 경우
+     */
+    public static String between(String lower, String upper) {
+        validate(lower);
+        validate(upper);
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("하한 키가 상한 키보다 작아야 합니다: " + lower + ", " + upper);
+        }
+
+        StringBuilder key = new StringBuilder();
+        boolean upperBounded = upper != null;
+        for (int i = 0; ; i++) {
+            int low = lower != null && i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high = upperBounded && i < upper.length() ? digit(upper.charAt(i)) : BASE;
+
+            if (low == high) {
+                key.append(DIGITS[low]);
+                continue;
+            }
+
+            int mid = (low + high) / 2;
+            if (mid > low) {
+                return key.append(DIGITS[mid]).toString();
+            }
+
+            // 인접한 숫자: 하한 숫자를 택하면 이후 자리는 상한의 제약을 받지 않음
+            key.append(DIGITS[low]);
+            upperBounded = false;
+        }
+    }
+
+    /**
+     * 고르게 간격을 둔 count개의 키를 오름차순으로 생성합니다.
+     */
+    public static List<String> sequence(int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count <= 0) {
+            return keys;
+        }
+
+        int width = 1;
+        long space = BASE;
+        while (space <= count * 2L) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1);
+
+        for (int i = 1; i <= count; i++) {
+            long value = step * i;
+            char[] digits = new char[width];
+            for (int d = width - 1; d >= 0; d--) {
+                digits[d] = DIGITS[(int) (value % BASE)];
+                value /= BASE;
+            }
+
+            // 끝의 '0'을 제거해도 정렬 순서는 유지됨
+            int length = width;
+            while (length > 1 && digits[length - 1] == DIGITS[0]) {
+                length--;
+            }
+            keys.add(new String(digits, 0, length));
+        }
+        return keys;
+    }
+
+    /**
+     * 올바른 키인지 확인합니다.
+     */
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == DIGITS[0]) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (digit(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void validate(String key) {
+        if (key != null && !isValid(key)) {
+            throw new IllegalArgumentException("올바르지 않은 분수 인덱스 키입니다: " + key);
+        }
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,152 @@
+package com.travelonna.demo.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GeoUtil {
+
+    // 지구 평균 반지름 (미터)
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // 색인에 저장하는 지오해시 정밀도 (약 3.7cm x 1.9cm 셀)
+    public static final int MAX_PRECISION = 12;
+
+    // 영역 조회 시 한 번에 훑는 최대 셀 수
+    private static final int MAX_COVERING_CELLS = 32;
+
+    private GeoUtil() {
+    }
+
+    /**
+     * 두 좌표 사이의 거리를 하버사인 공식으로 계산합니다.
+     *
+     * @return 거리 (미터)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 유효한 위경도 범위인지 확인합니다.
+     */
+    public static boolean isValidCoordinate(Double lat, Double lon) {
+        return lat != null && lon != null
+                && !lat.isNaN() && !lon.isNaN()
+                && lat >= -90 && lat <= 90
+                && lon >= -180 && lon <= 180;
+    }
+
+    /**
+     * 좌표를 지오해시 문자열로 인코딩합니다.
+     */
+    public static String encodeGeohash(double lat, double lon, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (lon >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 중심 좌표와 반경으로 바운딩 박스를 계산합니다.
+     *
+     * @return [minLat, minLon, maxLat, maxLon]
+     */
+    public static double[] boundingBox(double lat, double lon, double radiusMeters) {
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double lonDelta = cosLat < 1e-12 ? 180 : Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * cosLat));
+
+        return new double[] {
+                Math.max(-90, lat - latDelta),
+                Math.max(-180, lon - lonDelta),
+                Math.min(90, lat + latDelta),
+                Math.min(180, lon + lonDelta)
+        };
+    }
+
+    /**
+     * 바운딩 박스를 덮는 지오해시 접두사 목록을 계산합니다.
+     * 셀 수가 MAX_COVERING_CELLS 이하가 되는 가장 높은 정밀도를 선택하므로
+     * 반환된 접두사마다 정렬된 색인의 범위 조회 한 번이면 됩니다.
+     */
+    public static List<String> coveringGeohashes(double minLat, double minLon, double maxLat, double maxLon) {
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            double[] cell = cellSize(precision);
+            long rows = (long) Math.floor(maxLat / cell[0]) - (long) Math.floor(minLat / cell[0]) + 1;
+            long cols = (long) Math.floor(maxLon / cell[1]) - (long) Math.floor(minLon / cell[1]) + 1;
+
+            if (rows * cols > MAX_COVERING_CELLS) {
+                continue;
+            }
+
+            List<String> hashes = new ArrayList<>();
+            for (long r = 0; r < rows; r++) {
+                double lat = Math.min(maxLat, minLat + r * cell[0]);
+                for (long c = 0; c < cols; c++) {
+                    double lon = Math.min(maxLon, minLon + c * cell[1]);
+                    String hash = encodeGeohash(lat, lon, precision);
+                    if (!hashes.contains(hash)) {
+                        hashes.add(hash);
+                    }
+                }
+            }
+            return hashes;
+        }
+
+        // 전 세계 범위: 접두사 없이 전체 조회
+        List<String> all = new ArrayList<>();
+        all.add("");
+        return all;
+    }
+
+    /**
+     * 지오해시 정밀도별 셀 크기를 계산합니다.
+     *
+     * @return [위도 방향 크기, 경도 방향 크기] (도 단위)
+     */
+    private static double[] cellSize(int precision) {
+        int totalBits = precision * 5;
+        int lonBits = (totalBits + 1) / 2;
+        int latBits = totalBits / 2;
+        return new double[] { 180.0 / (1L << latBits), 360.0 / (1L << lonBits) };
+    }
+}
@@ -0,0 +1,35 @@
+package com.travelonna.demo.global.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JsonNode <-> JSON 텍스트 컬럼 변환
+ */
+@Converter
+public class JsonNodeConverter implements AttributeConverter<JsonNode, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(JsonNode attribute) {
+        return attribute != null ? attribute.toString() : null;
+    }
+
+    @Override
+    public JsonNode convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(dbData);
+        } catch (JsonProcessingException e) {
+            // 구조화 이전에 JSON이 아닌 문자열로 저장된 작업
+            return OBJECT_MAPPER.getNodeFactory().textNode(dbData);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.travelonna.demo.global.util;
+
+import java.util.function.Supplier;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 낙관적 락 실패 시 트랜잭션을 새로 시작해 재시도하는 도우미
+ * 트랜잭션 경계(서비스 메소드) 밖에서 호출해야 합니다.
+ */
+@Slf4j
+public class OptimisticLockRetry {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MILLIS = 20;
+
+    private OptimisticLockRetry() {
+    }
+
+    public static <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("낙관적 락 충돌로 재시도합니다: {}회차", attempt);
+                try {
+                    Thread.sleep(BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public static void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package com.travelonna.demo.global.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 정수 ID와 비밀 키로 base62 단축 코드를 만들고 다시 ID로 되돌리는 코덱
+ * 코드는 (ID를 뒤섞은 6자리) + (ID의 HMAC 서명 8자리)로 이루어집니다.
+ * - 앞 6자리: 비밀 키에서 만든 라운드 키로 ID를 32비트 Feistel 네트워크로 뒤섞은 값이라 순차 ID가 드러나지 않습니다.
+ * - 뒤 8자리: HMAC-SHA256(비밀 키, ID)의 앞부분이라 비밀 키 없이는 다른 ID의 코드를 만들 수 없습니다.
+ * ID마다 코드가 하나씩 대응되므로 중복 검사가 필요 없습니다. 비밀 키를 바꾸면 기존 코드는 디코딩되지 않습니다.
+ */
+public class ShortCodeCodec {
+
+    private static final char[] BASE62 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    // 62^6 (약 568억) > 2^32 이므로 6자리면 모든 32비트 값을 표현할 수 있음
+    private static final int ID_LENGTH = 6;
+    // 62^8 (약 2^47.6)
+    private static final int TAG_LENGTH = 8;
+    public static final int CODE_LENGTH = ID_LENGTH + TAG_LENGTH;
+
+    private static final long MASK_32 = 0xFFFFFFFFL;
+    private static final long TAG_MODULUS = pow62(TAG_LENGTH);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int ROUNDS = 4;
+
+    private final SecretKeySpec key;
+    private final int[] roundKeys;
+
+    public ShortCodeCodec(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("단축 코드 비밀 키가 비어 있습니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+
+        // 라운드 키도 비밀 키에서 만듦 (서명과 구분되는 입력 사용)
+        ByteBuffer derived = ByteBuffer.wrap(hmac("feistel-round-keys".getBytes(StandardCharsets.UTF_8)));
+        this.roundKeys = new int[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = derived.getShort() & 0xFFFF;
+        }
+    }
+
+    /**
+     * ID를 단축 코드로 인코딩합니다.
+     */
+    public String encode(int id) {
+        return toBase62(permute(id & MASK_32), ID_LENGTH) + toBase62(tag(id), TAG_LENGTH);
+    }
+
+    /**
+     * 단축 코드를 ID로 디코딩합니다.
+     *
+     * @return ID (형식이 맞지 않거나 서명이 일치하지 않으면 null)
+     */
+    public Integer decode(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return null;
+        }
+
+        long permuted = fromBase62(code, 0, ID_LENGTH);
+        if (permuted < 0 || permuted > MASK_32) {
+            return null;
+        }
+        int id = (int) unpermute(permuted);
+
+        // 서명은 상수 시간으로 비교
+        byte[] expected = toBase62(tag(id), TAG_LENGTH).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = code.substring(ID_LENGTH).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? id : null;
+    }
+
+    private long tag(int id) {
+        byte[] mac = hmac(ByteBuffer.allocate(Integer.BYTES).putInt(id).array());
+        return Long.remainderUnsigned(ByteBuffer.wrap(mac).getLong(), TAG_MODULUS);
+    }
+
+    private byte[] hmac(byte[] input) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(input);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("단축 코드 서명에 실패했습니다.", e);
+        }
+    }
+
+    private long permute(long value) {
+        int left = (int) (value >>> 16) & 0xFFFF;
+        int right = (int) value & 0xFFFF;
+        for (int roundKey : roundKeys) {
+            int next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 16) | right;
+    }
+
+    private long unpermute(long value) {
+        int left = (int) (value >>> 16) & 0xFFFF;
+        int right = (int) value & 0xFFFF;
+        for (int i = roundKeys.length - 1; i >= 0; i--) {
+            int previous = right ^ round(left, roundKeys[i]);
+            right = left;
+            left = previous;
+        }
+        return ((long) left << 16) | right;
+    }
+
+    // 라운드 함수 (16비트 입력 -> 16비트 출력, 가역일 필요 없음)
+    private static int round(int half, int key) {
+        int x = (half * 0x9E3B + key) & 0xFFFF;
+        x ^= x >>> 7;
+        x = (x * 0x2C1B) & 0xFFFF;
+        return x ^ (x >>> 9);
+    }
+
+    private static String toBase62(long value, int length) {
+        char[] code = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            code[i] = BASE62[(int) (value % 62)];
+            value /= 62;
+        }
+        return new String(code);
+    }
+
+    // 형식이 맞지 않으면 -1
+    private static long fromBase62(String code, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = indexOf(code.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 62 + digit;
+        }
+        return value;
+    }
+
+    private static long pow62(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 62;
+        }
+        return value;
+    }
+
+    private static int indexOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+        return -1;
+    }
+}
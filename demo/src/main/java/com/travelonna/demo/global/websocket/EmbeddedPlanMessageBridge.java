@@ -0,0 +1,57 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 JVM 안의 애플리케이션 컨텍스트끼리 메시지를 주고받는 내장 브리지
+ * 로컬 개발이나 여러 노드를 한 프로세스에서 띄우는 통합 테스트에서 Redis 대신 사용합니다.
+ */
+@Slf4j
+public class EmbeddedPlanMessageBridge implements PlanMessageBridge, DisposableBean {
+
+    // 채널 이름 -> JVM 전체의 구독자 목록
+    private static final Map<String, List<Consumer<String>>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final String channel;
+
+    // 이 컨텍스트가 등록한 구독자 (종료 시 제거)
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public EmbeddedPlanMessageBridge(String channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(String payload) {
+        for (Consumer<String> listener : CHANNELS.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(payload);
+            } catch (Exception e) {
+                log.warn("내장 브리지 메시지 전달 실패: channel={}", channel, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+        CHANNELS.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void destroy() {
+        List<Consumer<String>> subscribers = CHANNELS.get(channel);
+        if (subscribers != null) {
+            subscribers.removeAll(listeners);
+        }
+        listeners.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.travelonna.demo.domain.group.service.PlanSequenceAllocator;
+
+/**
+ * 같은 JVM 안의 애플리케이션 컨텍스트끼리 그룹 일정 작업 순번을 공유하는 발급기
+ * EmbeddedPlanMessageBridge와 함께 로컬 개발이나 여러 노드를 한 프로세스에서 띄우는 통합 테스트에서 사용합니다.
+ */
+public class EmbeddedPlanSequenceAllocator implements PlanSequenceAllocator {
+
+    // "채널:그룹 URL" -> JVM 전체에서 마지막으로 발급한 순번
+    private static final Map<String, Long> SEQUENCES = new ConcurrentHashMap<>();
+
+    private final String keyPrefix;
+
+    public EmbeddedPlanSequenceAllocator(String channel) {
+        this.keyPrefix = channel + ":";
+    }
+
+    @Override
+    public long reserve(String groupUrl, long floor, int count) {
+        return SEQUENCES.merge(keyPrefix + groupUrl, floor + count, (current, initial) -> Math.max(current, floor) + count);
+    }
+
+    /**
+     * 채널의 모든 순번을 지웁니다 (테스트용)
+     */
+    public static void reset(String channel) {
+        SEQUENCES.keySet().removeIf(key -> key.startsWith(channel + ":"));
+    }
+}
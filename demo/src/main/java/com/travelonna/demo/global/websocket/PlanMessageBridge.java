@@ -0,0 +1,21 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 애플리케이션 노드 사이에서 그룹 일정 메시지를 주고받는 발행/구독 채널
+ * 메시지는 직렬화된 문자열로 전달되며, 발행한 노드도 자신의 메시지를 다시 받을 수 있으므로
+ * 자기 메시지 무시는 구독자가 처리합니다.
+ */
+public interface PlanMessageBridge {
+
+    /**
+     * 다른 노드로 메시지를 발행합니다.
+     */
+    void publish(String payload);
+
+    /**
+     * 다른 노드에서 발행된 메시지를 구독합니다.
+     */
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,285 @@
+package com.travelonna.demo.global.websocket;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 메시지 바이너리 인코딩(CBOR, Smile) 협상
+ * - 받기: SEND 프레임의 content-type이 application/cbor 또는 application/x-jackson-smile이면 해당 형식으로 읽습니다.
+ * - 보내기: 바이너리 엔드포인트(/ws-binary)로 접속해 CONNECT 프레임의 accept 헤더로 형식을 고른 세션에는
+ *   JSON 대신 application/octet-stream;format=cbor|smile 으로 보냅니다.
+ *   (Spring STOMP는 octet-stream 호환 타입만 바이너리 프레임으로 보내고, SockJS는 텍스트만 지원하므로
+ *   바이너리 형식은 SockJS 없는 엔드포인트에서만 협상합니다.)
+ * - content 형식: 메시지의 content는 이제 JSON 객체로 보내지만, 기존 클라이언트는 JSON 문자열을 받아 JSON.parse 하므로
+ *   CONNECT 프레임에 content-format:object 헤더를 보낸 세션(과 바이너리 형식을 협상한 세션)에만 객체로 보내고
+ *   나머지 JSON 세션에는 기존처럼 content를 JSON 문자열로 감싸 보냅니다.
+ * 브로커는 구독자 모두에게 같은 JSON 바이트 배열을 넘기므로, 변환 결과를 그 배열 기준으로 캐시해 형식마다 한 번만 변환합니다.
+ */
+@Slf4j
+public class PlanPayloadEncodingNegotiator {
+
+    public static final String ATTR_BINARY_TRANSPORT = "binaryTransport";
+    public static final String ACCEPT_HEADER = "accept";
+    public static final String CONTENT_FORMAT_HEADER = "content-format";
+    public static final String CONTENT_FORMAT_OBJECT = "object";
+
+    private static final String CONTENT_FIELD = "content";
+
+    private static final ObjectMapper JSON_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    // 세션 ID -> 협상된 형식 (JSON 세션은 보관하지 않음)
+    private final Map<String, Format> formatBySession = new ConcurrentHashMap<>();
+
+    // content를 객체로 받겠다고 협상한 JSON 세션 ID
+    private final Set<String> objectContentSessions = ConcurrentHashMap.newKeySet();
+
+    // JSON 바이트 배열(동일 인스턴스) -> content를 문자열로 감싼 JSON. 배열이 수거되면 항목도 사라집니다.
+    private final Map<byte[], byte[]> legacyEncoded = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 바이너리 엔드포인트의 핸드셰이크에서 세션 속성에 바이너리 전송 가능 표시를 남깁니다.
+     */
+    public HandshakeInterceptor binaryTransportHandshakeInterceptor() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(ATTR_BINARY_TRANSPORT, Boolean.TRUE);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    /**
+     * CBOR/Smile로 보낸 SEND 프레임을 읽는 메시지 변환기
+     * content-type이 정확히 일치할 때만 사용되므로 기본 JSON 변환기보다 앞에 두어도 JSON 메시지에는 영향이 없습니다.
+     */
+    public List<MessageConverter> binaryMessageConverters() {
+        return List.of(Format.CBOR.messageConverter(), Format.SMILE.messageConverter());
+    }
+
+    /**
+     * 클라이언트 입력 채널: CONNECT에서 형식을 협상하고, 연결이 끝나면 정리합니다.
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor == null || accessor.getSessionId() == null) {
+                    return message;
+                }
+
+                if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+                    negotiate(accessor);
+                } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+                    formatBySession.remove(accessor.getSessionId());
+                    objectContentSessions.remove(accessor.getSessionId());
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 클라이언트 출력 채널: 바이너리 형식을 고른 세션으로 가는 JSON 메시지를 해당 형식으로 바꾸고,
+     * content 형식을 협상하지 않은 JSON 세션으로 가는 메시지는 content를 JSON 문자열로 감쌉니다.
+     */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+                if (accessor == null || accessor.getSessionId() == null
+                        || accessor.getMessageType() != SimpMessageType.MESSAGE) {
+                    return message;
+                }
+
+                MimeType contentType = accessor.getContentType();
+                if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)
+                        || !(message.getPayload() instanceof byte[] json)) {
+                    return message;
+                }
+
+                Format format = formatBySession.get(accessor.getSessionId());
+                if (format == null) {
+                    if (objectContentSessions.contains(accessor.getSessionId())) {
+                        return message;
+                    }
+                    byte[] legacy = toLegacyContent(json);
+                    return legacy == json ? message : MessageBuilder.createMessage(legacy, message.getHeaders());
+                }
+
+                MessageHeaderAccessor headers = MessageHeaderAccessor.getMutableAccessor(message);
+                headers.setContentType(format.outboundType);
+                if (headers instanceof NativeMessageHeaderAccessor nativeHeaders
+                        && nativeHeaders.getFirstNativeHeader("content-type") != null) {
+                    nativeHeaders.setNativeHeader("content-type", format.outboundType.toString());
+                }
+                return MessageBuilder.createMessage(format.encode(json), headers.getMessageHeaders());
+            }
+        };
+    }
+
+    private void negotiate(StompHeaderAccessor accessor) {
+        if (CONTENT_FORMAT_OBJECT.equalsIgnoreCase(accessor.getFirstNativeHeader(CONTENT_FORMAT_HEADER))) {
+            objectContentSessions.add(accessor.getSessionId());
+        }
+
+        String accept = accessor.getFirstNativeHeader(ACCEPT_HEADER);
+        Format format = Format.of(accept);
+        if (format == null) {
+            return;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !Boolean.TRUE.equals(attributes.get(ATTR_BINARY_TRANSPORT))) {
+            log.debug("바이너리 전송을 지원하지 않는 연결이므로 JSON을 사용합니다: sessionId={}", accessor.getSessionId());
+            return;
+        }
+        formatBySession.put(accessor.getSessionId(), format);
+        log.debug("STOMP 메시지 형식 협상: sessionId={}, format={}", accessor.getSessionId(), format);
+    }
+
+    /**
+     * content가 객체/배열이면 JSON 문자열로 감싼 JSON을 반환합니다 (기존 클라이언트용).
+     * 바꿀 필요가 없으면 받은 배열을 그대로 반환하며, 변환은 캐시 잠금 밖에서 합니다.
+     */
+    byte[] toLegacyContent(byte[] json) {
+        byte[] cached = legacyEncoded.get(json);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] converted = json;
+        try {
+            JsonNode tree = JSON_MAPPER.readTree(json);
+            JsonNode content = tree != null ? tree.get(CONTENT_FIELD) : null;
+            if (content != null && content.isContainerNode()) {
+                ((ObjectNode) tree).put(CONTENT_FIELD, JSON_MAPPER.writeValueAsString(content));
+                converted = JSON_MAPPER.writeValueAsBytes(tree);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] existing = legacyEncoded.putIfAbsent(json, converted);
+        return existing != null ? existing : converted;
+    }
+
+    /**
+     * 지원하는 바이너리 형식
+     */
+    public enum Format {
+        CBOR(new MimeType("application", "cbor"), Jackson2ObjectMapperBuilder.cbor().build()),
+        SMILE(new MimeType("application", "x-jackson-smile"), Jackson2ObjectMapperBuilder.smile().build());
+
+        private final MimeType mimeType;
+        private final MimeType outboundType;
+        private final ObjectMapper objectMapper;
+
+        // JSON 바이트 배열(동일 인스턴스) -> 변환 결과. 배열이 수거되면 항목도 사라집니다.
+        // 잠금은 조회/저장에만 걸리고 변환 중에는 걸리지 않습니다.
+        private final Map<byte[], byte[]> encoded = Collections.synchronizedMap(new WeakHashMap<>());
+
+        Format(MimeType mimeType, ObjectMapper objectMapper) {
+            this.mimeType = mimeType;
+            this.outboundType = new MimeType("application", "octet-stream",
+                    Map.of("format", name().toLowerCase()));
+            this.objectMapper = objectMapper;
+        }
+
+        public MimeType getMimeType() {
+            return mimeType;
+        }
+
+        public MimeType getOutboundType() {
+            return outboundType;
+        }
+
+        public ObjectMapper getObjectMapper() {
+            return objectMapper;
+        }
+
+        static Format of(String accept) {
+            if (accept == null) {
+                return null;
+            }
+            for (String candidate : accept.split(",")) {
+                MimeType mimeType = MimeTypeUtils.parseMimeType(candidate.trim());
+                for (Format format : values()) {
+                    if (format.mimeType.equalsTypeAndSubtype(mimeType)
+                            || (format.outboundType.equalsTypeAndSubtype(mimeType)
+                                && format.name().equalsIgnoreCase(mimeType.getParameter("format")))) {
+                        return format;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 변환은 캐시 잠금 밖에서 하고 결과만 putIfAbsent로 넣습니다.
+         * 같은 배열을 여러 스레드가 동시에 변환할 수는 있지만, 먼저 들어간 결과를 모두 같이 사용합니다.
+         */
+        byte[] encode(byte[] json) {
+            byte[] cached = encoded.get(json);
+            if (cached != null) {
+                return cached;
+            }
+
+            byte[] converted;
+            try {
+                JsonNode tree = JSON_MAPPER.readTree(json);
+                converted = objectMapper.writeValueAsBytes(tree);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            byte[] existing = encoded.putIfAbsent(json, converted);
+            return existing != null ? existing : converted;
+        }
+
+        MappingJackson2MessageConverter messageConverter() {
+            MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(mimeType);
+            converter.setObjectMapper(objectMapper);
+            converter.setStrictContentTypeMatch(true);
+            return converter;
+        }
+    }
+}
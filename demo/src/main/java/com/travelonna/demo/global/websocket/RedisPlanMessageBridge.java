@@ -0,0 +1,45 @@
+package com.travelonna.demo.global.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 채널로 노드 간 메시지를 주고받는 브리지
+ */
+@Slf4j
+public class RedisPlanMessageBridge implements PlanMessageBridge {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisPlanMessageBridge(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(String payload) {
+        redisTemplate.convertAndSend(topic.getTopic(), payload);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                log.warn("Redis 브리지 메시지 처리 실패: channel={}", topic.getTopic(), e);
+            }
+        }, topic);
+    }
+}
@@ -0,0 +1,41 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.travelonna.demo.domain.group.service.PlanSequenceAllocator;
+
+/**
+ * Redis 카운터(INCRBY)로 그룹 일정 작업 순번을 구간 단위로 발급합니다 (bridge 모드, Redis 브리지).
+ * Redis 데이터가 지워져도 이미 저장된 순번과 겹치지 않도록, 카운터가 노드가 알고 있는 마지막 순번보다 작으면 먼저 올린 뒤 증가시킵니다.
+ */
+public class RedisPlanSequenceAllocator implements PlanSequenceAllocator {
+
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') "
+            + "local floor = tonumber(ARGV[1]) "
+            + "if current < floor then redis.call('SET', KEYS[1], floor) end "
+            + "return redis.call('INCRBY', KEYS[1], ARGV[2])",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisPlanSequenceAllocator(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = channel + ":seq:";
+    }
+
+    @Override
+    public long reserve(String groupUrl, long floor, int count) {
+        Long seq = redisTemplate.execute(RESERVE_SCRIPT, List.of(keyPrefix + groupUrl),
+                Long.toString(floor), Integer.toString(count));
+        if (seq == null) {
+            throw new IllegalStateException("작업 순번 발급 실패: groupUrl=" + groupUrl);
+        }
+        return seq;
+    }
+}
@@ -0,0 +1,54 @@
+package com.travelonna.demo.global.websocket;
+
+import java.io.IOException;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 느린 클라이언트 강제 종료를 집계하는 STOMP 세션 핸들러
+ * 세션마다 씌우는 전송 버퍼 데코레이터에서 SessionLimitExceededException(전송 버퍼 크기나 전송 시간 제한 초과)이
+ * 발생한 경우만 세어 websocket.sessions.evicted 지표로 남깁니다.
+ * 같은 SESSION_NOT_RELIABLE 상태로 닫히는 CONNECT 대기 시간 초과나 클라이언트가 보낸 종료 코드는 세지 않습니다.
+ */
+@Slf4j
+public class SlowConsumerEvictingWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final Counter evictions;
+
+    public SlowConsumerEvictingWebSocketHandler(MessageChannel clientInboundChannel,
+                                                SubscribableChannel clientOutboundChannel,
+                                                MeterRegistry meterRegistry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.evictions = Counter.builder("websocket.sessions.evicted")
+                .description("전송 버퍼/시간 제한을 넘겨 강제로 닫힌 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit()) {
+            @Override
+            public void sendMessage(WebSocketMessage<?> message) throws IOException {
+                try {
+                    super.sendMessage(message);
+                } catch (SessionLimitExceededException e) {
+                    // 제한을 넘긴 뒤의 전송은 버려지므로 세션당 한 번만 발생
+                    evictions.increment();
+                    log.warn("느린 클라이언트 연결 종료: sessionId={}, remoteAddress={}, 이유={}",
+                            getId(), getRemoteAddress(), e.getMessage());
+                    throw e;
+                }
+            }
+        };
+    }
+}
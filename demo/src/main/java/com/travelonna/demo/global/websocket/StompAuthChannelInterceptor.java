@@ -0,0 +1,122 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.travelonna.demo.domain.group.service.GroupService;
+import com.travelonna.demo.global.security.jwt.JwtTokenProvider;
+import com.travelonna.demo.global.security.jwt.JwtUserDetails;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 인증/인가 인터셉터
+ * - CONNECT: Authorization 헤더의 JWT를 한 번 검증하고 세션 사용자로 등록합니다.
+ *   사용자 ID와 표시 이름을 세션 속성에 저장하며, 메시지를 보낸 사용자는 이 값으로만 판단합니다.
+ * - SUBSCRIBE/SEND: 그룹 일정 목적지(/topic/plan/{groupUrl}, /app/plan/{groupUrl}/...)만 그룹 멤버에게 허용하고,
+ *   그 밖의 목적지와 와일드카드(*, #, {)가 들어간 목적지는 모두 거부합니다.
+ * 멤버십은 GroupService.isMember가 메모리 캐시로 확인하므로 프레임마다 DB를 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.auth.enabled", havingValue = "true", matchIfMissing = true)
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    public static final String AUTH_USER_ID = "authUserId";
+    public static final String AUTH_USER_NAME = "authUserName";
+
+    private static final Pattern GROUP_DESTINATION = Pattern.compile("^/(?:topic|app)/plan/([^/]+)(?:/.*)?$");
+
+    // 브로커 릴레이(외부 브로커)에서 여러 목적지를 한 번에 구독하는 데 쓰일 수 있는 문자
+    private static final Pattern WILDCARD = Pattern.compile("[*#{}]");
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final GroupService groupService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (StompCommand.CONNECT.equals(command)) {
+            authenticate(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(command) || StompCommand.SEND.equals(command)) {
+            authorize(accessor);
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+            throw new AccessDeniedException("인증 토큰이 없습니다.");
+        }
+
+        String token = bearerToken.substring(7);
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new AccessDeniedException("유효하지 않은 인증 토큰입니다.");
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        accessor.setUser(authentication);
+        if (accessor.getSessionAttributes() != null) {
+            Integer userId = userIdOf(authentication);
+            accessor.getSessionAttributes().put(AUTH_USER_ID, userId);
+            String userName = groupService.getDisplayName(userId);
+            if (userName != null) {
+                accessor.getSessionAttributes().put(AUTH_USER_NAME, userName);
+            }
+        }
+        log.debug("STOMP 세션 인증: sessionId={}, user={}", accessor.getSessionId(), authentication.getName());
+    }
+
+    private void authorize(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        // 그룹 일정 목적지 외에는 허용하지 않음 (기본 거부)
+        Matcher matcher = destination != null && !WILDCARD.matcher(destination).find()
+                ? GROUP_DESTINATION.matcher(destination) : null;
+        if (matcher == null || !matcher.matches()) {
+            log.warn("허용되지 않는 STOMP {} 목적지 거부: destination={}", accessor.getCommand(), destination);
+            throw new AccessDeniedException("허용되지 않는 목적지입니다.");
+        }
+
+        if (!(accessor.getUser() instanceof Authentication authentication)) {
+            throw new AccessDeniedException("인증되지 않은 세션입니다.");
+        }
+
+        String groupUrl = matcher.group(1);
+        Integer userId = userIdOf(authentication);
+        boolean member;
+        try {
+            member = groupService.isMember(userId, groupUrl);
+        } catch (IllegalArgumentException e) {
+            member = false;
+        }
+        if (!member) {
+            log.warn("그룹 멤버가 아닌 사용자의 STOMP {} 거부: userId={}, destination={}",
+                    accessor.getCommand(), userId, destination);
+            throw new AccessDeniedException("그룹 멤버만 접근할 수 있습니다: " + groupUrl);
+        }
+    }
+
+    private static Integer userIdOf(Authentication authentication) {
+        return authentication.getPrincipal() instanceof JwtUserDetails userDetails ? userDetails.getUserId() : null;
+    }
+}
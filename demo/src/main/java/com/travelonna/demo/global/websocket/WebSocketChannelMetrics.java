@@ -0,0 +1,46 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * STOMP 클라이언트 입력/출력 채널 실행기의 대기열 길이와 활성 스레드 수 지표
+ * websocket.channel.queue.size / websocket.channel.active.threads (channel=inbound|outbound)
+ */
+@Component
+public class WebSocketChannelMetrics {
+
+    public WebSocketChannelMetrics(MeterRegistry meterRegistry,
+                                   @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                                   @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        register(meterRegistry, "inbound", inboundExecutor);
+        register(meterRegistry, "outbound", outboundExecutor);
+    }
+
+    private void register(MeterRegistry meterRegistry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queue.size", executor, WebSocketChannelMetrics::queueSize)
+                .description("채널 실행기에서 처리를 기다리는 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("채널 실행기에서 메시지를 처리 중인 스레드 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    private static double queueSize(ThreadPoolTaskExecutor executor) {
+        // 실행기가 아직 초기화되지 않았거나 종료되었으면 0
+        try {
+            ThreadPoolExecutor threadPool = executor.getThreadPoolExecutor();
+            return threadPool.getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+}
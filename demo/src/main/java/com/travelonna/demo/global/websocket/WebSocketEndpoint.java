@@ -0,0 +1,112 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 계층 요약 (/actuator/websocket)
+ * 세션/구독 수, 목적지별 메시지 수, 활성 그룹 수와 메시지가 많은 그룹의 초당 메시지 수, 전달 지연과 구독자 수,
+ * 채널 대기열을 한 번에 보여줍니다. 그룹 URL(초대 링크)은 노출하지 않습니다.
+ * 개별 지표는 /actuator/metrics/websocket.* 에서도 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "websocket")
+@RequiredArgsConstructor
+public class WebSocketEndpoint {
+
+    private final WebSocketMetrics webSocketMetrics;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<WebSocketMessageBrokerStats> brokerStatsProvider;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("sessions", webSocketMetrics.getActiveSessions());
+        summary.put("subscriptions", webSocketMetrics.subscriptionCount());
+        summary.put("messagesReceived", countersByDestination("websocket.messages.received"));
+        summary.put("messagesDelivered", countersByDestination("websocket.messages.delivered"));
+        summary.put("activeGroups", webSocketMetrics.getActiveGroups());
+        summary.put("topGroupsPerSecond", webSocketMetrics.getGroupRates());
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        webSocketMetrics.getLatencyTimers().forEach((type, timer) -> latency.put(type, describe(timer)));
+        summary.put("broadcastLatency", latency);
+        summary.put("fanout", describe(webSocketMetrics.getFanout()));
+
+        Map<String, Object> channels = new LinkedHashMap<>();
+        for (String channel : new String[] {"inbound", "outbound"}) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("queueSize", gauge("websocket.channel.queue.size", channel));
+            stats.put("activeThreads", gauge("websocket.channel.active.threads", channel));
+            channels.put(channel, stats);
+        }
+        summary.put("channels", channels);
+
+        Counter evicted = meterRegistry.find("websocket.sessions.evicted").counter();
+        summary.put("evictedSessions", evicted != null ? (long) evicted.count() : 0L);
+
+        WebSocketMessageBrokerStats brokerStats = brokerStatsProvider.getIfAvailable();
+        if (brokerStats != null) {
+            Map<String, Object> broker = new LinkedHashMap<>();
+            broker.put("sessions", brokerStats.getWebSocketSessionStatsInfo());
+            broker.put("stomp", brokerStats.getStompSubProtocolStatsInfo());
+            broker.put("stompBroker", brokerStats.getStompBrokerRelayStatsInfo());
+            broker.put("sockJsScheduler", brokerStats.getSockJsTaskSchedulerStatsInfo());
+            summary.put("broker", broker);
+        }
+        return summary;
+    }
+
+    private Map<String, Long> countersByDestination(String name) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        meterRegistry.find(name).counters()
+                .forEach(counter -> counts.put(counter.getId().getTag("destination"), (long) counter.count()));
+        return counts;
+    }
+
+    private double gauge(String name, String channel) {
+        Gauge gauge = meterRegistry.find(name).tag("channel", channel).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+
+    private static Map<String, Object> describe(Timer timer) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", timer.count());
+        stats.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+        stats.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            stats.put(percentileKey(percentile) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return stats;
+    }
+
+    private static Map<String, Object> describe(DistributionSummary summary) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", summary.count());
+        stats.put("mean", summary.mean());
+        stats.put("max", summary.max());
+        for (ValueAtPercentile percentile : summary.takeSnapshot().percentileValues()) {
+            stats.put(percentileKey(percentile), percentile.value());
+        }
+        return stats;
+    }
+
+    private static String percentileKey(ValueAtPercentile percentile) {
+        return "p" + Math.round(percentile.percentile() * 100);
+    }
+}
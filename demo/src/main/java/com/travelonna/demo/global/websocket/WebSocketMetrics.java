@@ -0,0 +1,260 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * STOMP 계층 지표
+ * - websocket.sessions.active: 연결된 세션 수
+ * - websocket.subscriptions.active: 구독 수
+ * - websocket.channel.messages (channel=inbound|outbound|broker, command): 채널을 지난 메시지 수
+ * - websocket.messages.received / websocket.messages.delivered (destination): 목적지별 받은/보낸 메시지 수
+ * - websocket.broadcast.latency (type): 메시지를 받은 때부터 브로커에 전달할 때까지 걸린 시간
+ * - websocket.broadcast.fanout: 전달 한 번에 이 노드에서 받는 구독자 수
+ * 목적지 태그는 그룹 URL을 {groupUrl}로 바꾼 형태라 그룹 수와 관계없이 지표 수가 일정하며,
+ * 그룹별 초당 메시지 수는 지표 대신 일정 주기 집계로 상위 그룹만 보관합니다 (/actuator/websocket).
+ * 그룹 URL은 초대 링크 역할을 하므로 집계 결과에는 URL 없이 활성 그룹 수와 초당 메시지 수만 남깁니다.
+ */
+@Component
+public class WebSocketMetrics {
+
+    private static final Pattern GROUP_DESTINATION = Pattern.compile("^(/(?:topic|app)/plan/)([^/]+)(/[^/]+)?(/.+)?$");
+    private static final String GROUP_TOPIC_PREFIX = "/topic/plan/";
+
+    private final MeterRegistry meterRegistry;
+    private final int topGroups;
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    // 세션 ID -> (구독 ID -> 목적지), 목적지 -> 구독자 수
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscribersByDestination = new ConcurrentHashMap<>();
+
+    // 현재 집계 구간의 그룹별 받은 메시지 수와 직전 구간의 메시지를 받은 그룹 수, 초당 메시지 수 (상위 그룹만, URL 제외)
+    private final Map<String, LongAdder> receivedByGroup = new ConcurrentHashMap<>();
+    private volatile long windowStartedAt = System.currentTimeMillis();
+    private volatile int activeGroups;
+    private volatile List<Double> groupRates = List.of();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final DistributionSummary fanout;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry,
+                            @Value("${websocket.metrics.top-groups:10}") int topGroups) {
+        this.meterRegistry = meterRegistry;
+        this.topGroups = topGroups;
+
+        Gauge.builder("websocket.sessions.active", activeSessions, AtomicInteger::get)
+                .description("연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.subscriptions.active", this, WebSocketMetrics::subscriptionCount)
+                .description("STOMP 구독 수")
+                .register(meterRegistry);
+        this.fanout = DistributionSummary.builder("websocket.broadcast.fanout")
+                .description("그룹 일정 메시지 전달 한 번에 이 노드에서 받는 구독자 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널을 지나는 메시지를 세는 인터셉터
+     * 클라이언트 입력 채널에서는 구독 목록과 목적지별 받은 메시지 수를, 출력 채널에서는 목적지별 보낸 메시지 수를 함께 기록합니다.
+     */
+    public ChannelInterceptor channelInterceptor(String channel) {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+                SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+                if (accessor == null) {
+                    return message;
+                }
+                String command = accessor instanceof StompHeaderAccessor stomp && stomp.getCommand() != null
+                        ? stomp.getCommand().name() : String.valueOf(accessor.getMessageType());
+                counter("websocket.channel.messages", "channel", channel, "command", command).increment();
+
+                if ("inbound".equals(channel)) {
+                    onInbound(accessor);
+                } else if ("outbound".equals(channel) && accessor.getMessageType() == SimpMessageType.MESSAGE) {
+                    counter("websocket.messages.delivered", "destination", template(accessor.getDestination()), null, null)
+                            .increment();
+                }
+                return message;
+            }
+        };
+    }
+
+    public void sessionConnected() {
+        activeSessions.incrementAndGet();
+    }
+
+    public void sessionDisconnected(String sessionId) {
+        activeSessions.updateAndGet(count -> Math.max(0, count - 1));
+        Map<String, String> subscriptions = sessionId != null ? subscriptionsBySession.remove(sessionId) : null;
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrementSubscribers);
+        }
+    }
+
+    /**
+     * 그룹 일정 메시지를 브로커에 전달한 뒤 호출합니다.
+     *
+     * @param type 메시지 종류 (edit, join 등 몇 가지로 고정)
+     * @param receivedAtNanos 메시지를 받은 시각 (System.nanoTime)
+     */
+    public void recordBroadcast(String groupUrl, String type, long receivedAtNanos) {
+        latencyTimers.computeIfAbsent(type, key -> Timer.builder("websocket.broadcast.latency")
+                        .description("그룹 일정 메시지를 받은 때부터 브로커에 전달할 때까지 걸린 시간")
+                        .tag("type", key)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - receivedAtNanos, TimeUnit.NANOSECONDS);
+        fanout.record(subscriberCount(GROUP_TOPIC_PREFIX + groupUrl));
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public int subscriptionCount() {
+        return subscriptionsBySession.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public int subscriberCount(String destination) {
+        AtomicInteger count = subscribersByDestination.get(destination);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * 직전 집계 구간에서 메시지를 받은 그룹 수
+     */
+    public int getActiveGroups() {
+        return activeGroups;
+    }
+
+    /**
+     * 직전 집계 구간에서 메시지가 가장 많았던 그룹의 초당 메시지 수 (많은 순, 그룹 URL은 포함하지 않음)
+     */
+    public List<Double> getGroupRates() {
+        return groupRates;
+    }
+
+    public DistributionSummary getFanout() {
+        return fanout;
+    }
+
+    public Map<String, Timer> getLatencyTimers() {
+        return Map.copyOf(latencyTimers);
+    }
+
+    /**
+     * 그룹별 받은 메시지 수를 초당 메시지 수로 바꾸고 다음 구간을 시작합니다.
+     */
+    @Scheduled(fixedRateString = "${websocket.metrics.rate-window-ms:10000}")
+    public void rollWindow() {
+        long now = System.currentTimeMillis();
+        double seconds = Math.max(1, now - windowStartedAt) / 1000.0;
+        windowStartedAt = now;
+
+        List<Long> counts = new ArrayList<>();
+        for (String groupUrl : receivedByGroup.keySet()) {
+            LongAdder adder = receivedByGroup.remove(groupUrl);
+            if (adder != null) {
+                counts.add(adder.sum());
+            }
+        }
+
+        activeGroups = counts.size();
+        groupRates = counts.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(topGroups)
+                .map(count -> count / seconds)
+                .toList();
+    }
+
+    private void onInbound(SimpMessageHeaderAccessor accessor) {
+        SimpMessageType type = accessor.getMessageType();
+        String sessionId = accessor.getSessionId();
+        if (type == SimpMessageType.MESSAGE) {
+            String destination = accessor.getDestination();
+            counter("websocket.messages.received", "destination", template(destination), null, null).increment();
+            Matcher matcher = destination != null ? GROUP_DESTINATION.matcher(destination) : null;
+            if (matcher != null && matcher.matches()) {
+                receivedByGroup.computeIfAbsent(matcher.group(2), key -> new LongAdder()).increment();
+            }
+        } else if (type == SimpMessageType.SUBSCRIBE && sessionId != null && accessor.getSubscriptionId() != null
+                && accessor.getDestination() != null) {
+            String previous = subscriptionsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                    .put(accessor.getSubscriptionId(), accessor.getDestination());
+            if (previous != null) {
+                decrementSubscribers(previous);
+            }
+            subscribersByDestination.computeIfAbsent(accessor.getDestination(), key -> new AtomicInteger()).incrementAndGet();
+        } else if (type == SimpMessageType.UNSUBSCRIBE && sessionId != null && accessor.getSubscriptionId() != null) {
+            Map<String, String> subscriptions = subscriptionsBySession.get(sessionId);
+            String destination = subscriptions != null ? subscriptions.remove(accessor.getSubscriptionId()) : null;
+            if (destination != null) {
+                decrementSubscribers(destination);
+            }
+        }
+    }
+
+    private void decrementSubscribers(String destination) {
+        subscribersByDestination.computeIfPresent(destination,
+                (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private Counter counter(String name, String tag1, String value1, String tag2, String value2) {
+        String key = name + '|' + value1 + '|' + value2;
+        return counters.computeIfAbsent(key, k -> {
+            Counter.Builder builder = Counter.builder(name).tag(tag1, value1);
+            if (tag2 != null) {
+                builder.tag(tag2, value2);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    /**
+     * 목적지의 그룹 URL과 ID 부분을 바꿔 태그 값 수를 고정합니다.
+     * 예: /app/plan/b4Kx2/replay/10 -> /app/plan/{groupUrl}/replay/{id}
+     */
+    static String template(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        Matcher matcher = GROUP_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return "other";
+        }
+        return matcher.group(1) + "{groupUrl}"
+                + (matcher.group(3) != null ? matcher.group(3) : "")
+                + (matcher.group(4) != null ? "/{id}" : "");
+    }
+}
@@ -0,0 +1,38 @@
+-- place.lat / place.lon 을 문자열에서 DOUBLE 로 변경
+-- 부호(+/-), 소수점으로 시작하는 값(.5), 지수 표기(1.27E2)도 숫자로 해석합니다.
+-- 숫자로 해석할 수 없거나 범위(위도 ±90, 경도 ±180)를 벗어난 기존 값은 NULL 로 변환되며,
+-- 해당 행은 place_coordinate_conversion_failure 테이블에 원래 값과 함께 남깁니다.
+ALTER TABLE place
+    ADD COLUMN lat_num DOUBLE NULL,
+    ADD COLUMN lon_num DOUBLE NULL;
+
+-- CAST(... AS DOUBLE)은 MySQL 8.0.17 이상에서만 지원되므로 DECIMAL로 변환 (소수점 7자리, 약 1cm)
+UPDATE place
+SET lat_num = CASE
+        WHEN TRIM(lat) REGEXP '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)([eE][+-]?[0-9]+)?$'
+             AND ABS(TRIM(lat) + 0) <= 90
+        THEN CAST(TRIM(lat) AS DECIMAL(10, 7))
+    END,
+    lon_num = CASE
+        WHEN TRIM(lon) REGEXP '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)([eE][+-]?[0-9]+)?$'
+             AND ABS(TRIM(lon) + 0) <= 180
+        THEN CAST(TRIM(lon) AS DECIMAL(10, 7))
+    END;
+
+-- 변환하지 못한 좌표 (값이 비어 있던 행은 제외). 건수 확인: SELECT COUNT(*) FROM place_coordinate_conversion_failure;
+CREATE TABLE place_coordinate_conversion_failure AS
+SELECT place_id, lat AS original_lat, lon AS original_lon
+FROM place
+WHERE (lat_num IS NULL AND lat IS NOT NULL AND TRIM(lat) <> '')
+   OR (lon_num IS NULL AND lon IS NOT NULL AND TRIM(lon) <> '');
+
+ALTER TABLE place
+    DROP COLUMN lat,
+    DROP COLUMN lon;
+
+ALTER TABLE place
+    RENAME COLUMN lat_num TO lat,
+    RENAME COLUMN lon_num TO lon;
+
+-- 공개 장소 바운딩 박스 조회용 인덱스
+CREATE INDEX idx_place_public_lat_lon ON place (is_public, lat, lon);
@@ -0,0 +1,2 @@
+-- 사용자별 일정 목록 키셋 페이지네이션 (user_id, start_date, plan_id 순 정렬)용 인덱스
+CREATE INDEX idx_plan_user_start_date ON plan (user_id, start_date, plan_id);
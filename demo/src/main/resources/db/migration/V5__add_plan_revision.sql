@@ -0,0 +1,3 @@
+-- 일정 상세 응답 캐시/ETag 용 일정 버전 컬럼
+ALTER TABLE plan
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- 일정/장소 낙관적 락 버전 컬럼
+ALTER TABLE plan
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE place
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- 사용자별 소속 그룹 조회용 인덱스
+CREATE INDEX idx_group_member_user_active ON group_member (user_id, is_active);
@@ -0,0 +1,14 @@
+-- 그룹 일정 편집 작업 로그 (그룹별 순번으로 재생)
+CREATE TABLE plan_operation (
+    operation_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    group_url VARCHAR(255) NOT NULL,
+    seq BIGINT NOT NULL,
+    type VARCHAR(50),
+    plan_id BIGINT,
+    place_id BIGINT,
+    content TEXT,
+    user_id INT,
+    user_name VARCHAR(255),
+    op_timestamp BIGINT,
+    UNIQUE KEY uk_plan_operation_group_seq (group_url, seq)
+);
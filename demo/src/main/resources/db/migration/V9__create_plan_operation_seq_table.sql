@@ -0,0 +1,5 @@
+-- 그룹별 작업 순번 발급 (relay 모드에서 여러 노드가 공유)
+CREATE TABLE plan_operation_seq (
+    group_url VARCHAR(255) NOT NULL PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
@@ -0,0 +1,173 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.travelonna.demo.domain.group.dto.GroupPageResponseDto;
+import com.travelonna.demo.domain.group.dto.GroupResponseDto;
+import com.travelonna.demo.domain.group.entity.GroupEntity;
+import com.travelonna.demo.domain.group.entity.GroupMember;
+import com.travelonna.demo.domain.group.repository.GroupMemberRepository;
+import com.travelonna.demo.domain.group.repository.GroupRepository;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.user.entity.User;
+import com.travelonna.demo.domain.user.repository.ProfileRepository;
+import com.travelonna.demo.domain.user.repository.UserRepository;
+
+/**
+ * 그룹 서비스 테스트
+ * 내 그룹 목록이 캐시된 소속 그룹 ID를 페이지 단위로 잘라 해당 그룹만 조회하는지,
+ * 그룹 참여 후 트랜잭션이 끝나면 소속 그룹 캐시가 다시 적재되는지 확인합니다.
+ */
+class GroupServiceTest {
+
+    private static final Integer USER_ID = 1;
+    private static final int GROUP_COUNT = 45;
+
+    private GroupRepository groupRepository;
+    private GroupMemberRepository groupMemberRepository;
+    private UserRepository userRepository;
+    private GroupUrlResolver groupUrlResolver;
+    private GroupService groupService;
+
+    private final User user = User.builder().userId(USER_ID).name("여행자").build();
+    private final List<Integer> memberGroupIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        groupRepository = mock(GroupRepository.class);
+        groupMemberRepository = mock(GroupMemberRepository.class);
+        userRepository = mock(UserRepository.class);
+        groupUrlResolver = mock(GroupUrlResolver.class);
+        groupService = new GroupService(groupRepository, groupMemberRepository, userRepository,
+                mock(PlanRepository.class), mock(PlaceRepository.class), mock(ProfileRepository.class),
+                new GroupMembershipCache(), groupUrlResolver);
+
+        // 최근 생성 순 (ID 내림차순)
+        for (int id = GROUP_COUNT; id >= 1; id--) {
+            memberGroupIds.add(id);
+        }
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(groupMemberRepository.findActiveGroupIdsByUserId(USER_ID))
+                .thenAnswer(invocation -> new ArrayList<>(memberGroupIds));
+        when(groupRepository.findAllWithHostByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> ids = invocation.getArgument(0);
+            // 저장소는 순서를 보장하지 않으므로 뒤집어서 반환
+            List<GroupEntity> groups = ids.stream().map(this::group).collect(Collectors.toList());
+            Collections.reverse(groups);
+            return groups;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void pagesAreSlicedFromOneCachedMembershipLookup() {
+        List<Integer> visited = new ArrayList<>();
+        GroupPageResponseDto page;
+        int pageNumber = 0;
+        do {
+            page = groupService.getMyGroups(USER_ID, pageNumber++, 20);
+            assertThat(page.getTotalElements()).isEqualTo(GROUP_COUNT);
+            page.getGroups().stream().map(GroupResponseDto::getId).forEach(visited::add);
+        } while (page.getHasNext());
+
+        assertThat(pageNumber).isEqualTo(3);
+        assertThat(page.getGroups()).hasSize(5);
+        assertThat(visited).containsExactlyElementsOf(memberGroupIds);
+        verify(groupMemberRepository, times(1)).findActiveGroupIdsByUserId(USER_ID);
+
+        // 범위를 벗어난 페이지는 그룹 조회 없이 빈 목록
+        GroupPageResponseDto beyond = groupService.getMyGroups(USER_ID, 10, 20);
+        assertThat(beyond.getGroups()).isEmpty();
+        assertThat(beyond.getHasNext()).isFalse();
+        verify(groupRepository, times(3)).findAllWithHostByIdIn(anyCollection());
+    }
+
+    @Test
+    void pageArgumentsAreNormalized() {
+        GroupPageResponseDto page = groupService.getMyGroups(USER_ID, -1, null);
+        assertThat(page.getPage()).isZero();
+        assertThat(page.getSize()).isEqualTo(20);
+
+        assertThat(groupService.getMyGroups(USER_ID, 0, 1_000).getSize()).isEqualTo(100);
+        assertThat(groupService.getMyGroups(USER_ID, 0, 1_000).getGroups()).hasSize(GROUP_COUNT);
+    }
+
+    @Test
+    void unknownUserIsRejectedAndNotCached() {
+        when(userRepository.existsById(99)).thenReturn(false);
+
+        assertThatThrownBy(() -> groupService.getMyGroups(99, 0, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> groupService.getMyGroups(99, 0, 20)).isInstanceOf(IllegalArgumentException.class);
+        verify(groupMemberRepository, never()).findActiveGroupIdsByUserId(99);
+    }
+
+    @Test
+    void joiningGroupRefreshesMembershipAfterTransaction() {
+        assertThat(groupService.getMyGroups(USER_ID, 0, 20).getTotalElements()).isEqualTo(GROUP_COUNT);
+
+        GroupEntity joined = group(100);
+        when(groupUrlResolver.findByUrl("join")).thenReturn(Optional.of(joined));
+        when(groupUrlResolver.findGroupId("join")).thenReturn(Optional.of(100));
+        when(groupMemberRepository.save(any(GroupMember.class))).thenAnswer(invocation -> {
+            memberGroupIds.add(0, 100);
+            return invocation.getArgument(0);
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        groupService.joinGroup(USER_ID, "join");
+
+        // 트랜잭션이 끝나기 전에는 이전 목록을 사용
+        assertThat(groupService.isMember(USER_ID, "join")).isFalse();
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        GroupPageResponseDto first = groupService.getMyGroups(USER_ID, 0, 20);
+        assertThat(first.getTotalElements()).isEqualTo(GROUP_COUNT + 1);
+        assertThat(first.getGroups().get(0).getId()).isEqualTo(100);
+        assertThat(groupService.isMember(USER_ID, "join")).isTrue();
+        verify(groupMemberRepository, times(2)).findActiveGroupIdsByUserId(USER_ID);
+    }
+
+    private GroupEntity group(Integer id) {
+        return GroupEntity.builder()
+                .id(id)
+                .url("g" + id)
+                .isGroup(true)
+                .createdDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id))
+                .host(user)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.group.entity.GroupEntity;
+import com.travelonna.demo.domain.group.repository.GroupRepository;
+
+/**
+ * 그룹 초대 URL 조회 테스트
+ * 비밀 키가 없을 때 jwt.secret에서 만든 키로 코드를 만드는지, 없는 URL을 반복 조회하지 않는지 확인합니다.
+ */
+class GroupUrlResolverTest {
+
+    private static final String JWT_SECRET = "test-jwt-secret";
+
+    private GroupRepository groupRepository;
+
+    @BeforeEach
+    void setUp() {
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(groupRepository.findById(anyLong())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void urlIsDerivedFromGroupIdWithoutInviteSecret() {
+        GroupUrlResolver resolver = new GroupUrlResolver(groupRepository, "", JWT_SECRET, 60_000);
+
+        String url = resolver.createUrl(7);
+        when(groupRepository.findById(7L)).thenReturn(Optional.of(group(7, url)));
+
+        assertThat(resolver.createUrl(7)).isEqualTo(url);
+        assertThat(resolver.findGroupId(url)).contains(7);
+        verify(groupRepository, never()).existsByUrl(anyString());
+        verify(groupRepository, never()).findByUrl(url);
+    }
+
+    @Test
+    void missingSecretsFailAtStartup() {
+        assertThatThrownBy(() -> new GroupUrlResolver(groupRepository, " ", "", 60_000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void unknownUrlIsLookedUpOnceWithinMissTtl() {
+        GroupUrlResolver resolver = new GroupUrlResolver(groupRepository, "", JWT_SECRET, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(resolver.findByUrl("unknown-url")).isEmpty();
+        }
+
+        verify(groupRepository, times(1)).findByUrl("unknown-url");
+    }
+
+    @Test
+    void unknownUrlIsLookedUpAgainAfterMissTtl() {
+        GroupUrlResolver resolver = new GroupUrlResolver(groupRepository, "", JWT_SECRET, 0);
+
+        resolver.findByUrl("unknown-url");
+        when(groupRepository.findByUrl("unknown-url")).thenReturn(Optional.of(group(3, "unknown-url")));
+
+        assertThat(resolver.findGroupId("unknown-url")).hasValueSatisfying(id -> assertThat(id).isEqualTo(3));
+    }
+
+    private static GroupEntity group(Integer id, String url) {
+        return GroupEntity.builder()
+                .id(id)
+                .url(url)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.domain.group.crdt.PlaceElement;
+import com.travelonna.demo.domain.group.crdt.PlanDocument;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.plan.service.PlaceService;
+
+/**
+ * 그룹 일정 CRDT 병합 처리량 벤치마크
+ * 두 노드가 같은 일정의 장소 목록을 동시에 편집할 때 로컬/원격 작업의 초당 병합 건수를 로그로 남깁니다.
+ * 실행 시간에 따라 결과가 달라지므로 기본 테스트에서는 제외됩니다 (./gradlew benchmark로 실행).
+ */
+@Tag("benchmark")
+class PlanCrdtServiceBenchmarkTest {
+
+    private static final Integer PLAN_ID = 1;
+    private static final Integer GROUP_ID = 7;
+    private static final String GROUP_URL = "benchmark";
+    private static final int PLACE_COUNT = 50;
+    private static final String[] TYPES = {
+            PlanCrdtService.PLACE_UPDATE, PlanCrdtService.PLACE_UPDATE, PlanCrdtService.PLACE_UPDATE,
+            PlanCrdtService.PLACE_MOVE, PlanCrdtService.PLACE_MOVE
+    };
+
+    // 그룹당 목표 처리량 (초당 작업 수, 로그 비교용)
+    private static final double TARGET_OPS_PER_SECOND = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(PlanCrdtServiceBenchmarkTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PlaceRepository placeRepository;
+    private PlanRepository planRepository;
+    private PlaceService placeService;
+    private GroupUrlResolver groupUrlResolver;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        planRepository = mock(PlanRepository.class);
+        placeService = mock(PlaceService.class);
+        groupUrlResolver = mock(GroupUrlResolver.class);
+        when(groupUrlResolver.findGroupId(GROUP_URL)).thenReturn(Optional.of(GROUP_ID));
+        when(planRepository.findGroupIdByPlanId(PLAN_ID)).thenReturn(Optional.of(GROUP_ID));
+
+        List<Place> places = new ArrayList<>();
+        for (int i = 1; i <= PLACE_COUNT; i++) {
+            places.add(Place.builder()
+                    .placeId(i)
+                    .place("주소 " + i)
+                    .name("장소 " + i)
+                    .order(i)
+                    .isPublic(false)
+                    .build());
+        }
+        when(placeRepository.findByPlanIdOrderByOrder(PLAN_ID)).thenReturn(places);
+        when(placeRepository.findByPlaceIdAndPlan_PlanId(anyInt(), eq(PLAN_ID))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void mergeThroughput() {
+        PlanCrdtService nodeA = newNode();
+        PlanCrdtService nodeB = newNode();
+        Random random = new Random(42);
+        int operationCount = 20_000;
+
+        List<PlanUpdateMessage> fromA = new ArrayList<>();
+        List<PlanUpdateMessage> fromB = new ArrayList<>();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < operationCount; i++) {
+            boolean onA = random.nextBoolean();
+            PlanUpdateMessage applied = (onA ? nodeA : nodeB).apply(GROUP_URL, randomOperation(random, i));
+            assertThat(applied).isNotNull();
+            (onA ? fromA : fromB).add(applied);
+        }
+        double localOpsPerSecond = operationCount / ((System.nanoTime() - started) / 1_000_000_000.0);
+
+        // 네트워크 지연을 흉내 내기 위해 상대 노드의 작업을 뒤섞어 전달
+        Collections.shuffle(fromA, random);
+        Collections.shuffle(fromB, random);
+        started = System.nanoTime();
+        fromA.forEach(nodeB::applyRemote);
+        fromB.forEach(nodeA::applyRemote);
+        double remoteOpsPerSecond = operationCount / ((System.nanoTime() - started) / 1_000_000_000.0);
+
+        log.info("CRDT 병합 처리량: 로컬 작업 {} ops/s, 원격 작업 {} ops/s (작업 {}건, 장소 {}개, 목표 {} ops/s)",
+                Math.round(localOpsPerSecond), Math.round(remoteOpsPerSecond), operationCount, PLACE_COUNT,
+                Math.round(TARGET_OPS_PER_SECOND));
+
+        assertThat(stateOf(nodeA)).isEqualTo(stateOf(nodeB));
+    }
+
+    private PlanCrdtService newNode() {
+        return new PlanCrdtService(placeRepository, planRepository, placeService, groupUrlResolver, objectMapper, 60_000);
+    }
+
+    private PlanUpdateMessage randomOperation(Random random, int sequence) {
+        String type = TYPES[random.nextInt(TYPES.length)];
+        int placeId = random.nextInt(PLACE_COUNT) + 1;
+        String content;
+        if (PlanCrdtService.PLACE_UPDATE.equals(type)) {
+            content = random.nextBoolean()
+                    ? "{\"fields\":{\"memo\":\"메모 " + sequence + "\"}}"
+                    : "{\"fields\":{\"name\":\"장소 " + sequence + "\",\"placeCost\":" + random.nextInt(100_000) + "}}";
+        } else {
+            int neighbor = random.nextInt(PLACE_COUNT) + 1;
+            content = random.nextBoolean()
+                    ? "{\"afterPlaceId\":" + neighbor + "}"
+                    : "{\"beforePlaceId\":" + neighbor + "}";
+        }
+        return message(type, placeId, content);
+    }
+
+    private PlanUpdateMessage message(String type, int placeId, String content) {
+        return PlanUpdateMessage.builder()
+                .groupUrl(GROUP_URL)
+                .type(type)
+                .planId(PLAN_ID.longValue())
+                .placeId((long) placeId)
+                .content(json(content))
+                .userId(1)
+                .build();
+    }
+
+    private JsonNode json(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private List<String> stateOf(PlanCrdtService node) {
+        PlanDocument document = node.findDocument(PLAN_ID);
+        synchronized (document) {
+            return document.ordered().stream()
+                    .map(PlaceElement::getPlaceId)
+                    .map(placeId -> placeId + "=" + new TreeMap<>(document.get(placeId).getFieldValues()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
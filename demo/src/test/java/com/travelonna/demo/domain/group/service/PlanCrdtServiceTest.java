@@ -0,0 +1,221 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.domain.group.crdt.PlaceElement;
+import com.travelonna.demo.domain.group.crdt.PlanDocument;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.plan.dto.MergedPlaceChangeDto;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.plan.service.PlaceService;
+
+/**
+ * 그룹 일정 CRDT 병합 테스트
+ * 두 노드가 같은 일정의 장소 목록을 동시에 편집하고 서로의 확정 작업을 뒤섞인 순서로 받아도
+ * 같은 상태로 수렴하는지, 압축 시 로컬 변경만 반영하는지, 다른 그룹의 일정은 거부하는지 확인합니다.
+ * 처리량 측정은 PlanCrdtServiceBenchmarkTest에서 합니다.
+ */
+class PlanCrdtServiceTest {
+
+    private static final Integer PLAN_ID = 1;
+    private static final Integer GROUP_ID = 7;
+    private static final String GROUP_URL = "benchmark";
+    private static final int PLACE_COUNT = 50;
+    private static final String[] TYPES = {
+            PlanCrdtService.PLACE_UPDATE, PlanCrdtService.PLACE_UPDATE, PlanCrdtService.PLACE_UPDATE,
+            PlanCrdtService.PLACE_MOVE, PlanCrdtService.PLACE_MOVE
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PlaceRepository placeRepository;
+    private PlanRepository planRepository;
+    private PlaceService placeService;
+    private GroupUrlResolver groupUrlResolver;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        planRepository = mock(PlanRepository.class);
+        placeService = mock(PlaceService.class);
+        groupUrlResolver = mock(GroupUrlResolver.class);
+        when(groupUrlResolver.findGroupId(GROUP_URL)).thenReturn(Optional.of(GROUP_ID));
+        when(groupUrlResolver.findGroupId("other-group")).thenReturn(Optional.of(GROUP_ID + 1));
+        when(planRepository.findGroupIdByPlanId(PLAN_ID)).thenReturn(Optional.of(GROUP_ID));
+
+        List<Place> places = new ArrayList<>();
+        for (int i = 1; i <= PLACE_COUNT; i++) {
+            places.add(Place.builder()
+                    .placeId(i)
+                    .place("주소 " + i)
+                    .name("장소 " + i)
+                    .order(i)
+                    .isPublic(false)
+                    .build());
+        }
+        when(placeRepository.findByPlanIdOrderByOrder(PLAN_ID)).thenReturn(places);
+        when(placeRepository.findByPlaceIdAndPlan_PlanId(anyInt(), eq(PLAN_ID))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void concurrentEditsOnTwoNodesConverge() {
+        PlanCrdtService nodeA = newNode();
+        PlanCrdtService nodeB = newNode();
+        Random random = new Random(42);
+        int operationCount = 2_000;
+
+        List<PlanUpdateMessage> fromA = new ArrayList<>();
+        List<PlanUpdateMessage> fromB = new ArrayList<>();
+        for (int i = 0; i < operationCount; i++) {
+            boolean onA = random.nextBoolean();
+            PlanUpdateMessage applied = (onA ? nodeA : nodeB).apply(GROUP_URL, randomOperation(random, i));
+            assertThat(applied).isNotNull();
+            (onA ? fromA : fromB).add(applied);
+        }
+
+        // 네트워크 지연을 흉내 내기 위해 상대 노드의 작업을 뒤섞어 전달
+        Collections.shuffle(fromA, random);
+        Collections.shuffle(fromB, random);
+        fromA.forEach(nodeB::applyRemote);
+        fromB.forEach(nodeA::applyRemote);
+
+        assertThat(stateOf(nodeA)).isEqualTo(stateOf(nodeB));
+    }
+
+    @Test
+    void redeliveredOperationsDoNotChangeState() {
+        PlanCrdtService nodeA = newNode();
+        PlanCrdtService nodeB = newNode();
+        Random random = new Random(7);
+
+        List<PlanUpdateMessage> fromA = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            fromA.add(nodeA.apply(GROUP_URL, randomOperation(random, i)));
+        }
+        fromA.forEach(nodeB::applyRemote);
+        List<String> converged = stateOf(nodeB);
+
+        // 같은 작업을 다시 받아도 상태가 바뀌지 않아야 함 (멱등)
+        fromA.subList(0, 100).forEach(nodeB::applyRemote);
+
+        assertThat(stateOf(nodeB)).isEqualTo(converged).isEqualTo(stateOf(nodeA));
+    }
+
+    @Test
+    void compactionWritesOnlyLocalChangesAndReleasesDocument() {
+        PlanCrdtService node = newNode();
+
+        node.apply(GROUP_URL, message(PlanCrdtService.PLACE_UPDATE, 3, "{\"fields\":{\"memo\":\"점심\",\"placeCost\":12000}}"));
+        node.apply(GROUP_URL, message(PlanCrdtService.PLACE_MOVE, 3, "{\"afterPlaceId\":10}"));
+        node.apply(GROUP_URL, message(PlanCrdtService.PLACE_DELETE, 5, "{}"));
+        assertThat(node.apply(GROUP_URL, message(PlanCrdtService.PLACE_UPDATE, 4, "{\"fields\":{\"order\":1}}"))).isNull();
+
+        node.compact();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MergedPlaceChangeDto>> changes = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Integer>> order = ArgumentCaptor.forClass(List.class);
+        verify(placeService).applyMergedState(eq(PLAN_ID), changes.capture(), order.capture());
+
+        assertThat(changes.getValue()).hasSize(2);
+        MergedPlaceChangeDto updated = changes.getValue().stream()
+                .filter(change -> change.getPlaceId() == 3).findFirst().orElseThrow();
+        assertThat(updated.getFields()).containsEntry("memo", "점심").containsEntry("placeCost", 12000);
+        assertThat(changes.getValue().stream().filter(MergedPlaceChangeDto::isDeleted)
+                .map(MergedPlaceChangeDto::getPlaceId)).containsExactly(5);
+
+        List<Integer> ordered = order.getValue();
+        assertThat(ordered).doesNotContain(5);
+        assertThat(ordered.indexOf(3)).isEqualTo(ordered.indexOf(10) + 1);
+
+        // 반영 후 변경이 없으면 문서를 내림
+        assertThat(node.findDocument(PLAN_ID)).isNull();
+    }
+
+    @Test
+    void operationsForPlanOfAnotherGroupAreRejectedBeforeLoading() {
+        PlanCrdtService node = newNode();
+
+        assertThat(node.apply("other-group", message(PlanCrdtService.PLACE_DELETE, 5, "{}"))).isNull();
+        assertThat(node.apply("unknown-group", message(PlanCrdtService.PLACE_DELETE, 5, "{}"))).isNull();
+
+        assertThat(node.findDocument(PLAN_ID)).isNull();
+        verify(placeRepository, never()).findByPlanIdOrderByOrder(PLAN_ID);
+        node.compact();
+        verify(placeService, never()).applyMergedState(eq(PLAN_ID), anyList(), any());
+    }
+
+    private PlanCrdtService newNode() {
+        return new PlanCrdtService(placeRepository, planRepository, placeService, groupUrlResolver, objectMapper, 60_000);
+    }
+
+    private PlanUpdateMessage randomOperation(Random random, int sequence) {
+        String type = TYPES[random.nextInt(TYPES.length)];
+        int placeId = random.nextInt(PLACE_COUNT) + 1;
+        String content;
+        if (PlanCrdtService.PLACE_UPDATE.equals(type)) {
+            content = random.nextBoolean()
+                    ? "{\"fields\":{\"memo\":\"메모 " + sequence + "\"}}"
+                    : "{\"fields\":{\"name\":\"장소 " + sequence + "\",\"placeCost\":" + random.nextInt(100_000) + "}}";
+        } else {
+            int neighbor = random.nextInt(PLACE_COUNT) + 1;
+            content = random.nextBoolean()
+                    ? "{\"afterPlaceId\":" + neighbor + "}"
+                    : "{\"beforePlaceId\":" + neighbor + "}";
+        }
+        return message(type, placeId, content);
+    }
+
+    private PlanUpdateMessage message(String type, int placeId, String content) {
+        return PlanUpdateMessage.builder()
+                .groupUrl(GROUP_URL)
+                .type(type)
+                .planId(PLAN_ID.longValue())
+                .placeId((long) placeId)
+                .content(json(content))
+                .userId(1)
+                .build();
+    }
+
+    private JsonNode json(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private List<String> stateOf(PlanCrdtService node) {
+        PlanDocument document = node.findDocument(PLAN_ID);
+        synchronized (document) {
+            return document.ordered().stream()
+                    .map(PlaceElement::getPlaceId)
+                    .map(placeId -> placeId + "=" + new TreeMap<>(document.get(placeId).getFieldValues()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 그룹별 레인 디스패처 처리량 벤치마크
+ * 여러 생산자 스레드가 여러 그룹에 메시지를 동시에 넣을 때 초당 처리 건수를 로그로 남깁니다.
+ * 실행 시간에 따라 결과가 달라지므로 기본 테스트에서는 제외됩니다 (./gradlew benchmark로 실행).
+ */
+@Tag("benchmark")
+class PlanMessageDispatcherBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanMessageDispatcherBenchmarkTest.class);
+
+    private static final int LANES = 4;
+    private static final int GROUPS = 64;
+    private static final int PRODUCERS = 16;
+    private static final int MESSAGES_PER_PRODUCER = 20_000;
+
+    private PlanMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PlanMessageDispatcher(LANES, PRODUCERS * MESSAGES_PER_PRODUCER, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatchThroughput() throws Exception {
+        List<String> groupUrls = new ArrayList<>();
+        for (int i = 0; i < GROUPS; i++) {
+            groupUrls.add("group-" + i);
+        }
+
+        CountDownLatch done = new CountDownLatch(PRODUCERS * MESSAGES_PER_PRODUCER);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < MESSAGES_PER_PRODUCER; i++) {
+                    dispatcher.dispatch(groupUrls.get(random.nextInt(GROUPS)), done::countDown);
+                }
+                return null;
+            });
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        producers.shutdown();
+
+        log.info("레인 디스패처 처리량: {} msg/s (레인 {}개, 그룹 {}개, 생산자 {}개)",
+                Math.round(PRODUCERS * MESSAGES_PER_PRODUCER / seconds), LANES, GROUPS, PRODUCERS);
+    }
+}
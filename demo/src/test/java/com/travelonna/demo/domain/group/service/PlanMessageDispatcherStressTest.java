@@ -0,0 +1,132 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 그룹별 레인 디스패처 스트레스 테스트
+ * 여러 생산자 스레드가 여러 그룹에 메시지를 동시에 넣어도
+ * 그룹마다 넣은 순서대로, 한 번에 하나씩 처리되고 다른 그룹은 여러 레인에서 병렬로 처리되는지 확인합니다.
+ * 처리량 측정은 PlanMessageDispatcherBenchmarkTest에서 합니다.
+ */
+class PlanMessageDispatcherStressTest {
+
+    private static final int LANES = 4;
+    private static final int GROUPS = 64;
+    private static final int PRODUCERS = 16;
+    private static final int MESSAGES_PER_PRODUCER = 5_000;
+
+    private PlanMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PlanMessageDispatcher(LANES, PRODUCERS * MESSAGES_PER_PRODUCER, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void messagesForSameGroupAreProcessedInSubmissionOrderUnderContention() throws Exception {
+        List<String> groupUrls = new ArrayList<>();
+        Map<String, Object> submitLocks = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> submitted = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> processed = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        for (int i = 0; i < GROUPS; i++) {
+            String groupUrl = "group-" + i;
+            groupUrls.add(groupUrl);
+            submitLocks.put(groupUrl, new Object());
+            submitted.put(groupUrl, new AtomicLong());
+            processed.put(groupUrl, new AtomicLong());
+            inFlight.put(groupUrl, new AtomicInteger());
+        }
+
+        AtomicInteger outOfOrder = new AtomicInteger();
+        AtomicInteger overlapping = new AtomicInteger();
+        Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(PRODUCERS * MESSAGES_PER_PRODUCER);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < MESSAGES_PER_PRODUCER; i++) {
+                    String groupUrl = groupUrls.get(random.nextInt(GROUPS));
+                    // 그룹 안에서 넣은 순서를 정의하기 위해 순번 발급과 디스패치를 함께 잠급니다.
+                    synchronized (submitLocks.get(groupUrl)) {
+                        long seq = submitted.get(groupUrl).incrementAndGet();
+                        boolean accepted = dispatcher.dispatch(groupUrl, () -> {
+                            if (inFlight.get(groupUrl).incrementAndGet() != 1) {
+                                overlapping.incrementAndGet();
+                            }
+                            workerThreads.add(Thread.currentThread().getName());
+                            if (processed.get(groupUrl).getAndSet(seq) != seq - 1) {
+                                outOfOrder.incrementAndGet();
+                            }
+                            inFlight.get(groupUrl).decrementAndGet();
+                            done.countDown();
+                        });
+                        assertThat(accepted).isTrue();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        producers.shutdown();
+
+        assertThat(outOfOrder.get()).isZero();
+        assertThat(overlapping.get()).isZero();
+        for (String groupUrl : groupUrls) {
+            assertThat(processed.get(groupUrl).get()).isEqualTo(submitted.get(groupUrl).get());
+        }
+        // 그룹이 여러 레인에 나뉘어 병렬로 처리됨
+        assertThat(workerThreads).hasSize(LANES);
+    }
+
+    @Test
+    void sameGroupAlwaysMapsToSameLane() {
+        for (int i = 0; i < 1000; i++) {
+            String groupUrl = "group-" + i;
+            int lane = dispatcher.laneOf(groupUrl);
+            assertThat(lane).isBetween(0, LANES - 1);
+            assertThat(dispatcher.laneOf(groupUrl)).isEqualTo(lane);
+        }
+    }
+
+    @Test
+    void failingTaskDoesNotStopLane() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        dispatcher.dispatch("group", () -> {
+            throw new IllegalStateException("처리 실패");
+        });
+        dispatcher.dispatch("group", done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,322 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+
+import com.travelonna.demo.domain.group.dto.PlanOperationReplayResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.group.entity.PlanOperation;
+import com.travelonna.demo.domain.group.repository.PlanOperationBatchRepository;
+import com.travelonna.demo.domain.group.repository.PlanOperationRepository;
+import com.travelonna.demo.global.websocket.EmbeddedPlanSequenceAllocator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 그룹 일정 작업 로그 테스트
+ * 링 버퍼 재생, 링 버퍼를 벗어난 범위의 DB 재생, 노드 간 공유 순번, 저장 시 순번 충돌 처리,
+ * 저장 대기 상한에서의 편집 거부를 확인합니다.
+ */
+class PlanOperationLogTest {
+
+    private static final String GROUP_URL = "log-test-group";
+    private static final String CHANNEL = "operation-log-test";
+    private static final int BUFFER_SIZE = 4;
+
+    private PlanOperationRepository planOperationRepository;
+    private PlanOperationBatchRepository planOperationBatchRepository;
+
+    // DB에 저장된 작업 (배치 저장 목 객체가 채움)
+    private final List<PlanUpdateMessage> stored = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedPlanSequenceAllocator.reset(CHANNEL);
+        planOperationRepository = mock(PlanOperationRepository.class);
+        planOperationBatchRepository = mock(PlanOperationBatchRepository.class);
+
+        doAnswer(invocation -> {
+            stored.addAll(invocation.getArgument(0));
+            return null;
+        }).when(planOperationBatchRepository).insertAll(anyList());
+        when(planOperationRepository.findByGroupUrlAndSeqGreaterThanOrderBySeqAsc(anyString(), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long sinceSeq = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    return stored.stream()
+                            .filter(operation -> operation.getSeq() > sinceSeq)
+                            .sorted((a, b) -> Long.compare(a.getSeq(), b.getSeq()))
+                            .limit(pageable.getPageSize())
+                            .map(PlanOperationLogTest::toEntity)
+                            .collect(Collectors.toList());
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        EmbeddedPlanSequenceAllocator.reset(CHANNEL);
+    }
+
+    @Test
+    void appendAssignsConsecutiveSeqAndReplaysFromRingBuffer() {
+        PlanOperationLog operationLog = newLog(null);
+
+        for (int i = 1; i <= 3; i++) {
+            assertThat(operationLog.append(GROUP_URL, operation(i)).getSeq()).isEqualTo(i);
+        }
+
+        PlanOperationReplayResponseDto replay = operationLog.replay(GROUP_URL, 1);
+        assertThat(replay.getOperations()).extracting(PlanUpdateMessage::getSeq).containsExactly(2L, 3L);
+        assertThat(replay.getLastSeq()).isEqualTo(3L);
+        assertThat(replay.getHasMore()).isFalse();
+        verify(planOperationRepository, never())
+                .findByGroupUrlAndSeqGreaterThanOrderBySeqAsc(anyString(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void replayOutsideRingBufferFallsBackToDatabaseAndAppendsUnsavedOperations() {
+        PlanOperationLog operationLog = newLog(null);
+
+        for (int i = 1; i <= 6; i++) {
+            operationLog.append(GROUP_URL, operation(i));
+        }
+        operationLog.flush();
+        for (int i = 7; i <= 8; i++) {
+            operationLog.append(GROUP_URL, operation(i));
+        }
+
+        // 링 버퍼에는 5~8만 남아 있으므로 2 이후는 DB(3~6) + 아직 저장되지 않은 링 버퍼(7~8)
+        PlanOperationReplayResponseDto replay = operationLog.replay(GROUP_URL, 2);
+        assertThat(replay.getOperations()).extracting(PlanUpdateMessage::getSeq)
+                .containsExactly(3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(replay.getLastSeq()).isEqualTo(8L);
+        assertThat(replay.getHasMore()).isFalse();
+        verify(planOperationRepository).findByGroupUrlAndSeqGreaterThanOrderBySeqAsc(eq(GROUP_URL), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void remoteOperationsFillRingBufferGaps() {
+        EmbeddedPlanSequenceAllocator allocator = new EmbeddedPlanSequenceAllocator(CHANNEL);
+        PlanOperationLog nodeA = newLog(allocator);
+        PlanOperationLog nodeB = newLog(allocator);
+
+        PlanUpdateMessage first = nodeA.append(GROUP_URL, operation(1));
+        PlanUpdateMessage second = nodeB.append(GROUP_URL, operation(2));
+        assertThat(second.getSeq()).isEqualTo(first.getSeq() + 1);
+
+        // 브리지로 받은 노드 A의 작업을 반영하면 DB 없이 링 버퍼만으로 재생
+        nodeB.recordRemote(GROUP_URL, first);
+        PlanOperationReplayResponseDto replay = nodeB.replay(GROUP_URL, 0);
+        assertThat(replay.getOperations()).extracting(PlanUpdateMessage::getSeq).containsExactly(1L, 2L);
+        verify(planOperationRepository, never())
+                .findByGroupUrlAndSeqGreaterThanOrderBySeqAsc(anyString(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void nodesSharingAllocatorNeverAssignSameSeq() throws Exception {
+        EmbeddedPlanSequenceAllocator allocator = new EmbeddedPlanSequenceAllocator(CHANNEL);
+        List<PlanOperationLog> nodes = List.of(newLog(allocator), newLog(allocator), newLog(allocator));
+        int perNode = 500;
+
+        Set<Long> seqs = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+        try {
+            for (PlanOperationLog node : nodes) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perNode; i++) {
+                        seqs.add(node.append(GROUP_URL, operation(i)).getSeq());
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(seqs).hasSize(nodes.size() * perNode);
+        assertThat(Collections.max(seqs)).isEqualTo((long) nodes.size() * perNode);
+    }
+
+    @Test
+    void concurrentAppendsShareOneReservationRoundTrip() throws Exception {
+        EmbeddedPlanSequenceAllocator shared = new EmbeddedPlanSequenceAllocator(CHANNEL);
+        List<Integer> reservedCounts = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstReservation = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        PlanSequenceAllocator slow = (groupUrl, floor, count) -> {
+            reservedCounts.add(count);
+            if (reservedCounts.size() == 1) {
+                firstReservation.countDown();
+                try {
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return shared.reserve(groupUrl, floor, count);
+        };
+        PlanOperationLog operationLog = newLog(slow);
+        int appends = 5;
+
+        Set<Long> seqs = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(appends);
+        try {
+            executor.execute(() -> seqs.add(operationLog.append(GROUP_URL, operation(0)).getSeq()));
+            assertThat(firstReservation.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 첫 예약이 끝나지 않은 동안 들어온 작업은 대기했다가 한 번에 예약하며, 재생은 잠금에 막히지 않음
+            for (int i = 1; i < appends; i++) {
+                int index = i;
+                executor.execute(() -> seqs.add(operationLog.append(GROUP_URL, operation(index)).getSeq()));
+            }
+            assertThat(operationLog.replay(GROUP_URL, 0).getOperations()).isEmpty();
+            Thread.sleep(200);
+            releaseFirst.countDown();
+
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(seqs).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(reservedCounts.get(0)).isEqualTo(1);
+        assertThat(reservedCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(appends);
+        assertThat(reservedCounts.size()).isLessThan(appends);
+    }
+
+    @Test
+    void sharedSeqStartsAfterStoredOperations() {
+        when(planOperationRepository.findMaxSeqByGroupUrl(GROUP_URL)).thenReturn(41L);
+        PlanOperationLog operationLog = newLog(new EmbeddedPlanSequenceAllocator(CHANNEL));
+
+        assertThat(operationLog.append(GROUP_URL, operation(1)).getSeq()).isEqualTo(42L);
+    }
+
+    @Test
+    void seqCollisionIsReportedWithoutDroppingOtherOperations() {
+        PlanOperationLog operationLog = newLog(null);
+        for (int i = 1; i <= 3; i++) {
+            operationLog.append(GROUP_URL, operation(i));
+        }
+
+        // 2번 순번을 다른 노드의 다른 작업이 이미 차지한 상황
+        PlanUpdateMessage other = operation(99).toBuilder().groupUrl(GROUP_URL).seq(2L).build();
+        when(planOperationRepository.findByGroupUrlAndSeq(GROUP_URL, 2L)).thenReturn(Optional.of(toEntity(other)));
+        doAnswer(invocation -> {
+            List<PlanUpdateMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(operation -> operation.getSeq() == 2L)) {
+                throw new DuplicateKeyException("uk_plan_operation_group_seq");
+            }
+            stored.addAll(batch);
+            return null;
+        }).when(planOperationBatchRepository).insertAll(anyList());
+
+        operationLog.flush();
+
+        assertThat(stored).extracting(PlanUpdateMessage::getSeq).containsExactly(1L, 3L);
+        assertThat(operationLog.pendingCount()).isZero();
+        verify(planOperationRepository).findByGroupUrlAndSeq(GROUP_URL, 2L);
+    }
+
+    @Test
+    void editsAreRejectedWhilePendingIsFullAndAcceptedOperationsAreKept() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PlanOperationLog operationLog = newLog(null, 3, meterRegistry);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("DB 장애");
+        }).when(planOperationBatchRepository).insertAll(anyList());
+
+        for (int i = 1; i <= 3; i++) {
+            assertThat(operationLog.tryAdmit(GROUP_URL)).isTrue();
+            operationLog.append(GROUP_URL, operation(i));
+        }
+        operationLog.flush();
+
+        assertThat(operationLog.tryAdmit(GROUP_URL)).isFalse();
+        assertThat(operationLog.pendingCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("plan.operation-log.rejected").count()).isEqualTo(1.0);
+
+        // 저장이 복구되면 순번이 부여된 작업은 모두 저장되고 다시 편집을 받음
+        doAnswer(invocation -> {
+            stored.addAll(invocation.getArgument(0));
+            return null;
+        }).when(planOperationBatchRepository).insertAll(anyList());
+        operationLog.flush();
+
+        assertThat(stored).extracting(PlanUpdateMessage::getSeq).containsExactly(1L, 2L, 3L);
+        assertThat(operationLog.tryAdmit(GROUP_URL)).isTrue();
+    }
+
+    private PlanOperationLog newLog(PlanSequenceAllocator allocator) {
+        return newLog(allocator, 50_000, new SimpleMeterRegistry());
+    }
+
+    private PlanOperationLog newLog(PlanSequenceAllocator allocator, int maxPending, MeterRegistry meterRegistry) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<PlanSequenceAllocator> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(allocator);
+        return new PlanOperationLog(planOperationRepository, planOperationBatchRepository, provider,
+                BUFFER_SIZE, 100, 1000, maxPending, meterRegistry);
+    }
+
+    private static PlanUpdateMessage operation(int index) {
+        return PlanUpdateMessage.builder()
+                .type("UPDATE")
+                .planId(1L)
+                .userId(index)
+                .userName("user-" + index)
+                .timestamp((long) index)
+                .build();
+    }
+
+    private static PlanOperation toEntity(PlanUpdateMessage message) {
+        return PlanOperation.builder()
+                .groupUrl(message.getGroupUrl())
+                .seq(message.getSeq())
+                .type(message.getType())
+                .planId(message.getPlanId())
+                .userId(message.getUserId())
+                .userName(message.getUserName())
+                .timestamp(message.getTimestamp())
+                .build();
+    }
+}
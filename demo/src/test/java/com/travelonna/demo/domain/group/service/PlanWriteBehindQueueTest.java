@@ -0,0 +1,181 @@
+package com.travelonna.demo.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.plan.entity.TransportInfo;
+import com.travelonna.demo.domain.plan.service.PlanService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 그룹 일정 편집 쓰기 지연 큐 테스트
+ * 반영 전 같은 일정의 편집이 필드별 최신 값으로 합쳐지는지, 쌓인 편집이 기준 개수를 넘으면
+ * 주기를 기다리지 않고 반영하는지, 반영에 실패한 편집이 이후 편집을 덮어쓰지 않고 다시 합쳐지는지 확인합니다.
+ */
+class PlanWriteBehindQueueTest {
+
+    private static final String GROUP_URL = "b4Kx2";
+    private static final Integer GROUP_ID = 7;
+    private static final long PLAN_ID = 42L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlanService planService;
+    private PlanCrdtService planCrdtService;
+    private PlanWriteBehindQueue queue;
+
+    // 실제로 반영된 필드 기록
+    private final List<Map<String, Object>> applied = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        planService = mock(PlanService.class);
+        planCrdtService = mock(PlanCrdtService.class);
+        GroupUrlResolver groupUrlResolver = mock(GroupUrlResolver.class);
+        when(groupUrlResolver.findGroupId(GROUP_URL)).thenReturn(Optional.of(GROUP_ID));
+        when(groupUrlResolver.findGroupId("unknown")).thenReturn(Optional.empty());
+
+        doAnswer(invocation -> {
+            applied.add(new LinkedHashMap<>(invocation.<Map<String, Object>>getArgument(2)));
+            return null;
+        }).when(planService).applyGroupEdits(eq(GROUP_ID), anyInt(), anyMap());
+
+        queue = new PlanWriteBehindQueue(planService, planCrdtService, groupUrlResolver, new SimpleMeterRegistry(), 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void editsToSamePlanAreMergedPerFieldBeforeFlush() {
+        queue.offer(GROUP_URL, edit(PLAN_ID, "{\"title\":\"제주\",\"memo\":\"첫 메모\"}"));
+        queue.offer(GROUP_URL, edit(PLAN_ID, "{\"title\":\"제주 여행\",\"transportInfo\":\"car\"}"));
+        queue.offer(GROUP_URL, edit(43L, "{\"isPublic\":true}"));
+
+        queue.flush();
+
+        assertThat(applied).hasSize(2);
+        Map<String, Object> fields = applied.stream().filter(f -> f.containsKey("title")).findFirst().orElseThrow();
+        assertThat(fields).containsEntry("title", "제주 여행")
+                .containsEntry("memo", "첫 메모")
+                .containsEntry("transportInfo", TransportInfo.car)
+                .hasSize(3);
+
+        // 반영 후에는 비어 있음
+        queue.flush();
+        assertThat(applied).hasSize(2);
+    }
+
+    @Test
+    void invalidEditsAreRejectedWithoutQueueing() {
+        assertThat(queue.offer(GROUP_URL, edit(PLAN_ID, "{\"startDate\":\"2025-05-03\",\"endDate\":\"2025-05-01\"}")))
+                .isNull();
+        assertThat(queue.offer(GROUP_URL, edit(PLAN_ID, "{\"userId\":1}"))).isNull();
+        assertThat(queue.offer(GROUP_URL, edit(PLAN_ID, "{\"title\":\" \"}"))).isNull();
+        assertThat(queue.offer("unknown", edit(PLAN_ID, "{\"title\":\"제주\"}"))).isNull();
+
+        PlanUpdateMessage valid = edit(PLAN_ID, "{\"startDate\":\"2025-05-01\",\"memo\":null}");
+        assertThat(queue.offer(GROUP_URL, valid)).isSameAs(valid);
+
+        queue.flush();
+        assertThat(applied).containsExactly(fieldsOf("startDate", LocalDate.of(2025, 5, 1), "memo", null));
+    }
+
+    @Test
+    void reachingMaxPendingFlushesWithoutWaitingForSchedule() {
+        for (int i = 0; i < 4; i++) {
+            queue.offer(GROUP_URL, edit(PLAN_ID, "{\"memo\":\"메모 " + i + "\"}"));
+        }
+        verify(planService, never()).applyGroupEdits(any(), any(), any());
+
+        // 장소 편집도 개수에 포함
+        queue.noteEdit();
+
+        verify(planService, timeout(5_000)).applyGroupEdits(eq(GROUP_ID), eq((int) PLAN_ID), anyMap());
+        verify(planCrdtService, timeout(5_000)).compact();
+        assertThat(applied).containsExactly(fieldsOf("memo", "메모 3"));
+    }
+
+    @Test
+    void failedFlushIsMergedUnderNewerEdits() {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                // 반영 중에 같은 일정의 새 편집이 들어온 뒤 실패
+                queue.offer(GROUP_URL, edit(PLAN_ID, "{\"title\":\"부산\"}"));
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            applied.add(new LinkedHashMap<>(invocation.<Map<String, Object>>getArgument(2)));
+            return null;
+        }).when(planService).applyGroupEdits(eq(GROUP_ID), anyInt(), anyMap());
+
+        queue.offer(GROUP_URL, edit(PLAN_ID, "{\"title\":\"제주\",\"memo\":\"우천 시 실내\"}"));
+        queue.flush();
+        assertThat(applied).isEmpty();
+
+        queue.flush();
+        assertThat(applied).containsExactly(fieldsOf("title", "부산", "memo", "우천 시 실내"));
+    }
+
+    @Test
+    void editsThatCanNeverApplyAreDropped() {
+        doAnswer(invocation -> {
+            throw new IllegalArgumentException("그룹에 속한 일정이 아닙니다");
+        }).when(planService).applyGroupEdits(eq(GROUP_ID), anyInt(), anyMap());
+
+        queue.offer(GROUP_URL, edit(PLAN_ID, "{\"title\":\"제주\"}"));
+        queue.flush();
+        queue.flush();
+
+        verify(planService, times(1)).applyGroupEdits(eq(GROUP_ID), eq((int) PLAN_ID), anyMap());
+    }
+
+    private PlanUpdateMessage edit(long planId, String fields) {
+        try {
+            return PlanUpdateMessage.builder()
+                    .groupUrl(GROUP_URL)
+                    .type(PlanWriteBehindQueue.PLAN_UPDATE)
+                    .planId(planId)
+                    .content(objectMapper.readTree("{\"fields\":" + fields + "}"))
+                    .userId(1)
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Map<String, Object> fieldsOf(Object... keyValues) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            fields.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return fields;
+    }
+}
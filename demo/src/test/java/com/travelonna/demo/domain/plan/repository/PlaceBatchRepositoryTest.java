@@ -0,0 +1,76 @@
+package com.travelonna.demo.domain.plan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.entity.Plan;
+
+/**
+ * 장소 JDBC 배치 저장 테스트
+ * 배치 한 번으로 모든 장소의 값을 설정하고, 생성된 ID와 초기 버전을 엔티티에 반영하는지 확인합니다.
+ */
+class PlaceBatchRepositoryTest {
+
+    @Test
+    void insertAllSetsValuesInOneBatchAndAssignsGeneratedIds() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    KeyHolder keyHolder = invocation.getArgument(2);
+                    for (int i = 0; i < setter.getBatchSize(); i++) {
+                        setter.setValues(statement, i);
+                        keyHolder.getKeyList().add(Map.of("GENERATED_KEY", 500L + i));
+                    }
+                    return new int[setter.getBatchSize()];
+                });
+
+        Plan plan = new Plan();
+        plan.setPlanId(10);
+        List<Place> places = List.of(place(plan, "A", 1), place(plan, "B", 2));
+
+        new PlaceBatchRepository(jdbcTemplate).insertAll(places);
+
+        assertThat(places).extracting(Place::getPlaceId).containsExactly(500, 501);
+        assertThat(places).extracting(Place::getVersion).containsExactly(0L, 0L);
+        verify(statement, times(2)).setInt(1, 10);
+        verify(statement).setString(9, "A");
+        verify(statement).setInt(10, 2);
+    }
+
+    @Test
+    void emptyListDoesNotTouchDatabase() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        new PlaceBatchRepository(jdbcTemplate).insertAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static Place place(Plan plan, String name, int order) {
+        return Place.builder()
+                .plan(plan)
+                .place("주소 " + name)
+                .name(name)
+                .order(order)
+                .isPublic(false)
+                .build();
+    }
+}
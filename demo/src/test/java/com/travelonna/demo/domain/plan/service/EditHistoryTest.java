@@ -0,0 +1,137 @@
+package com.travelonna.demo.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.travelonna.demo.global.exception.ConflictException;
+import com.travelonna.demo.global.exception.ErrorCode;
+import com.travelonna.demo.global.exception.GlobalExceptionHandler;
+
+/**
+ * 일정/장소 변경 기록 테스트
+ * 기준 버전 이후 바뀐 필드와 겹치지 않는 수정은 병합되고, 겹치거나 기록이 없는 구간이면
+ * 충돌(409) 응답에 현재 버전, 충돌 필드, 현재 상태가 담기는지 확인합니다.
+ */
+class EditHistoryTest {
+
+    private static final Integer PLAN_ID = 1;
+
+    private EditHistory editHistory;
+
+    @BeforeEach
+    void setUp() {
+        editHistory = new EditHistory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void disjointFieldsChangedSinceExpectedVersionAreMerged() {
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 2L, Set.of("title"));
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 3L, Set.of("startDate", "endDate"));
+
+        assertThatCode(() -> check(3L, 1L, Set.of("memo", "isPublic"))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void overlappingFieldsConflictWithCurrentState() {
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 2L, Set.of("title"));
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 3L, Set.of("endDate"));
+
+        ConflictException conflict = catchThrowableOfType(
+                () -> check(3L, 1L, Set.of("title", "memo", "endDate")), ConflictException.class);
+
+        assertThat(conflict.getErrorCode()).isEqualTo(ErrorCode.PLAN_VERSION_CONFLICT);
+        assertThat(conflict.getCurrentVersion()).isEqualTo(3L);
+        assertThat(conflict.getConflictingFields()).containsExactlyInAnyOrder("title", "endDate");
+        assertThat(conflict.getCurrent()).isEqualTo("현재 일정");
+
+        // 기준 버전 이후 변경만 비교하므로 버전 2 기준이면 endDate만 충돌
+        ConflictException fromVersion2 = catchThrowableOfType(
+                () -> check(3L, 2L, Set.of("title", "endDate")), ConflictException.class);
+        assertThat(fromVersion2.getConflictingFields()).containsExactly("endDate");
+    }
+
+    @Test
+    void missingHistoryIsTreatedAsConflict() {
+        // 버전 3 기록이 없으므로 1 -> 4 구간을 판단할 수 없음
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 2L, Set.of("title"));
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 4L, Set.of("title"));
+
+        ConflictException conflict = catchThrowableOfType(
+                () -> check(4L, 1L, Set.of("memo")), ConflictException.class);
+        assertThat(conflict.getConflictingFields()).containsExactly("memo");
+
+        // 기록이 전혀 없는 엔티티, 현재보다 앞선 기준 버전도 충돌
+        assertThat(catchThrowableOfType(() -> editHistory.checkConflicts(EditHistory.PLAN, 99, 5L, 4L,
+                Set.of("memo"), ErrorCode.PLAN_VERSION_CONFLICT, () -> null), ConflictException.class)).isNotNull();
+        assertThat(catchThrowableOfType(() -> check(2L, 3L, Set.of("memo")), ConflictException.class)).isNotNull();
+
+        editHistory.forget(EditHistory.PLAN, PLAN_ID);
+        assertThat(catchThrowableOfType(() -> check(2L, 1L, Set.of("memo")), ConflictException.class)).isNotNull();
+    }
+
+    @Test
+    void noCheckWithoutExpectedVersionOrChanges() {
+        assertThatCode(() -> check(5L, null, Set.of("title"))).doesNotThrowAnyException();
+        assertThatCode(() -> check(5L, 5L, Set.of("title"))).doesNotThrowAnyException();
+        assertThatCode(() -> check(5L, 1L, Set.of())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void recordsInsideTransactionApplyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        editHistory.record(EditHistory.PLAN, PLAN_ID, 2L, Set.of("title"));
+
+        // 커밋 전에는 기록이 없어 병합할 수 없음
+        assertThat(catchThrowableOfType(() -> check(2L, 1L, Set.of("memo")), ConflictException.class)).isNotNull();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThatCode(() -> check(2L, 1L, Set.of("memo"))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void conflictResponseBodyCarriesVersionFieldsAndCurrentState() {
+        editHistory.record(EditHistory.PLACE, 7, 2L, Set.of("memo"));
+        ConflictException conflict = catchThrowableOfType(() -> editHistory.checkConflicts(EditHistory.PLACE, 7,
+                2L, 1L, Set.of("memo"), ErrorCode.PLACE_VERSION_CONFLICT, () -> Map.of("memo", "저녁")),
+                ConflictException.class);
+
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler().handleConflictException(conflict);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        Map<String, Object> body = response.getBody();
+        assertThat(body.get("status")).isEqualTo(409);
+        assertThat(body.get("code")).isEqualTo(ErrorCode.PLACE_VERSION_CONFLICT.getCode());
+        assertThat(body.get("currentVersion")).isEqualTo(2L);
+        assertThat((Set<String>) body.get("conflictingFields")).containsExactly("memo");
+        assertThat(body.get("current")).isEqualTo(Map.of("memo", "저녁"));
+    }
+
+    private void check(Long currentVersion, Long expectedVersion, Set<String> changedFields) {
+        editHistory.checkConflicts(EditHistory.PLAN, PLAN_ID, currentVersion, expectedVersion, changedFields,
+                ErrorCode.PLAN_VERSION_CONFLICT, () -> "현재 일정");
+    }
+}
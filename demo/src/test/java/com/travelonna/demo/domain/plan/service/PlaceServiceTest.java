@@ -0,0 +1,162 @@
+package com.travelonna.demo.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.AddPlaceDto;
+import com.travelonna.demo.domain.plan.dto.PlaceRequestDto.CreatePlaceDto;
+import com.travelonna.demo.domain.plan.dto.PlaceResponseDto;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.repository.DayMaxOrder;
+import com.travelonna.demo.domain.plan.repository.PlaceBatchRepository;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+
+/**
+ * 장소 서비스 테스트
+ * 장소 일괄 추가 시 일차별 순서 부여, 한 번의 배치 저장과 총 비용 계산을 확인합니다.
+ */
+class PlaceServiceTest {
+
+    private static final Integer USER_ID = 1;
+    private static final Integer PLAN_ID = 10;
+
+    private PlaceRepository placeRepository;
+    private PlaceBatchRepository placeBatchRepository;
+    private PlanRepository planRepository;
+    private PlanService planService;
+    private PlaceService placeService;
+
+    // 배치 저장 목 객체가 받은 장소
+    private final List<Place> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        placeBatchRepository = mock(PlaceBatchRepository.class);
+        planRepository = mock(PlanRepository.class);
+        planService = mock(PlanService.class);
+        placeService = new PlaceService(placeRepository, placeBatchRepository, planRepository, planService,
+                mock(PlaceSpatialIndex.class), mock(EditHistory.class));
+
+        Plan plan = new Plan();
+        plan.setPlanId(PLAN_ID);
+        plan.setUserId(USER_ID);
+        plan.setStartDate(LocalDate.of(2024, 6, 1));
+        plan.setEndDate(LocalDate.of(2024, 6, 3));
+        when(planRepository.findByPlanIdAndUserId(PLAN_ID, USER_ID)).thenReturn(Optional.of(plan));
+        when(planRepository.updateTotalCost(PLAN_ID, 30_000)).thenReturn(1);
+        when(placeRepository.sumPlaceCostByPlanId(PLAN_ID)).thenReturn(30_000);
+        // 1일차 최대 순서 2, 2일차 최대 순서 5
+        when(placeRepository.findMaxOrderPerDayByPlanId(PLAN_ID))
+                .thenReturn(List.of(dayMaxOrder(1L, 2), dayMaxOrder(2L, 5)));
+
+        doAnswer(invocation -> {
+            List<Place> places = invocation.getArgument(0);
+            int id = 100;
+            for (Place place : places) {
+                place.setPlaceId(id++);
+            }
+            inserted.addAll(places);
+            return null;
+        }).when(placeBatchRepository).insertAll(anyList());
+    }
+
+    @Test
+    void createPlacesAssignsOrdersPerDayAndRecomputesCostOnce() {
+        List<PlaceResponseDto> created = placeService.createPlaces(USER_ID, PLAN_ID, List.of(
+                createDto("A", LocalDate.of(2024, 6, 1), null),
+                createDto("B", LocalDate.of(2024, 6, 2), null),
+                createDto("C", LocalDate.of(2024, 6, 1), null),
+                createDto("D", LocalDate.of(2024, 6, 3), null),
+                createDto("E", null, null),
+                createDto("F", LocalDate.of(2024, 6, 1), 9)));
+
+        assertThat(inserted).extracting(Place::getName).containsExactly("A", "B", "C", "D", "E", "F");
+        // 일차별 최대 순서 다음 값, 일차가 없으면 일정 전체 최대 순서 다음 값, 지정된 순서는 그대로
+        assertThat(inserted).extracting(Place::getOrder).containsExactly(3, 6, 4, 1, 7, 9);
+        assertThat(created).hasSize(6);
+        assertThat(created).extracting(PlaceResponseDto::getId).containsExactly(100, 101, 102, 103, 104, 105);
+        assertThat(created).extracting(PlaceResponseDto::getDay).containsExactly(1, 2, 1, 3, null, 1);
+
+        verify(placeBatchRepository, times(1)).insertAll(anyList());
+        verify(placeRepository, times(1)).sumPlaceCostByPlanId(PLAN_ID);
+        verify(planRepository, times(1)).updateTotalCost(PLAN_ID, 30_000);
+        verify(planService, times(1)).markPlanChanged(PLAN_ID);
+    }
+
+    @Test
+    void addPlacesUsesDayNumberForVisitDateAndOrder() {
+        placeService.addPlaces(USER_ID, PLAN_ID, List.of(
+                addDto("A", 2, null),
+                addDto("B", 2, null),
+                addDto("C", 1, 1)));
+
+        assertThat(inserted).extracting(Place::getOrder).containsExactly(6, 7, 1);
+        assertThat(inserted.get(0).getVisitDate()).isEqualTo(LocalDate.of(2024, 6, 2).atStartOfDay());
+        assertThat(inserted).allMatch(place -> Boolean.FALSE.equals(place.getIsPublic()));
+        verify(placeBatchRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    void batchSizeIsValidatedBeforeAnyQuery() {
+        assertThatThrownBy(() -> placeService.createPlaces(USER_ID, PLAN_ID, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> placeService.addPlaces(USER_ID, PLAN_ID,
+                Collections.nCopies(501, addDto("A", 1, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(planRepository, never()).findByPlanIdAndUserId(PLAN_ID, USER_ID);
+        verify(placeBatchRepository, never()).insertAll(anyList());
+    }
+
+    private static CreatePlaceDto createDto(String name, LocalDate visitDate, Integer order) {
+        return CreatePlaceDto.builder()
+                .place("주소 " + name)
+                .name(name)
+                .visitDate(visitDate)
+                .order(order)
+                .placeCost(5_000)
+                .build();
+    }
+
+    private static AddPlaceDto addDto(String name, Integer dayNumber, Integer order) {
+        return AddPlaceDto.builder()
+                .address("주소 " + name)
+                .name(name)
+                .dayNumber(dayNumber)
+                .order(order)
+                .build();
+    }
+
+    private static DayMaxOrder dayMaxOrder(Long dayNumber, Integer maxOrder) {
+        return new DayMaxOrder() {
+            @Override
+            public Long getDayNumber() {
+                return dayNumber;
+            }
+
+            @Override
+            public Integer getMaxOrder() {
+                return maxOrder;
+            }
+        };
+    }
+}
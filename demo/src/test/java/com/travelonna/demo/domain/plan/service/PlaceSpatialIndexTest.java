@@ -0,0 +1,129 @@
+package com.travelonna.demo.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.service.PlaceSpatialIndex.IndexedPlace;
+import com.travelonna.demo.domain.plan.service.PlaceSpatialIndex.NearbyPlace;
+
+/**
+ * 공개 장소 공간 색인 테스트
+ * 색인 재구성 전 DB 조회 대체, 반경/영역 조회, 셀 경계의 장소, 커밋 후 색인 반영을 확인합니다.
+ */
+class PlaceSpatialIndexTest {
+
+    private PlaceRepository placeRepository;
+    private PlaceSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        index = new PlaceSpatialIndex(placeRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void beforeRebuildQueriesDatabaseBoundingBox() {
+        when(placeRepository.findPublicInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(place(1, 37.5000, 127.0000, true), place(2, 37.5080, 127.0000, true),
+                        place(3, 37.5001, 127.0001, false)));
+
+        List<NearbyPlace> nearby = index.findWithinRadius(37.5, 127.0, 500, 10);
+
+        assertThat(index.isReady()).isFalse();
+        // 바운딩 박스 모서리(약 890m)의 장소와 비공개 장소는 제외
+        assertThat(nearby).extracting(found -> found.getPlace().getPlaceId()).containsExactly(1);
+        verify(placeRepository).findPublicInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void afterRebuildUsesIndexSortedByDistance() {
+        when(placeRepository.findByIsPublicTrue()).thenReturn(List.of(
+                place(1, 37.5030, 127.0000, true),
+                place(2, 37.5010, 127.0000, true),
+                place(3, 37.5200, 127.0000, true),
+                place(4, 37.5000, 127.0020, true),
+                place(5, null, null, true)));
+        index.rebuild();
+
+        List<NearbyPlace> nearby = index.findWithinRadius(37.5, 127.0, 1_000, 10);
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(nearby).extracting(found -> found.getPlace().getPlaceId()).containsExactly(2, 4, 1);
+        assertThat(nearby.get(0).getDistanceMeters()).isLessThan(nearby.get(1).getDistanceMeters());
+        assertThat(index.findWithinRadius(37.5, 127.0, 1_000, 2)).hasSize(2);
+        verify(placeRepository, never()).findPublicInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void findsPlacesOnBothSidesOfGeohashCellBoundary() {
+        // 적도와 본초 자오선은 지오해시 최상위 셀 경계
+        when(placeRepository.findByIsPublicTrue()).thenReturn(List.of(
+                place(1, 0.0001, 0.0001, true),
+                place(2, -0.0001, 0.0001, true),
+                place(3, 0.0001, -0.0001, true),
+                place(4, -0.0001, -0.0001, true)));
+        index.rebuild();
+
+        assertThat(index.findWithinRadius(0, 0, 50, 10)).hasSize(4);
+        assertThat(index.findWithinBox(-0.001, -0.001, 0.001, 0.001, 10))
+                .extracting(IndexedPlace::getPlaceId).containsExactlyInAnyOrder(1, 2, 3, 4);
+    }
+
+    @Test
+    void savedPlacesAreIndexedAfterCommit() {
+        when(placeRepository.findByIsPublicTrue()).thenReturn(List.of(place(1, 37.5, 127.0, true)));
+        index.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.onPlaceSaved(place(2, 37.5001, 127.0, true));
+        // 이동한 장소는 이전 위치에서 빠짐
+        index.onPlaceSaved(place(1, 35.1, 129.0, true));
+        assertThat(ids(index.findWithinRadius(37.5, 127.0, 100, 10))).containsExactly(1);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(ids(index.findWithinRadius(37.5, 127.0, 100, 10))).containsExactly(2);
+        assertThat(ids(index.findWithinRadius(35.1, 129.0, 100, 10))).containsExactly(1);
+
+        // 비공개로 바뀌거나 삭제된 장소는 색인에서 제거
+        index.onPlaceSaved(place(2, 37.5001, 127.0, false));
+        index.onPlaceDeleted(1);
+        assertThat(index.size()).isZero();
+    }
+
+    private static List<Integer> ids(List<NearbyPlace> places) {
+        return places.stream().map(found -> found.getPlace().getPlaceId()).toList();
+    }
+
+    private static Place place(Integer placeId, Double lat, Double lon, boolean isPublic) {
+        return Place.builder()
+                .placeId(placeId)
+                .name("장소 " + placeId)
+                .place("주소 " + placeId)
+                .lat(lat)
+                .lon(lon)
+                .isPublic(isPublic)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.travelonna.demo.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelonna.demo.domain.group.service.PlanMessageBroadcaster;
+import com.travelonna.demo.domain.plan.dto.PlanDetailResponseDto;
+import com.travelonna.demo.domain.plan.service.PlanDetailCache.CachedPlanDetail;
+
+/**
+ * 일정 상세 응답 캐시 테스트
+ * 캐시 적중 시 다시 조회하지 않는지, ETag 비교와 트랜잭션 종료 후 제거/다른 노드 전달을 확인합니다.
+ */
+class PlanDetailCacheTest {
+
+    private static final Integer PLAN_ID = 3;
+    private static final Integer OWNER_ID = 1;
+
+    private PlanMessageBroadcaster broadcaster;
+    private PlanDetailCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        broadcaster = mock(PlanMessageBroadcaster.class);
+        ObjectProvider<PlanMessageBroadcaster> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(broadcaster);
+        cache = new PlanDetailCache(new ObjectMapper(), provider, 100, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void hitReturnsCachedEntryWithoutLoading() {
+        CachedPlanDetail first = cache.getOrLoad(OWNER_ID, PLAN_ID, "조회 성공", () -> detail(5L));
+        CachedPlanDetail second = cache.getOrLoad(OWNER_ID, PLAN_ID, "조회 성공", () -> detail(6L));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.getETag()).isEqualTo("\"3-5\"");
+        assertThat(second.matches("W/\"3-5\"")).isTrue();
+        assertThat(second.matches("\"3-4\", \"3-5\"")).isTrue();
+        assertThat(second.matches("\"3-4\"")).isFalse();
+        assertThat(second.matches(null)).isFalse();
+    }
+
+    @Test
+    void otherUserDoesNotUseCachedEntry() {
+        cache.getOrLoad(OWNER_ID, PLAN_ID, "조회 성공", () -> detail(5L));
+        cache.getOrLoad(2, PLAN_ID, "조회 성공", () -> detail(5L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictAfterCommitRemovesEntryAndNotifiesOtherNodes() {
+        cache.getOrLoad(OWNER_ID, PLAN_ID, "조회 성공", () -> detail(5L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(PLAN_ID);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(broadcaster, never()).publishPlanEviction(PLAN_ID);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(cache.size()).isZero();
+        verify(broadcaster).publishPlanEviction(PLAN_ID);
+
+        CachedPlanDetail reloaded = cache.getOrLoad(OWNER_ID, PLAN_ID, "조회 성공", () -> detail(6L));
+        assertThat(reloaded.getETag()).isEqualTo("\"3-6\"");
+    }
+
+    @Test
+    void remoteEvictionIsNotRepublished() {
+        cache.getOrLoad(OWNER_ID, PLAN_ID, "조회 성공", () -> detail(5L));
+
+        cache.evictLocal(PLAN_ID);
+
+        assertThat(cache.size()).isZero();
+        verify(broadcaster, never()).publishPlanEviction(PLAN_ID);
+    }
+
+    private PlanDetailResponseDto detail(Long revision) {
+        loads.incrementAndGet();
+        PlanDetailResponseDto detail = new PlanDetailResponseDto();
+        detail.setPlanId(PLAN_ID);
+        detail.setUserId(OWNER_ID);
+        detail.setTitle("제주 여행");
+        detail.setRevision(revision);
+        return detail;
+    }
+}
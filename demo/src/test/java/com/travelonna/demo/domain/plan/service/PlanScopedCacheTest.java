@@ -0,0 +1,86 @@
+package com.travelonna.demo.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * 일정 ID별 캐시 무효화 테스트
+ * 조회 도중 같은 일정만 무효화되는지, 트랜잭션 안에서는 종료 후에 제거되는지 확인합니다.
+ */
+class PlanScopedCacheTest {
+
+    private final PlanScopedCache<String> cache = new PlanScopedCache<>(100, 0);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictRemovesCachedValue() {
+        cache.load(1, () -> "v1");
+        assertThat(cache.get(1)).isEqualTo("v1");
+
+        cache.evict(1);
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.getOrLoad(1, () -> "v2")).isEqualTo("v2");
+    }
+
+    @Test
+    void loadDuringEvictOfSamePlanIsNotCached() {
+        String loaded = cache.load(1, () -> {
+            cache.evict(1);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @Test
+    void evictOfOtherPlanDoesNotDiscardInFlightLoad() {
+        cache.load(2, () -> "other");
+
+        cache.load(1, () -> {
+            cache.evict(2);
+            return "v1";
+        });
+
+        assertThat(cache.get(1)).isEqualTo("v1");
+        assertThat(cache.get(2)).isNull();
+    }
+
+    @Test
+    void evictInsideTransactionWaitsForCompletion() {
+        cache.load(1, () -> "v1");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1);
+        assertThat(cache.get(1)).isEqualTo("v1");
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxEntries() {
+        PlanScopedCache<String> small = new PlanScopedCache<>(2, 0);
+        small.load(1, () -> "a");
+        small.load(2, () -> "b");
+        small.get(1);
+        small.load(3, () -> "c");
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.get(2)).isNull();
+        assertThat(small.get(1)).isEqualTo("a");
+    }
+}
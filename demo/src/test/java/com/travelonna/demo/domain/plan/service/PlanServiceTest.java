@@ -0,0 +1,297 @@
+package com.travelonna.demo.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import com.travelonna.demo.domain.plan.dto.PlanCostAnalyticsResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanCostAnalyticsResponseDto.DayCostDto;
+import com.travelonna.demo.domain.plan.dto.PlanPageResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanRequestDto.ClonePlanDto;
+import com.travelonna.demo.domain.plan.dto.PlanResponseDto;
+import com.travelonna.demo.domain.plan.dto.PlanSummaryDto;
+import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.repository.DayCostAggregate;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+
+/**
+ * 일정 서비스 테스트
+ * 일정 복제(기간/방문 날짜 이동, 장소 INSERT ... SELECT 복사, 권한)와
+ * 시작 날짜순 키셋 페이지네이션(같은 날짜의 일정, 페이지 크기 제한),
+ * 일차별 비용 집계 결과의 합산과 캐시 무효화를 확인합니다.
+ */
+class PlanServiceTest {
+
+    private static final Integer OWNER_ID = 1;
+    private static final Integer OTHER_ID = 2;
+    private static final Integer SOURCE_PLAN_ID = 10;
+    private static final Integer CLONE_PLAN_ID = 11;
+
+    private PlanRepository planRepository;
+    private PlaceRepository placeRepository;
+    private PlanService planService;
+
+    @BeforeEach
+    void setUp() {
+        planRepository = mock(PlanRepository.class);
+        placeRepository = mock(PlaceRepository.class);
+        planService = new PlanService(planRepository, placeRepository, mock(PlaceSpatialIndex.class),
+                mock(PlanDetailCache.class), mock(EditHistory.class));
+
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> {
+            Plan saved = invocation.getArgument(0);
+            saved.setPlanId(CLONE_PLAN_ID);
+            return saved;
+        });
+    }
+
+    @Test
+    void cloneShiftsPeriodAndCopiesPlacesWithOneStatement() {
+        when(planRepository.findById(SOURCE_PLAN_ID)).thenReturn(Optional.of(source(false)));
+        when(placeRepository.sumPlaceCostByPlanId(SOURCE_PLAN_ID)).thenReturn(45_000);
+        when(placeRepository.copyPlaces(SOURCE_PLAN_ID, CLONE_PLAN_ID, 7L)).thenReturn(3);
+
+        PlanResponseDto response = planService.clonePlan(OWNER_ID, SOURCE_PLAN_ID,
+                new ClonePlanDto(null, LocalDate.of(2024, 6, 8)));
+
+        ArgumentCaptor<Plan> saved = ArgumentCaptor.forClass(Plan.class);
+        verify(planRepository).save(saved.capture());
+        Plan clone = saved.getValue();
+        assertThat(clone.getStartDate()).isEqualTo(LocalDate.of(2024, 6, 8));
+        assertThat(clone.getEndDate()).isEqualTo(LocalDate.of(2024, 6, 10));
+        assertThat(clone.getTitle()).isEqualTo("제주 여행");
+        assertThat(clone.getIsPublic()).isFalse();
+        assertThat(clone.getTotalCost()).isEqualTo(45_000);
+        assertThat(clone.getUserId()).isEqualTo(OWNER_ID);
+        assertThat(response.getPlanId()).isEqualTo(CLONE_PLAN_ID);
+        verify(placeRepository).copyPlaces(SOURCE_PLAN_ID, CLONE_PLAN_ID, 7L);
+    }
+
+    @Test
+    void publicPlanOfOtherUserCanBeClonedWithoutDateShift() {
+        when(planRepository.findById(SOURCE_PLAN_ID)).thenReturn(Optional.of(source(true)));
+        when(placeRepository.sumPlaceCostByPlanId(SOURCE_PLAN_ID)).thenReturn(0);
+
+        planService.clonePlan(OTHER_ID, SOURCE_PLAN_ID, new ClonePlanDto("내 제주 여행", null));
+
+        ArgumentCaptor<Plan> saved = ArgumentCaptor.forClass(Plan.class);
+        verify(planRepository).save(saved.capture());
+        assertThat(saved.getValue().getUserId()).isEqualTo(OTHER_ID);
+        assertThat(saved.getValue().getTitle()).isEqualTo("내 제주 여행");
+        assertThat(saved.getValue().getStartDate()).isEqualTo(LocalDate.of(2024, 6, 1));
+        verify(placeRepository).copyPlaces(SOURCE_PLAN_ID, CLONE_PLAN_ID, 0L);
+    }
+
+    @Test
+    void privatePlanOfOtherUserCannotBeCloned() {
+        when(planRepository.findById(SOURCE_PLAN_ID)).thenReturn(Optional.of(source(false)));
+
+        assertThatThrownBy(() -> planService.clonePlan(OTHER_ID, SOURCE_PLAN_ID, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(planRepository, never()).save(any(Plan.class));
+        verify(placeRepository, never()).copyPlaces(anyInt(), anyInt(), anyLong());
+    }
+
+    @Test
+    void keysetPagesVisitEveryPlanOnceInStartDateOrder() {
+        // 같은 시작 날짜의 일정이 페이지 경계에 걸치도록 구성
+        List<PlanSummaryDto> all = new ArrayList<>();
+        int[] dayOffsets = {0, 0, 0, 1, 1, 2, 5, 5, 5, 5, 9};
+        for (int i = 0; i < dayOffsets.length; i++) {
+            all.add(summary(100 - i, LocalDate.of(2024, 6, 1).plusDays(dayOffsets[i])));
+        }
+        stubSummaries(all);
+
+        List<Integer> visited = new ArrayList<>();
+        LocalDate cursorDate = null;
+        Integer cursorId = null;
+        int pages = 0;
+        do {
+            PlanPageResponseDto page = planService.getUserPlansPage(OWNER_ID, cursorDate, cursorId, 3);
+            page.getPlans().forEach(plan -> visited.add(plan.getPlanId()));
+            assertThat(page.getPlans()).hasSizeLessThanOrEqualTo(3);
+            if (!page.getHasNext()) {
+                assertThat(page.getNextCursorDate()).isNull();
+                assertThat(page.getNextCursorId()).isNull();
+                break;
+            }
+            cursorDate = page.getNextCursorDate();
+            cursorId = page.getNextCursorId();
+        } while (++pages < 10);
+
+        List<Integer> expected = all.stream()
+                .sorted(Comparator.comparing(PlanSummaryDto::getStartDate).thenComparing(PlanSummaryDto::getPlanId))
+                .map(PlanSummaryDto::getPlanId)
+                .collect(Collectors.toList());
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void pageSizeIsClampedAndFullLastPageHasNoNext() {
+        List<PlanSummaryDto> all = new ArrayList<>();
+        for (int i = 1; i <= 150; i++) {
+            all.add(summary(i, LocalDate.of(2024, 1, 1).plusDays(i)));
+        }
+        stubSummaries(all);
+
+        assertThat(planService.getUserPlansPage(OWNER_ID, null, null, 1_000).getPlans()).hasSize(100);
+        assertThat(planService.getUserPlansPage(OWNER_ID, null, null, null).getPlans()).hasSize(20);
+
+        PlanPageResponseDto last = planService.getUserPlansPage(OWNER_ID, LocalDate.of(2024, 1, 1).plusDays(140), 140, 10);
+        assertThat(last.getPlans()).extracting(PlanSummaryDto::getPlanId).containsExactly(141, 142, 143, 144, 145,
+                146, 147, 148, 149, 150);
+        assertThat(last.getHasNext()).isFalse();
+    }
+
+    @Test
+    void costAnalyticsCombinesPerDayRowsIntoPlanTotals() {
+        when(planRepository.findByPlanIdAndUserId(SOURCE_PLAN_ID, OWNER_ID)).thenReturn(Optional.of(source(false)));
+        when(placeRepository.aggregateCostPerDayByPlanId(SOURCE_PLAN_ID)).thenReturn(List.of(
+                dayCost(1L, 3L, 2L, 30_000L, 10_000, 20_000, 15_000.0, 30_000L),
+                dayCost(2L, 2L, 0L, 0L, null, null, null, 30_000L),
+                dayCost(3L, 1L, 1L, 5_000L, 5_000, 5_000, 5_000.0, 35_000L),
+                dayCost(null, 2L, 2L, 70_000L, 30_000, 40_000, 35_000.0, 105_000L)));
+
+        PlanCostAnalyticsResponseDto analytics = planService.getCostAnalytics(OWNER_ID, SOURCE_PLAN_ID);
+
+        assertThat(analytics.getPlaceCount()).isEqualTo(8L);
+        assertThat(analytics.getTotalCost()).isEqualTo(105_000L);
+        assertThat(analytics.getMinPlaceCost()).isEqualTo(5_000);
+        assertThat(analytics.getMaxPlaceCost()).isEqualTo(40_000);
+        // 평균은 비용이 입력된 장소(5곳) 기준
+        assertThat(analytics.getAvgPlaceCost()).isEqualTo(21_000.0);
+        assertThat(analytics.getDays()).extracting(DayCostDto::getDayNumber).containsExactly(1, 2, 3, null);
+        assertThat(analytics.getDays()).extracting(DayCostDto::getRunningTotal)
+                .containsExactly(30_000L, 30_000L, 35_000L, 105_000L);
+        assertThat(analytics.getDays().get(1).getMinCost()).isNull();
+    }
+
+    @Test
+    void costAnalyticsIsCachedUntilPlanChanges() {
+        when(planRepository.findByPlanIdAndUserId(SOURCE_PLAN_ID, OWNER_ID)).thenReturn(Optional.of(source(false)));
+        when(placeRepository.aggregateCostPerDayByPlanId(SOURCE_PLAN_ID)).thenReturn(List.of());
+
+        PlanCostAnalyticsResponseDto empty = planService.getCostAnalytics(OWNER_ID, SOURCE_PLAN_ID);
+        assertThat(empty.getTotalCost()).isZero();
+        assertThat(empty.getAvgPlaceCost()).isNull();
+        assertThat(planService.getCostAnalytics(OWNER_ID, SOURCE_PLAN_ID)).isSameAs(empty);
+        verify(placeRepository, times(1)).aggregateCostPerDayByPlanId(SOURCE_PLAN_ID);
+
+        planService.markPlanChanged(SOURCE_PLAN_ID);
+        planService.getCostAnalytics(OWNER_ID, SOURCE_PLAN_ID);
+        verify(placeRepository, times(2)).aggregateCostPerDayByPlanId(SOURCE_PLAN_ID);
+
+        // 권한이 없으면 캐시된 결과도 반환하지 않음
+        assertThatThrownBy(() -> planService.getCostAnalytics(OTHER_ID, SOURCE_PLAN_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 저장소의 키셋 조회를 (시작 날짜, 일정 ID) 순서와 LIMIT으로 흉내 냄
+    private void stubSummaries(List<PlanSummaryDto> all) {
+        Comparator<PlanSummaryDto> order = Comparator.comparing(PlanSummaryDto::getStartDate)
+                .thenComparing(PlanSummaryDto::getPlanId);
+        when(planRepository.findSummariesByUserId(eq(OWNER_ID), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            return all.stream().sorted(order).limit(pageable.getPageSize()).collect(Collectors.toList());
+        });
+        when(planRepository.findSummariesByUserIdAfter(eq(OWNER_ID), any(LocalDate.class), any(Integer.class),
+                any(Pageable.class))).thenAnswer(invocation -> {
+                    LocalDate cursorDate = invocation.getArgument(1);
+                    Integer cursorId = invocation.getArgument(2);
+                    Pageable pageable = invocation.getArgument(3);
+                    return all.stream()
+                            .filter(plan -> plan.getStartDate().isAfter(cursorDate)
+                                    || (plan.getStartDate().isEqual(cursorDate) && plan.getPlanId() > cursorId))
+                            .sorted(order)
+                            .limit(pageable.getPageSize())
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private static PlanSummaryDto summary(Integer planId, LocalDate startDate) {
+        return PlanSummaryDto.builder()
+                .planId(planId)
+                .startDate(startDate)
+                .endDate(startDate.plusDays(1))
+                .title("일정 " + planId)
+                .build();
+    }
+
+    private static DayCostAggregate dayCost(Long dayNumber, Long placeCount, Long costCount, Long totalCost,
+                                            Integer minCost, Integer maxCost, Double avgCost, Long runningTotal) {
+        return new DayCostAggregate() {
+            @Override
+            public Long getDayNumber() {
+                return dayNumber;
+            }
+
+            @Override
+            public Long getPlaceCount() {
+                return placeCount;
+            }
+
+            @Override
+            public Long getCostCount() {
+                return costCount;
+            }
+
+            @Override
+            public Long getTotalCost() {
+                return totalCost;
+            }
+
+            @Override
+            public Integer getMinCost() {
+                return minCost;
+            }
+
+            @Override
+            public Integer getMaxCost() {
+                return maxCost;
+            }
+
+            @Override
+            public Double getAvgCost() {
+                return avgCost;
+            }
+
+            @Override
+            public Long getRunningTotal() {
+                return runningTotal;
+            }
+        };
+    }
+
+    private static Plan source(boolean isPublic) {
+        Plan plan = new Plan();
+        plan.setPlanId(SOURCE_PLAN_ID);
+        plan.setUserId(OWNER_ID);
+        plan.setTitle("제주 여행");
+        plan.setLocation("제주");
+        plan.setStartDate(LocalDate.of(2024, 6, 1));
+        plan.setEndDate(LocalDate.of(2024, 6, 3));
+        plan.setIsPublic(isPublic);
+        return plan;
+    }
+}
@@ -0,0 +1,140 @@
+package com.travelonna.demo.global.api.odsay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ODSay API 호출 합치기 (single-flight) 동시성 테스트
+ * 같은 URL을 여러 스레드가 동시에 호출해도 실제 API 호출은 한 번만 일어나고
+ * 모두 같은 결과(또는 같은 예외)를 받는지 확인합니다.
+ */
+class ODSayApiClientSingleFlightTest {
+
+    private static final int CALLERS = 16;
+    private static final long UPSTREAM_DELAY_MS = 300;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, AtomicInteger> upstreamCalls = new ConcurrentHashMap<>();
+    private volatile RuntimeException upstreamFailure;
+
+    private ODSayApiClient client;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        client = new ODSayApiClient(null, null, objectMapper, null) {
+            @Override
+            JsonNode requestWithUrlConnection(String urlStr) {
+                upstreamCalls.computeIfAbsent(urlStr, key -> new AtomicInteger()).incrementAndGet();
+                sleep(UPSTREAM_DELAY_MS);
+                if (upstreamFailure != null) {
+                    throw upstreamFailure;
+                }
+                return objectMapper.createObjectNode().put("url", urlStr);
+            }
+        };
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneUpstreamRequest() throws Exception {
+        String url = "https://api.odsay.com/v1/api/searchPubTransPathT?SX=127.0&SY=37.5&EX=129.0&EY=35.1";
+
+        List<JsonNode> results = callConcurrently(index -> url);
+
+        assertThat(upstreamCalls.get(url).get()).isEqualTo(1);
+        assertThat(results).hasSize(CALLERS);
+        assertThat(results).allSatisfy(result -> assertThat(result).isSameAs(results.get(0)));
+        assertThat(results.get(0).path("url").asText()).isEqualTo(url);
+    }
+
+    @Test
+    void differentUrlsAreNotCoalesced() throws Exception {
+        List<JsonNode> results = callConcurrently(index -> "https://api.odsay.com/v1/api/route?id=" + (index % 4));
+
+        assertThat(upstreamCalls).hasSize(4);
+        assertThat(upstreamCalls.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(results).allSatisfy(result -> assertThat(result.path("url").asText()).startsWith("https://"));
+    }
+
+    @Test
+    void failureIsSharedWithConcurrentCallers() throws Exception {
+        String url = "https://api.odsay.com/v1/api/trainServiceTime?startStationID=1&endStationID=2";
+        upstreamFailure = new IllegalStateException("upstream down");
+
+        CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+        List<Future<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                return client.callApiWithUrlConnection(url);
+            }));
+        }
+
+        for (Future<JsonNode> future : futures) {
+            assertThatThrownBy(future::get).hasCause(upstreamFailure);
+        }
+        assertThat(upstreamCalls.get(url).get()).isEqualTo(1);
+    }
+
+    @Test
+    void completedCallIsNotCached() {
+        String url = "https://api.odsay.com/v1/api/expressServiceTime?startStationID=1&endStationID=2";
+
+        JsonNode first = client.callApiWithUrlConnection(url);
+        JsonNode second = client.callApiWithUrlConnection(url);
+
+        assertThat(upstreamCalls.get(url).get()).isEqualTo(2);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    private List<JsonNode> callConcurrently(IntFunction<String> urlForCaller) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+        List<Future<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            String url = urlForCaller.apply(i);
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                return client.callApiWithUrlConnection(url);
+            }));
+        }
+        List<JsonNode> results = new ArrayList<>();
+        for (Future<JsonNode> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.travelonna.demo.global.api.odsay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 역 이름 사전 테스트
+ * 만료된 없는 역 항목은 다시 조회하지 않고 제거하는지, 항목 수 제한을 넘으면 없는 역부터 제거하는지,
+ * 스냅샷을 저장하고 다시 읽으면 API를 호출하지 않는지(손상된 스냅샷은 무시) 확인합니다.
+ */
+class StationDictionaryTest {
+
+    private static final int MAX_ENTRIES = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ODSayApiClient odSayApiClient;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        odSayApiClient = mock(ODSayApiClient.class);
+        when(odSayApiClient.getTrainTerminals(anyString(), eq("0"))).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            ObjectNode response = objectMapper.createObjectNode();
+            if (name.startsWith("없는역")) {
+                response.putArray("result");
+            } else {
+                response.putArray("result").addObject()
+                        .put("stationID", "id-" + name)
+                        .put("stationName", name)
+                        .put("x", 127.0)
+                        .put("y", 37.5);
+            }
+            return response;
+        });
+    }
+
+    @Test
+    void expiredNotFoundEntriesAreRemovedInsteadOfRefetched() throws Exception {
+        // 없는 역 TTL 1ms, 역 TTL 1시간
+        StationDictionary dictionary = newDictionary(1);
+        assertThat(dictionary.find("서울")).isPresent();
+        assertThat(dictionary.find("없는역")).isEmpty();
+        Thread.sleep(5);
+
+        dictionary.refresh();
+
+        assertThat(dictionary.size()).isEqualTo(1);
+        verify(odSayApiClient, times(1)).getTrainTerminals("없는역", "0");
+        verify(odSayApiClient, times(1)).getTrainTerminals("서울", "0");
+    }
+
+    @Test
+    void notFoundEntriesAreEvictedFirstWhenOverCapacity() {
+        StationDictionary dictionary = newDictionary(3_600_000);
+        for (int i = 0; i < 5; i++) {
+            dictionary.find("역" + i);
+        }
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            dictionary.find("없는역" + i);
+        }
+
+        // 제한을 넘으면 90%(9개)까지 줄이며, 찾은 역은 남아 있어야 함
+        assertThat(dictionary.size()).isLessThanOrEqualTo(MAX_ENTRIES);
+        for (int i = 0; i < 5; i++) {
+            assertThat(dictionary.find("역" + i)).isPresent();
+            verify(odSayApiClient, times(1)).getTrainTerminals("역" + i, "0");
+        }
+    }
+
+    @Test
+    void snapshotIsReloadedWithoutCallingApi() throws Exception {
+        StationDictionary dictionary = newDictionary(3_600_000);
+        dictionary.find("서울");
+        dictionary.find("없는역");
+        dictionary.saveSnapshot();
+
+        StationDictionary restarted = newDictionary(3_600_000);
+        restarted.loadSnapshot();
+
+        assertThat(restarted.size()).isEqualTo(2);
+        assertThat(restarted.find("서울")).get().extracting(StationDictionary.Station::getStationId)
+                .isEqualTo("id-서울");
+        assertThat(restarted.find("없는역")).isEmpty();
+        verify(odSayApiClient, times(1)).getTrainTerminals("서울", "0");
+        verify(odSayApiClient, times(1)).getTrainTerminals("없는역", "0");
+    }
+
+    @Test
+    void truncatedSnapshotIsIgnored() throws Exception {
+        StationDictionary dictionary = newDictionary(3_600_000);
+        dictionary.find("서울");
+        dictionary.find("부산");
+        dictionary.saveSnapshot();
+        Path snapshot = tempDir.resolve("stations.bin");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 5));
+
+        StationDictionary restarted = newDictionary(3_600_000);
+        restarted.loadSnapshot();
+
+        // 앞쪽 항목만 읽힌 상태로 남지 않음
+        assertThat(restarted.size()).isZero();
+    }
+
+    private StationDictionary newDictionary(long notFoundTtlMillis) {
+        return new StationDictionary(odSayApiClient, new SimpleMeterRegistry(), 3_600_000, notFoundTtlMillis, 20,
+                MAX_ENTRIES, tempDir.resolve("stations.bin").toString());
+    }
+}
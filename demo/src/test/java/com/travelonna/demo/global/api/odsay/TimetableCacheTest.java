@@ -0,0 +1,160 @@
+package com.travelonna.demo.global.api.odsay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.travelonna.demo.global.api.odsay.TimetableCache.Mode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 기차/고속버스 시간표 캐시 테스트
+ * 가짜 시계와 가짜 loader로 TTL 안의 재사용, stale 구간의 백그라운드 갱신(한 번만),
+ * 그 이후의 동기 조회와 실패 시 기존 응답 사용, 응답 크기 기준 제거를 확인합니다.
+ */
+class TimetableCacheTest {
+
+    private static final long TTL_MS = 1_000;
+    private static final long STALE_MS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private ExecutorService refreshExecutor;
+
+    @BeforeEach
+    void setUp() {
+        refreshExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Test
+    void responsesWithinTtlAreServedWithoutLoader() {
+        TimetableCache cache = newCache(Long.MAX_VALUE);
+        FakeLoader loader = new FakeLoader();
+
+        JsonNode first = get(cache, "서울", loader);
+        now.addAndGet(TTL_MS);
+        JsonNode second = get(cache, "서울", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loader.calls.get()).isEqualTo(1);
+        // 날짜나 교통수단이 다르면 다른 항목
+        cache.get(Mode.EXPRESS_BUS, "서울", "부산", "20250501", "0", loader);
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void staleResponseIsServedWhileRefreshingOnceInBackground() throws Exception {
+        TimetableCache cache = newCache(Long.MAX_VALUE);
+        FakeLoader loader = new FakeLoader();
+        JsonNode first = get(cache, "서울", loader);
+
+        now.addAndGet(TTL_MS + 1);
+        assertThat(get(cache, "서울", loader)).isSameAs(first);
+        assertThat(get(cache, "서울", loader)).isSameAs(first);
+        awaitRefresh();
+
+        // 갱신은 한 번만 실행되고, 이후에는 새 응답을 TTL 동안 사용
+        assertThat(loader.calls.get()).isEqualTo(2);
+        JsonNode refreshed = get(cache, "서울", loader);
+        assertThat(refreshed.at("/result/version").asInt()).isEqualTo(2);
+        assertThat(loader.calls.get()).isEqualTo(2);
+        assertThat(cache.stats()).containsEntry("staleHits", 2L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void expiredResponseIsReloadedAndKeptWhenReloadFails() {
+        TimetableCache cache = newCache(Long.MAX_VALUE);
+        FakeLoader loader = new FakeLoader();
+        get(cache, "서울", loader);
+
+        now.addAndGet(TTL_MS + STALE_MS + 1);
+        JsonNode reloaded = get(cache, "서울", loader);
+        assertThat(reloaded.at("/result/version").asInt()).isEqualTo(2);
+
+        // 조회에 실패하면 오래된 응답이라도 사용하고, 에러 응답은 저장하지 않음
+        now.addAndGet(TTL_MS + STALE_MS + 1);
+        loader.failing = true;
+        assertThat(get(cache, "서울", loader)).isSameAs(reloaded);
+        assertThat(get(cache, "서울", loader)).isSameAs(reloaded);
+        assertThat(loader.calls.get()).isEqualTo(4);
+
+        // 캐시에 없으면 에러 응답을 그대로 돌려줌
+        assertThat(get(cache, "대전", loader).has("error")).isTrue();
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedByWeight() {
+        FakeLoader loader = new FakeLoader();
+        long entryWeight = loader.get().toString().length();
+        TimetableCache cache = newCache(entryWeight * 2);
+        loader.calls.set(0);
+
+        get(cache, "서울", loader);
+        get(cache, "대전", loader);
+        // 서울을 다시 사용했으므로 대전이 가장 오래 사용하지 않은 항목
+        get(cache, "서울", loader);
+        get(cache, "광주", loader);
+        assertThat(loader.calls.get()).isEqualTo(3);
+        assertThat(cache.stats()).containsEntry("entries", 2).containsEntry("bytes", entryWeight * 2);
+
+        get(cache, "서울", loader);
+        get(cache, "광주", loader);
+        assertThat(loader.calls.get()).isEqualTo(3);
+        get(cache, "대전", loader);
+        assertThat(loader.calls.get()).isEqualTo(4);
+
+        // 한 항목이 제한보다 커도 방금 넣은 항목은 남김
+        TimetableCache tiny = newCache(1);
+        get(tiny, "서울", loader);
+        assertThat(tiny.stats()).containsEntry("entries", 1);
+    }
+
+    private TimetableCache newCache(long maxWeight) {
+        return new TimetableCache(new SimpleMeterRegistry(), TTL_MS, STALE_MS, maxWeight, now::get, refreshExecutor);
+    }
+
+    private JsonNode get(TimetableCache cache, String start, Supplier<JsonNode> loader) {
+        return cache.get(Mode.TRAIN, start, "부산", "20250501", "0", loader);
+    }
+
+    // 단일 스레드 실행기이므로 뒤에 넣은 작업이 끝나면 앞선 갱신도 끝난 상태
+    private void awaitRefresh() throws Exception {
+        refreshExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    private class FakeLoader implements Supplier<JsonNode> {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public JsonNode get() {
+            int version = calls.incrementAndGet();
+            ObjectNode response = objectMapper.createObjectNode();
+            if (failing) {
+                response.putObject("error").put("code", "500");
+                return response;
+            }
+            response.putObject("result").put("version", version);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.travelonna.demo.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * JWT 인증 정보 테스트
+ * 설정된 관리자 ID의 토큰에만 ROLE_ADMIN 권한이 부여되는지 확인합니다.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-0123456789";
+
+    @Test
+    void configuredAdminUserGetsAdminRole() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600, 14, "7, 9");
+
+        assertThat(authorities(provider, 7)).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(authorities(provider, 8)).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void noAdminWhenNotConfigured() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600, 14, "");
+
+        assertThat(authorities(provider, 7)).containsExactly("ROLE_USER");
+    }
+
+    private static Iterable<String> authorities(JwtTokenProvider provider, int userId) {
+        String token = provider.createAccessToken("user" + userId + "@example.com", userId);
+        Authentication authentication = provider.getAuthentication(token);
+        assertThat(((JwtUserDetails) authentication.getPrincipal()).getUserId()).isEqualTo(userId);
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.travelonna.demo.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 거리 계산, 지오해시 인코딩, 영역을 덮는 지오해시 접두사 계산 테스트
+ */
+class GeoUtilTest {
+
+    @Test
+    void distanceOfOneDegreeLatitudeIsAbout111Km() {
+        assertThat(GeoUtil.distanceMeters(0, 0, 1, 0)).isCloseTo(111_195.08, within(1.0));
+        assertThat(GeoUtil.distanceMeters(37.5665, 126.9780, 37.5665, 126.9780)).isZero();
+        // 서울 시청 -> 부산 시청 (약 325km)
+        assertThat(GeoUtil.distanceMeters(37.5665, 126.9780, 35.1796, 129.0756)).isCloseTo(325_000, within(2_000.0));
+    }
+
+    @Test
+    void distanceAcrossAntimeridianIsShort() {
+        assertThat(GeoUtil.distanceMeters(0, 179.9995, 0, -179.9995)).isCloseTo(111.2, within(0.5));
+    }
+
+    @Test
+    void encodesKnownGeohash() {
+        assertThat(GeoUtil.encodeGeohash(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoUtil.encodeGeohash(57.64911, 10.40744, 5)).isEqualTo("u4pru");
+        assertThat(GeoUtil.encodeGeohash(37.5665, 126.9780, GeoUtil.MAX_PRECISION)).hasSize(GeoUtil.MAX_PRECISION);
+    }
+
+    @Test
+    void validatesCoordinateRange() {
+        assertThat(GeoUtil.isValidCoordinate(37.5, 127.0)).isTrue();
+        assertThat(GeoUtil.isValidCoordinate(-90.0, 180.0)).isTrue();
+        assertThat(GeoUtil.isValidCoordinate(90.1, 0.0)).isFalse();
+        assertThat(GeoUtil.isValidCoordinate(0.0, -180.1)).isFalse();
+        assertThat(GeoUtil.isValidCoordinate(Double.NaN, 0.0)).isFalse();
+        assertThat(GeoUtil.isValidCoordinate(null, 0.0)).isFalse();
+    }
+
+    @Test
+    void boundingBoxContainsRadiusAndIsClamped() {
+        double[] box = GeoUtil.boundingBox(37.5, 127.0, 1_000);
+        assertThat(GeoUtil.distanceMeters(37.5, 127.0, box[0], 127.0)).isCloseTo(1_000, within(1.0));
+        assertThat(GeoUtil.distanceMeters(37.5, 127.0, 37.5, box[3])).isGreaterThanOrEqualTo(999.0);
+
+        double[] pole = GeoUtil.boundingBox(89.9999, 0, 10_000);
+        assertThat(pole[2]).isEqualTo(90);
+        assertThat(pole[1]).isEqualTo(-180);
+        assertThat(pole[3]).isEqualTo(180);
+    }
+
+    @Test
+    void coveringGeohashesIncludeEveryPointInBoxAcrossCellBoundaries() {
+        // 지오해시 최상위 셀 경계(적도, 본초 자오선)에 걸친 영역과 일반 영역
+        double[][] boxes = {
+                {-0.01, -0.01, 0.01, 0.01},
+                {37.49, 126.98, 37.52, 127.03},
+                {33.1, 126.1, 33.6, 126.9}
+        };
+        Random random = new Random(7);
+
+        for (double[] box : boxes) {
+            List<String> prefixes = GeoUtil.coveringGeohashes(box[0], box[1], box[2], box[3]);
+            assertThat(prefixes).isNotEmpty().hasSizeLessThanOrEqualTo(32);
+
+            for (int i = 0; i < 1_000; i++) {
+                double lat = box[0] + random.nextDouble() * (box[2] - box[0]);
+                double lon = box[1] + random.nextDouble() * (box[3] - box[1]);
+                String hash = GeoUtil.encodeGeohash(lat, lon, GeoUtil.MAX_PRECISION);
+                assertThat(prefixes).anyMatch(hash::startsWith);
+            }
+            String[] corners = {
+                    GeoUtil.encodeGeohash(box[0], box[1], GeoUtil.MAX_PRECISION),
+                    GeoUtil.encodeGeohash(box[2], box[3], GeoUtil.MAX_PRECISION)
+            };
+            for (String corner : corners) {
+                assertThat(prefixes).anyMatch(corner::startsWith);
+            }
+        }
+    }
+
+    @Test
+    void worldBoxIsScannedWithoutPrefix() {
+        assertThat(GeoUtil.coveringGeohashes(-90, -180, 90, 180)).containsExactly("");
+    }
+}
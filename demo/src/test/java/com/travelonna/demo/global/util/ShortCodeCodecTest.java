@@ -0,0 +1,78 @@
+package com.travelonna.demo.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 그룹 초대 단축 코드 인코딩/디코딩 테스트
+ */
+class ShortCodeCodecTest {
+
+    private final ShortCodeCodec codec = new ShortCodeCodec("test-invite-secret");
+
+    @Test
+    void encodeThenDecodeReturnsSameId() {
+        int[] ids = {0, 1, 2, 42, 65_535, 65_536, 1_000_000, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        for (int id : ids) {
+            String code = codec.encode(id);
+            assertThat(code).hasSize(ShortCodeCodec.CODE_LENGTH).matches("[0-9A-Za-z]+");
+            assertThat(codec.decode(code)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void sequentialIdsGetDistinctCodes() {
+        Set<String> codes = new HashSet<>();
+        for (int id = 1; id <= 100_000; id++) {
+            String code = codec.encode(id);
+            assertThat(codes.add(code)).isTrue();
+            assertThat(codec.decode(code)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void codeFromAnotherSecretIsRejected() {
+        ShortCodeCodec other = new ShortCodeCodec("another-secret");
+        for (int id = 1; id <= 1_000; id++) {
+            assertThat(other.encode(id)).isNotEqualTo(codec.encode(id));
+            assertThat(codec.decode(other.encode(id))).isNull();
+        }
+    }
+
+    @Test
+    void tamperedCodeIsRejected() {
+        String code = codec.encode(1234);
+        for (int i = 0; i < code.length(); i++) {
+            char replaced = code.charAt(i) == 'a' ? 'b' : 'a';
+            String tampered = code.substring(0, i) + replaced + code.substring(i + 1);
+            assertThat(codec.decode(tampered)).isNull();
+        }
+    }
+
+    @Test
+    void malformedCodeIsRejected() {
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode("")).isNull();
+        assertThat(codec.decode("abc12345")).isNull();
+        assertThat(codec.decode("zzzzzzzzzzzzzz")).isNull();
+        assertThat(codec.decode("abc-12345678ab")).isNull();
+    }
+
+    @Test
+    void blankSecretIsNotAllowed() {
+        assertThatThrownBy(() -> new ShortCodeCodec(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void codesFromOtherSecretAreRejected() {
+        ShortCodeCodec other = new ShortCodeCodec("test-invite-secret:group-invite-code");
+        for (int id = 1; id <= 100; id++) {
+            assertThat(codec.decode(other.encode(id))).isNull();
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.travelonna.demo.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketMessagingAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.travelonna.demo.domain.group.controller.GroupPlanWebSocketController;
+import com.travelonna.demo.domain.group.controller.WebSocketEventListener;
+import com.travelonna.demo.domain.group.dto.PlanOperationReplayResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanPresenceMemberDto;
+import com.travelonna.demo.domain.group.dto.PlanPresenceResponseDto;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.domain.group.repository.PlanOperationBatchRepository;
+import com.travelonna.demo.domain.group.repository.PlanOperationRepository;
+import com.travelonna.demo.domain.group.service.GroupService;
+import com.travelonna.demo.domain.group.service.GroupUrlResolver;
+import com.travelonna.demo.domain.group.service.PlanCrdtService;
+import com.travelonna.demo.domain.group.service.PlanMessageBroadcaster;
+import com.travelonna.demo.domain.group.service.PlanMessageCoalescer;
+import com.travelonna.demo.domain.group.service.PlanMessageDispatcher;
+import com.travelonna.demo.domain.group.service.PlanOperationLog;
+import com.travelonna.demo.domain.group.service.PlanPresenceRegistry;
+import com.travelonna.demo.domain.group.service.PlanWriteBehindQueue;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.plan.service.PlaceService;
+import com.travelonna.demo.global.config.WebSocketBridgeConfig;
+import com.travelonna.demo.global.config.WebSocketConfig;
+import com.travelonna.demo.global.security.jwt.JwtTokenProvider;
+import com.travelonna.demo.global.security.jwt.JwtUserDetails;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * bridge 모드에서 두 개의 애플리케이션 컨텍스트(노드)를 띄우고
+ * 한 노드에 보낸 그룹 일정 메시지가 다른 노드의 구독자에게 전달되는지 확인합니다.
+ * DB 없이 WebSocket 관련 빈만 구성하며, 세션 사용자는 CONNECT 헤더의 토큰으로 인증합니다.
+ */
+class MultiNodePlanMessageBridgeTest {
+
+    private static final String GROUP_URL = "bridge-test-group";
+    private static final String BRIDGE_CHANNEL = "bridge-test";
+    private static final long TIMEOUT_SECONDS = 5;
+    // 토큰 "user-{userId}"로 인증한 사용자의 표시 이름
+    private static final Map<Integer, String> USER_NAMES = Map.of(1, "userA", 2, "userB");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedPlanSequenceAllocator.reset(BRIDGE_CHANNEL);
+        nodeA = startNode();
+        nodeB = startNode();
+
+        stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void updateSentToOneNodeReachesSubscribersOnBothNodesExactlyOnce() throws Exception {
+        BlockingQueue<PlanUpdateMessage> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<PlanUpdateMessage> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession sessionA = connectAndJoin(nodeA, "userA", 1, receivedOnA);
+        StompSession sessionB = connectAndJoin(nodeB, "userB", 2, receivedOnB);
+        receivedOnA.clear();
+        receivedOnB.clear();
+
+        // 본문의 사용자 정보는 무시하고 인증된 세션 사용자로 전달되어야 함
+        sessionA.send("/app/plan/" + GROUP_URL, PlanUpdateMessage.builder()
+                .groupUrl(GROUP_URL)
+                .type("UPDATE")
+                .planId(10L)
+                .content(JsonNodeFactory.instance.objectNode().put("name", "부산 여행"))
+                .userId(2)
+                .userName("userB")
+                .build());
+
+        PlanUpdateMessage onB = pollUntil(receivedOnB, "UPDATE", "userA");
+        PlanUpdateMessage onA = pollUntil(receivedOnA, "UPDATE", "userA");
+
+        assertThat(onB).isNotNull();
+        assertThat(onB.getUserId()).isEqualTo(1);
+        assertThat(onB.getContent().get("name").asText()).isEqualTo("부산 여행");
+        assertThat(onB.getTimestamp()).isNotNull();
+        assertThat(onA).isNotNull();
+        assertThat(onB.getSeq()).isEqualTo(1L);
+        assertThat(onA.getSeq()).isEqualTo(1L);
+
+        // 브리지를 통해 자기 노드로 되돌아온 메시지가 중복 전달되지 않아야 함
+        assertThat(pollUntil(receivedOnA, "UPDATE", "userA", 300)).isNull();
+        assertThat(pollUntil(receivedOnB, "UPDATE", "userA", 300)).isNull();
+
+        sessionA.disconnect();
+        sessionB.disconnect();
+    }
+
+    @Test
+    void operationsSequencedOnOneNodeCanBeReplayedFromOtherNode() throws Exception {
+        BlockingQueue<PlanUpdateMessage> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<PlanUpdateMessage> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession sessionA = connectAndJoin(nodeA, "userA", 1, receivedOnA);
+        StompSession sessionB = connectAndJoin(nodeB, "userB", 2, receivedOnB);
+        receivedOnB.clear();
+
+        for (int i = 1; i <= 3; i++) {
+            sessionA.send("/app/plan/" + GROUP_URL, PlanUpdateMessage.builder()
+                    .type("UPDATE")
+                    .content(JsonNodeFactory.instance.textNode("edit-" + i))
+                    .build());
+        }
+        for (int i = 0; i < 3; i++) {
+            assertThat(pollUntil(receivedOnB, "UPDATE", "userA")).isNotNull();
+        }
+
+        BlockingQueue<PlanOperationReplayResponseDto> replays = new LinkedBlockingQueue<>();
+        sessionB.subscribe("/app/plan/" + GROUP_URL + "/replay/1", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return PlanOperationReplayResponseDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                replays.add((PlanOperationReplayResponseDto) payload);
+            }
+        });
+
+        PlanOperationReplayResponseDto replay = replays.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(replay).isNotNull();
+        assertThat(replay.getLastSeq()).isEqualTo(3L);
+        assertThat(replay.getHasMore()).isFalse();
+        assertThat(replay.getOperations())
+                .extracting(PlanUpdateMessage::getSeq)
+                .containsExactly(2L, 3L);
+
+        sessionA.disconnect();
+        sessionB.disconnect();
+    }
+
+    @Test
+    void disconnectOnOneNodeBroadcastsLeaveToOtherNode() throws Exception {
+        BlockingQueue<PlanUpdateMessage> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<PlanUpdateMessage> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession sessionA = connectAndJoin(nodeA, "userA", 1, receivedOnA);
+        StompSession sessionB = connectAndJoin(nodeB, "userB", 2, receivedOnB);
+        receivedOnB.clear();
+
+        sessionA.disconnect();
+
+        PlanUpdateMessage leave = pollUntil(receivedOnB, "LEAVE", "userA");
+        assertThat(leave).isNotNull();
+        assertThat(leave.getUserId()).isEqualTo(1);
+
+        sessionB.disconnect();
+    }
+
+    @Test
+    void presenceSnapshotOnOneNodeIncludesSessionsOfOtherNode() throws Exception {
+        BlockingQueue<PlanUpdateMessage> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<PlanUpdateMessage> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession sessionA = connectAndJoin(nodeA, "userA", 1, receivedOnA);
+        StompSession sessionB = connectAndJoin(nodeB, "userB", 2, receivedOnB);
+
+        PlanPresenceResponseDto presence = requestPresence(sessionB);
+        assertThat(presence.getOnlineCount()).isEqualTo(2);
+        assertThat(presence.getMembers())
+                .extracting(PlanPresenceMemberDto::getUserName)
+                .containsExactlyInAnyOrder("userA", "userB");
+
+        sessionA.disconnect();
+        assertThat(pollUntil(receivedOnB, "LEAVE", "userA")).isNotNull();
+
+        presence = requestPresence(sessionB);
+        assertThat(presence.getMembers())
+                .extracting(PlanPresenceMemberDto::getUserName)
+                .containsExactly("userB");
+
+        sessionB.disconnect();
+    }
+
+    private PlanPresenceResponseDto requestPresence(StompSession session) throws InterruptedException {
+        BlockingQueue<PlanPresenceResponseDto> snapshots = new LinkedBlockingQueue<>();
+        session.subscribe("/app/plan/" + GROUP_URL + "/presence", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return PlanPresenceResponseDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                snapshots.add((PlanPresenceResponseDto) payload);
+            }
+        });
+
+        PlanPresenceResponseDto presence = snapshots.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(presence).isNotNull();
+        return presence;
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(NodeConfig.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.profiles.active=test",
+                        "--websocket.broker.mode=bridge",
+                        "--websocket.bridge.type=embedded",
+                        "--websocket.bridge.channel=" + BRIDGE_CHANNEL);
+    }
+
+    /**
+     * 접속 후 JOIN 메시지를 보내고, 자신의 JOIN이 돌아올 때까지 기다려 구독이 등록되었음을 보장합니다.
+     */
+    private StompSession connectAndJoin(ConfigurableApplicationContext node, String userName, int userId,
+                                        BlockingQueue<PlanUpdateMessage> received) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer user-" + userId);
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/ws", new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        session.subscribe("/topic/plan/" + GROUP_URL, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return PlanUpdateMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((PlanUpdateMessage) payload);
+            }
+        });
+
+        PlanUpdateMessage join = PlanUpdateMessage.builder().build();
+        for (int attempt = 0; attempt < 10; attempt++) {
+            session.send("/app/plan/" + GROUP_URL + "/join", join);
+            if (pollUntil(received, "JOIN", userName, 500) != null) {
+                return session;
+            }
+        }
+        throw new IllegalStateException("구독 등록 확인 실패: " + userName);
+    }
+
+    private PlanUpdateMessage pollUntil(BlockingQueue<PlanUpdateMessage> queue, String type, String userName)
+            throws InterruptedException {
+        return pollUntil(queue, type, userName, TIMEOUT_SECONDS * 1000);
+    }
+
+    private PlanUpdateMessage pollUntil(BlockingQueue<PlanUpdateMessage> queue, String type, String userName,
+                                        long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+            PlanUpdateMessage message = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (message != null && type.equals(message.getType()) && userName.equals(message.getUserName())) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            WebSocketMessagingAutoConfiguration.class
+    })
+    @Import({
+            WebSocketConfig.class,
+            WebSocketBridgeConfig.class,
+            WebSocketMetrics.class,
+            PlanMessageBroadcaster.class,
+            PlanMessageCoalescer.class,
+            PlanMessageDispatcher.class,
+            PlanOperationLog.class,
+            PlanPresenceRegistry.class,
+            PlanCrdtService.class,
+            GroupPlanWebSocketController.class,
+            WebSocketEventListener.class,
+            StompAuthChannelInterceptor.class
+    })
+    static class NodeConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        GroupService groupService() {
+            GroupService groupService = Mockito.mock(GroupService.class);
+            Mockito.when(groupService.isMember(Mockito.any(), Mockito.eq(GROUP_URL))).thenReturn(true);
+            Mockito.when(groupService.getDisplayName(Mockito.any()))
+                    .thenAnswer(invocation -> USER_NAMES.get(invocation.<Integer>getArgument(0)));
+            return groupService;
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            JwtTokenProvider jwtTokenProvider = Mockito.mock(JwtTokenProvider.class);
+            Mockito.when(jwtTokenProvider.validateToken(Mockito.startsWith("user-"))).thenReturn(true);
+            Mockito.when(jwtTokenProvider.getAuthentication(Mockito.anyString())).thenAnswer(invocation -> {
+                Integer userId = Integer.valueOf(invocation.<String>getArgument(0).substring("user-".length()));
+                JwtUserDetails userDetails = new JwtUserDetails("user" + userId + "@example.com", userId);
+                return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            });
+            return jwtTokenProvider;
+        }
+
+        @Bean
+        PlaceRepository placeRepository() {
+            return Mockito.mock(PlaceRepository.class);
+        }
+
+        @Bean
+        PlanRepository planRepository() {
+            return Mockito.mock(PlanRepository.class);
+        }
+
+        @Bean
+        GroupUrlResolver groupUrlResolver() {
+            return Mockito.mock(GroupUrlResolver.class);
+        }
+
+        @Bean
+        PlaceService placeService() {
+            return Mockito.mock(PlaceService.class);
+        }
+
+        @Bean
+        PlanWriteBehindQueue planWriteBehindQueue() {
+            return Mockito.mock(PlanWriteBehindQueue.class);
+        }
+
+        @Bean
+        PlanOperationRepository planOperationRepository() {
+            return Mockito.mock(PlanOperationRepository.class);
+        }
+
+        @Bean
+        PlanOperationBatchRepository planOperationBatchRepository() {
+            return Mockito.mock(PlanOperationBatchRepository.class);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.travelonna.demo.global.websocket;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.global.websocket.PlanPayloadEncodingTest.Encoding;
+
+/**
+ * 그룹 일정 메시지 인코딩별 직렬화 비용 벤치마크
+ * 기존 형식, 구조화된 JSON, CBOR, Smile의 메시지 크기와 메시지당 직렬화/역직렬화 시간을 로그로 남깁니다.
+ * 실행 시간에 따라 결과가 달라지므로 기본 테스트에서는 제외됩니다 (./gradlew benchmark로 실행).
+ */
+@Tag("benchmark")
+class PlanPayloadEncodingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanPayloadEncodingBenchmarkTest.class);
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    void encodingCost() throws Exception {
+        PlanUpdateMessage message = PlanPayloadEncodingTest.sampleMessage();
+
+        for (Map.Entry<String, Encoding> entry : PlanPayloadEncodingTest.encodings().entrySet()) {
+            Encoding encoding = entry.getValue();
+            byte[] bytes = encoding.write(message);
+
+            for (int i = 0; i < WARMUP; i++) {
+                encoding.mapper.readValue(encoding.write(message), PlanUpdateMessage.class);
+            }
+            long started = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                encoding.write(message);
+            }
+            long writeNanos = (System.nanoTime() - started) / ITERATIONS;
+            started = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                encoding.mapper.readValue(bytes, PlanUpdateMessage.class);
+            }
+            long readNanos = (System.nanoTime() - started) / ITERATIONS;
+
+            log.info("{}: {} bytes/msg, 직렬화 {} ns/msg, 역직렬화 {} ns/msg",
+                    entry.getKey(), bytes.length, writeNanos, readNanos);
+        }
+    }
+}
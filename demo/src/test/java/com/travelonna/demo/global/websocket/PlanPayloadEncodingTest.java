@@ -0,0 +1,208 @@
+package com.travelonna.demo.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.travelonna.demo.domain.group.dto.PlanUpdateMessage;
+import com.travelonna.demo.global.websocket.PlanPayloadEncodingNegotiator.Format;
+
+/**
+ * 그룹 일정 메시지 인코딩 테스트
+ * 기존 형식(content를 JSON 문자열로 한 번 더 감싼 JSON), 구조화된 JSON, CBOR, Smile의 메시지 크기와 왕복 변환을 비교하고
+ * 바이너리 형식을 협상한 세션과 content 형식을 협상하지 않은 기존 세션으로 가는 메시지가 올바르게 변환되는지 확인합니다.
+ * 직렬화 비용 측정은 PlanPayloadEncodingBenchmarkTest에서 합니다.
+ */
+class PlanPayloadEncodingTest {
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @Test
+    void binaryEncodingsAreSmallerThanJsonAndRoundTrip() throws Exception {
+        PlanUpdateMessage message = sampleMessage();
+
+        Map<String, Integer> sizes = new HashMap<>();
+        for (Map.Entry<String, Encoding> entry : encodings().entrySet()) {
+            Encoding encoding = entry.getValue();
+            byte[] bytes = encoding.write(message);
+            PlanUpdateMessage decoded = encoding.mapper.readValue(bytes, PlanUpdateMessage.class);
+            assertThat(decoded.getContent()).isEqualTo(message.getContent());
+            assertThat(decoded.getSeq()).isEqualTo(message.getSeq());
+            sizes.put(entry.getKey(), bytes.length);
+        }
+
+        // content를 문자열로 감싸지 않으면 이스케이프가 사라져 JSON도 작아짐
+        assertThat(sizes.get("json")).isLessThan(sizes.get("legacy-json"));
+        assertThat(sizes.get("cbor")).isLessThan(sizes.get("json"));
+        assertThat(sizes.get("smile")).isLessThan(sizes.get("json"));
+    }
+
+    @Test
+    void legacyStringContentIsReadAsStructuredJson() throws Exception {
+        String legacy = "{\"type\":\"PLACE_UPDATE\",\"content\":\"{\\\"fields\\\":{\\\"memo\\\":\\\"점심\\\"}}\"}";
+
+        PlanUpdateMessage message = jsonMapper.readValue(legacy, PlanUpdateMessage.class);
+
+        assertThat(message.getContent().isObject()).isTrue();
+        assertThat(message.getContent().at("/fields/memo").asText()).isEqualTo("점심");
+
+        // JSON이 아닌 문자열은 그대로 유지
+        PlanUpdateMessage text = jsonMapper.readValue("{\"content\":\"안녕\"}", PlanUpdateMessage.class);
+        assertThat(text.getContent().asText()).isEqualTo("안녕");
+    }
+
+    @Test
+    void negotiatedSessionsReceiveBinaryPayloadEncodedOncePerFormat() throws Exception {
+        PlanPayloadEncodingNegotiator negotiator = new PlanPayloadEncodingNegotiator();
+        ChannelInterceptor inbound = negotiator.inboundInterceptor();
+        ChannelInterceptor outbound = negotiator.outboundInterceptor();
+
+        inbound.preSend(connect("cbor-1", "application/cbor", true), null);
+        inbound.preSend(connect("cbor-2", "application/cbor", true), null);
+        inbound.preSend(connect("sockjs", "application/cbor", false), null);
+        inbound.preSend(connect("json", null, true), null);
+
+        byte[] json = jsonMapper.writeValueAsBytes(sampleMessage());
+
+        Message<?> toCbor1 = outbound.preSend(brokerMessage("cbor-1", json), null);
+        Message<?> toCbor2 = outbound.preSend(brokerMessage("cbor-2", json), null);
+        assertThat(toCbor1.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+                .isEqualTo(Format.CBOR.getOutboundType());
+        assertThat(Format.CBOR.getObjectMapper().readTree((byte[]) toCbor1.getPayload()))
+                .isEqualTo(jsonMapper.readTree(json));
+        // 같은 브로커 메시지는 한 번만 변환
+        assertThat(toCbor2.getPayload()).isSameAs(toCbor1.getPayload());
+
+        // 바이너리 엔드포인트가 아니거나 협상하지 않은 세션은 JSON (content 형식을 협상하지 않았으므로 문자열로 감쌈)
+        Object toSockJs = outbound.preSend(brokerMessage("sockjs", json), null).getPayload();
+        Object toJson = outbound.preSend(brokerMessage("json", json), null).getPayload();
+        assertThat(toJson).isSameAs(toSockJs);
+        assertThat(jsonMapper.readTree((byte[]) toJson).get("content").isTextual()).isTrue();
+    }
+
+    @Test
+    void contentIsSentAsStringUnlessSessionNegotiatedObjectContent() throws Exception {
+        PlanPayloadEncodingNegotiator negotiator = new PlanPayloadEncodingNegotiator();
+        ChannelInterceptor inbound = negotiator.inboundInterceptor();
+        ChannelInterceptor outbound = negotiator.outboundInterceptor();
+
+        inbound.preSend(connect("legacy", null, false), null);
+        StompHeaderAccessor objectConnect = StompHeaderAccessor.wrap(connect("object", null, false));
+        objectConnect.setNativeHeader(PlanPayloadEncodingNegotiator.CONTENT_FORMAT_HEADER,
+                PlanPayloadEncodingNegotiator.CONTENT_FORMAT_OBJECT);
+        inbound.preSend(MessageBuilder.createMessage(new byte[0], objectConnect.getMessageHeaders()), null);
+
+        PlanUpdateMessage message = sampleMessage();
+        byte[] json = jsonMapper.writeValueAsBytes(message);
+
+        // 기존 클라이언트는 JSON.parse(message.content)로 읽을 수 있는 문자열을 받음
+        byte[] legacy = (byte[]) outbound.preSend(brokerMessage("legacy", json), null).getPayload();
+        String content = jsonMapper.readTree(legacy).get("content").textValue();
+        assertThat(jsonMapper.readTree(content)).isEqualTo(message.getContent());
+        assertThat(legacy).isEqualTo(encodings().get("legacy-json").write(message));
+
+        assertThat(outbound.preSend(brokerMessage("object", json), null).getPayload()).isSameAs(json);
+
+        // content가 없거나 이미 문자열이면 그대로 전달
+        byte[] noContent = jsonMapper.writeValueAsBytes(message.toBuilder().content(null).build());
+        assertThat(outbound.preSend(brokerMessage("legacy", noContent), null).getPayload()).isSameAs(noContent);
+        assertThat(outbound.preSend(brokerMessage("legacy", legacy), null).getPayload()).isSameAs(legacy);
+
+        // 연결이 끝나면 협상 정보도 정리
+        StompHeaderAccessor disconnect = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        disconnect.setSessionId("object");
+        inbound.preSend(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), null);
+        assertThat(outbound.preSend(brokerMessage("object", json), null).getPayload()).isNotSameAs(json);
+    }
+
+    static Map<String, Encoding> encodings() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        Map<String, Encoding> encodings = new LinkedHashMap<>();
+        encodings.put("legacy-json", new Encoding(jsonMapper, true));
+        encodings.put("json", new Encoding(jsonMapper, false));
+        encodings.put("cbor", new Encoding(Format.CBOR.getObjectMapper(), false));
+        encodings.put("smile", new Encoding(Format.SMILE.getObjectMapper(), false));
+        return encodings;
+    }
+
+    private Message<byte[]> connect(String sessionId, String accept, boolean binaryTransport) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        Map<String, Object> attributes = new HashMap<>();
+        if (binaryTransport) {
+            attributes.put(PlanPayloadEncodingNegotiator.ATTR_BINARY_TRANSPORT, true);
+        }
+        accessor.setSessionAttributes(attributes);
+        if (accept != null) {
+            accessor.setNativeHeader(PlanPayloadEncodingNegotiator.ACCEPT_HEADER, accept);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> brokerMessage(String sessionId, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination("/topic/plan/benchmark");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+    }
+
+    static PlanUpdateMessage sampleMessage() {
+        ObjectNode content = new ObjectMapper().createObjectNode();
+        ObjectNode fields = content.putObject("fields");
+        fields.put("name", "해운대 해수욕장");
+        fields.put("memo", "오후 3시 도착, 파라솔 대여");
+        fields.put("placeCost", 25000);
+        content.put("position", "Vk");
+        ObjectNode stamp = content.putObject("stamp");
+        stamp.put("counter", 1287);
+        stamp.put("replica", "a1b2c3d4");
+
+        return PlanUpdateMessage.builder()
+                .groupUrl("b4Kx2")
+                .seq(4821L)
+                .type("PLACE_UPDATE")
+                .planId(42L)
+                .placeId(317L)
+                .content(content)
+                .userId(7)
+                .userName("여행자")
+                .timestamp(1760000000000L)
+                .build();
+    }
+
+    static class Encoding {
+        final ObjectMapper mapper;
+        private final boolean legacy;
+
+        Encoding(ObjectMapper mapper, boolean legacy) {
+            this.mapper = mapper;
+            this.legacy = legacy;
+        }
+
+        byte[] write(PlanUpdateMessage message) throws Exception {
+            if (!legacy) {
+                return mapper.writeValueAsBytes(message);
+            }
+            // 기존 형식: content를 JSON 문자열로 한 번 더 직렬화
+            ObjectNode node = mapper.valueToTree(message);
+            node.put("content", mapper.writeValueAsString(message.getContent()));
+            return mapper.writeValueAsBytes(node);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.travelonna.demo.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 느린 클라이언트 강제 종료 집계 테스트
+ * 전송 버퍼 크기나 전송 시간 제한을 실제로 넘긴 경우만 한 번 세고,
+ * 같은 SESSION_NOT_RELIABLE 코드로 닫히는 다른 종료는 세지 않는지 확인합니다.
+ */
+class SlowConsumerEvictingWebSocketHandlerTest {
+
+    private MeterRegistry meterRegistry;
+    private SlowConsumerEvictingWebSocketHandler handler;
+    private ExecutorService sender;
+
+    // 첫 전송이 이 신호를 받을 때까지 끝나지 않음 (느린 클라이언트)
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new SlowConsumerEvictingWebSocketHandler(mock(MessageChannel.class),
+                mock(SubscribableChannel.class), meterRegistry);
+        handler.setDefaultProtocolHandler(new StompSubProtocolHandler());
+        sender = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSend.countDown();
+        sender.shutdownNow();
+    }
+
+    @Test
+    void bufferOverflowIsCountedOnce() throws Exception {
+        handler.setSendBufferSizeLimit(10);
+        handler.setSendTimeLimit(60_000);
+        WebSocketSession session = handler.decorateSession(slowSession());
+
+        Future<?> blocked = startBlockedSend(session);
+
+        assertThatThrownBy(() -> session.sendMessage(new TextMessage("01234567890123456789")))
+                .isInstanceOf(SessionLimitExceededException.class);
+        // 제한을 넘긴 뒤의 전송은 버려지고 다시 세지 않음
+        session.sendMessage(new TextMessage("01234567890123456789"));
+        assertThat(evicted()).isEqualTo(1);
+
+        releaseSend.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void sendTimeLimitIsCounted() throws Exception {
+        handler.setSendBufferSizeLimit(1024 * 1024);
+        handler.setSendTimeLimit(50);
+        WebSocketSession session = handler.decorateSession(slowSession());
+
+        startBlockedSend(session);
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> session.sendMessage(new TextMessage("late")))
+                .isInstanceOf(SessionLimitExceededException.class);
+        assertThat(evicted()).isEqualTo(1);
+    }
+
+    @Test
+    void otherClosesWithSameStatusAreNotCounted() throws Exception {
+        WebSocketSession session = handler.decorateSession(slowSession());
+
+        // CONNECT 대기 시간 초과, 클라이언트가 보낸 종료 코드 등
+        session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertThat(evicted()).isZero();
+    }
+
+    private Future<?> startBlockedSend(WebSocketSession session) throws InterruptedException {
+        Future<?> blocked = sender.submit(() -> {
+            session.sendMessage(new TextMessage("first"));
+            return null;
+        });
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        return blocked;
+    }
+
+    private WebSocketSession slowSession() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("slow");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            sendStarted.countDown();
+            releaseSend.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any(WebSocketMessage.class));
+        return session;
+    }
+
+    private double evicted() {
+        return meterRegistry.get("websocket.sessions.evicted").counter().count();
+    }
+}
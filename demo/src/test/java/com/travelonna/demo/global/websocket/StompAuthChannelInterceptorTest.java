@@ -0,0 +1,93 @@
+package com.travelonna.demo.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.travelonna.demo.domain.group.service.GroupService;
+import com.travelonna.demo.global.security.jwt.JwtTokenProvider;
+import com.travelonna.demo.global.security.jwt.JwtUserDetails;
+
+/**
+ * STOMP 인증/인가 인터셉터 테스트
+ * 그룹 일정 목적지는 그룹 멤버에게만 허용하고, 그 밖의 목적지와 와일드카드 목적지는 거부하는지 확인합니다.
+ */
+class StompAuthChannelInterceptorTest {
+
+    private static final Integer USER_ID = 3;
+    private static final String GROUP_URL = "member-group";
+
+    private GroupService groupService;
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        groupService = mock(GroupService.class);
+        when(groupService.isMember(USER_ID, GROUP_URL)).thenReturn(true);
+        interceptor = new StompAuthChannelInterceptor(mock(JwtTokenProvider.class), groupService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/topic/plan/" + GROUP_URL,
+            "/app/plan/" + GROUP_URL,
+            "/app/plan/" + GROUP_URL + "/replay/10"
+    })
+    void memberMayUseGroupDestinations(String destination) {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, destination);
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void nonMemberIsRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/app/plan/other-group"), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/topic/plan.*",
+            "/topic/plan/*",
+            "/topic/plan/#",
+            "/topic/plan/{groupUrl}",
+            "/topic/other",
+            "/topic/plan",
+            "/app/other/" + GROUP_URL,
+            "/queue/anything",
+            "/user/queue/errors"
+    })
+    void destinationsOutsideGroupPatternAreDenied(String destination) {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, destination), null))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(groupService, never()).isMember(any(), anyString());
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setDestination(destination);
+        JwtUserDetails userDetails = new JwtUserDetails("member@example.com", USER_ID);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}